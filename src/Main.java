@@ -1,10 +1,190 @@
+import historial.RegistroManos;
+import juego.Blackjack;
+import juego.ConsolaEstandar;
+import juego.Simulador;
+import juego.Turno;
+import modelo.EstrategiaBasica;
+import modelo.ProductorZapatos;
+import persistencia.AlmacenEstadisticas;
+import servidor.ServidorBlackjack;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.SplittableRandom;
+import java.util.random.RandomGeneratorFactory;
+
 /**
  * Punto de entrada de la aplicación.
+ *
+ * Modos:
+ * - Sin argumentos: juego por consola con un asiento.
+ * - {@code mesa <asientos>}: juego por consola con bots en los demás
+ *   asientos (1 a 7).
+ * - {@code simular [rondas] [asientos] [directorio]}: simulación Monte Carlo
+ *   sin interfaz; si se indica el directorio, guarda allí las manos.
+ * - {@code servidor [puerto] [directorio]}: atiende mesas por TCP local; si
+ *   se indica el directorio, guarda allí las estadísticas de los jugadores
+ *   para que sobrevivan a un reinicio.
+ *
+ * Opciones de {@code simular}, en cualquier posición:
+ * - {@code semilla=N}: semilla del generador maestro, para repetir la
+ *   simulación exactamente.
+ * - {@code generador=NOMBRE}: algoritmo del generador maestro, divisible
+ *   (por ejemplo {@code L64X128MixRandom}) o saltable (por ejemplo
+ *   {@code Xoshiro256PlusPlus}).
  */
 public class Main {
+
+    private static final long RONDAS_POR_DEFECTO = 1_000_000;
+
     public static void main(String[] args) {
+        if (args.length > 0 && args[0].equalsIgnoreCase("simular")) {
+            simular(args);
+            return;
+        }
+        if (args.length > 0 && args[0].equalsIgnoreCase("servidor")) {
+            servir(args);
+            return;
+        }
+
         // Crear e iniciar el juego de Blackjack
-        juego.Blackjack blackjack = new juego.Blackjack();
+        int asientos = 1;
+        if (args.length > 1 && args[0].equalsIgnoreCase("mesa")) {
+            asientos = leerAsientos(args[1]);
+        }
+        Blackjack blackjack = new Blackjack(new ConsolaEstandar(), asientos);
+        // Una sola mesa: basta con un par de zapatos mezclados en espera
+        ProductorZapatos productor = new ProductorZapatos(Blackjack.NUMERO_BARAJAS, 2, new SplittableRandom());
+        productor.iniciar();
+        blackjack.setProductorZapatos(productor);
         blackjack.iniciar();
+        productor.cerrar();
     }
-}
\ No newline at end of file
+
+    private static void simular(String[] todos) {
+        // Las opciones semilla=N y generador=NOMBRE pueden ir en cualquier posición
+        Long semilla = null;
+        String algoritmo = null;
+        int posicionales = 0;
+        String[] posicionalesLeidos = new String[todos.length];
+        for (String arg : todos) {
+            if (arg.startsWith("semilla=")) {
+                try {
+                    semilla = Long.parseLong(arg.substring("semilla=".length()).replace("_", ""));
+                } catch (NumberFormatException e) {
+                    System.out.println("Semilla no válida, se ignora: " + arg);
+                }
+            } else if (arg.startsWith("generador=")) {
+                algoritmo = arg.substring("generador=".length());
+            } else {
+                posicionalesLeidos[posicionales++] = arg;
+            }
+        }
+        String[] args = new String[posicionales];
+        System.arraycopy(posicionalesLeidos, 0, args, 0, posicionales);
+
+        long rondas = RONDAS_POR_DEFECTO;
+        if (args.length > 1) {
+            try {
+                rondas = Long.parseLong(args[1].replace("_", ""));
+            } catch (NumberFormatException e) {
+                System.out.println("Número de rondas no válido, se usan " + RONDAS_POR_DEFECTO);
+            }
+        }
+
+        int asientos = args.length > 2 ? leerAsientos(args[2]) : 1;
+
+        Simulador simulador = new Simulador(new EstrategiaBasica(), asientos);
+        if (semilla != null || algoritmo != null) {
+            long semillaMaestra = semilla != null ? semilla : System.nanoTime();
+            if (algoritmo == null) {
+                simulador.setSemilla(semillaMaestra);
+            } else {
+                try {
+                    simulador.setGeneradorMaestro(
+                            RandomGeneratorFactory.of(algoritmo).create(semillaMaestra));
+                } catch (IllegalArgumentException e) {
+                    System.out.println("Generador no válido (" + algoritmo + "): debe ser divisible o saltable, "
+                            + "por ejemplo L64X128MixRandom o Xoshiro256PlusPlus");
+                    return;
+                }
+            }
+            System.out.println("Semilla de la simulación: " + semillaMaestra);
+        }
+        RegistroManos registro = null;
+        if (args.length > 3) {
+            try {
+                registro = new RegistroManos(Paths.get(args[3]));
+                simulador.setHistorial(registro);
+            } catch (IOException e) {
+                System.out.println("No se pudo abrir el historial, se simula sin guardar: " + e.getMessage());
+            }
+        }
+        System.out.println("Simulando " + rondas + " rondas de " + asientos + " asientos en "
+                + Runtime.getRuntime().availableProcessors() + " núcleos...");
+        System.out.println(simulador.simular(rondas));
+
+        if (registro != null) {
+            try {
+                registro.cerrar();
+                System.out.println(registro);
+            } catch (IOException e) {
+                System.out.println("Error al cerrar el historial: " + e.getMessage());
+            }
+        }
+    }
+
+    private static int leerAsientos(String texto) {
+        try {
+            int asientos = Integer.parseInt(texto);
+            if (asientos >= 1 && asientos <= Turno.MAX_ASIENTOS) {
+                return asientos;
+            }
+        } catch (NumberFormatException e) {
+            // Se informa abajo
+        }
+        System.out.println("Número de asientos no válido (1-" + Turno.MAX_ASIENTOS + "), se usa 1");
+        return 1;
+    }
+
+    private static void servir(String[] args) {
+        int puerto = ServidorBlackjack.PUERTO_POR_DEFECTO;
+        if (args.length > 1) {
+            try {
+                puerto = Integer.parseInt(args[1]);
+            } catch (NumberFormatException e) {
+                System.out.println("Puerto no válido, se usa " + puerto);
+            }
+        }
+
+        ServidorBlackjack servidorMesas = new ServidorBlackjack(puerto, ServidorBlackjack.TIEMPO_ESPERA_POR_DEFECTO_MS,
+                ServidorBlackjack.MAX_MESAS_POR_DEFECTO);
+        AlmacenEstadisticas estadisticas = null;
+        if (args.length > 2) {
+            try {
+                estadisticas = new AlmacenEstadisticas(Paths.get(args[2]));
+                servidorMesas.setEstadisticas(estadisticas);
+            } catch (IOException e) {
+                System.out.println("No se pudieron cargar las estadísticas, no se guardarán: " + e.getMessage());
+            }
+        }
+        AlmacenEstadisticas almacen = estadisticas;
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            servidorMesas.detener();
+            System.out.println(servidorMesas);
+            if (almacen != null) {
+                try {
+                    almacen.cerrar();
+                    System.out.println(almacen);
+                } catch (IOException e) {
+                    System.out.println("Error al cerrar las estadísticas: " + e.getMessage());
+                }
+            }
+        }));
+        try {
+            servidorMesas.iniciar();
+        } catch (IOException e) {
+            System.out.println("No se pudo iniciar el servidor: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,335 @@
+package benchmark;
+
+import estructuras.ArbolBinario;
+import estructuras.Cola;
+import estructuras.ListaEnlazada;
+import estructuras.Pila;
+import estructuras.TablaHash;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+/**
+ * Suite de referencia del paquete estructuras: ListaEnlazada, Pila, Cola,
+ * TablaHash y ArbolBinario frente a sus equivalentes del JDK, en varios
+ * tamaños, con tiempo y bytes asignados por elemento.
+ *
+ * Operaciones medidas (las que ofrece cada estructura):
+ * - llenar: insertar n elementos en una estructura nueva.
+ * - llenar + vaciar: lo anterior y extraerlos todos; el coste de vaciar es
+ *   la diferencia entre ambas filas.
+ * - buscar: consultas sobre una estructura ya llena (por índice aleatorio en
+ *   listas, la cima o el frente en pila y cola, por clave en tablas).
+ * - recorrer: visitar todos los elementos de una estructura ya llena.
+ *
+ * Los valores se crean antes de medir para no contar su asignación. Pensado
+ * para comparar antes y después de cambiar una estructura: ejecutar con la
+ * misma JVM y opciones en ambas versiones.
+ *
+ * Uso: java benchmark.BenchmarkEstructuras [tamaños...]
+ */
+public class BenchmarkEstructuras {
+
+    private static final int[] TAMAÑOS = { 100, 10_000, 100_000 };
+    private static final int ELEMENTOS_POR_MEDICION = 1_000_000;
+    private static final int ACCESOS_POR_INDICE = 100;
+
+    public static void main(String[] args) {
+        int[] tamaños = TAMAÑOS;
+        if (args.length > 0) {
+            tamaños = new int[args.length];
+            for (int i = 0; i < args.length; i++) {
+                tamaños[i] = Integer.parseInt(args[i].replace("_", ""));
+            }
+        }
+
+        System.out.println("Valores por elemento (ns y bytes asignados en el heap)");
+        for (int n : tamaños) {
+            System.out.println("\n--- " + n + " elementos ---");
+            Integer[] valores = new Integer[n];
+            String[] claves = new String[n];
+            int[] indices = new int[ACCESOS_POR_INDICE];
+            Random random = new Random(42);
+            for (int i = 0; i < n; i++) {
+                valores[i] = i;
+                claves[i] = "Jugador-" + i;
+            }
+            for (int i = 0; i < indices.length; i++) {
+                indices[i] = random.nextInt(n);
+            }
+
+            medirListas(n, valores, indices);
+            medirPilas(n, valores);
+            medirColas(n, valores);
+            medirTablas(n, valores, claves);
+        }
+        medirArbol();
+    }
+
+    private static void medirListas(int n, Integer[] valores, int[] indices) {
+        medir("ListaEnlazada: llenar", n, () -> llenar(new ListaEnlazada<>(), valores).tamaño());
+        medir("LinkedList: llenar", n, () -> llenar(new LinkedList<>(), valores).size());
+        medir("ArrayList: llenar", n, () -> llenar(new ArrayList<>(), valores).size());
+        medir("ListaEnlazada: llenar + vaciar", n, () -> vaciar(llenar(new ListaEnlazada<>(), valores)));
+        medir("LinkedList: llenar + vaciar", n, () -> vaciar(llenar(new LinkedList<>(), valores)));
+
+        ListaEnlazada<Integer> lista = llenar(new ListaEnlazada<>(), valores);
+        LinkedList<Integer> linkedList = llenar(new LinkedList<>(), valores);
+        ArrayList<Integer> arrayList = llenar(new ArrayList<>(), valores);
+        // Las listas enlazadas recorren n/2 nodos por acceso: se repite menos
+        int trabajoEnlazado = indices.length * Math.max(1, n / 2);
+        medir("ListaEnlazada: buscar por índice", indices.length, trabajoEnlazado, () -> {
+            long suma = 0;
+            for (int indice : indices) {
+                suma += lista.obtenerElemento(indice);
+            }
+            return suma;
+        });
+        medir("LinkedList: buscar por índice", indices.length, trabajoEnlazado, () -> {
+            long suma = 0;
+            for (int indice : indices) {
+                suma += linkedList.get(indice);
+            }
+            return suma;
+        });
+        medir("ArrayList: buscar por índice", indices.length, () -> {
+            long suma = 0;
+            for (int indice : indices) {
+                suma += arrayList.get(indice);
+            }
+            return suma;
+        });
+        medir("ListaEnlazada: recorrer", n, () -> sumar(lista));
+        medir("LinkedList: recorrer", n, () -> sumar(linkedList));
+        medir("ArrayList: recorrer", n, () -> sumar(arrayList));
+    }
+
+    private static void medirPilas(int n, Integer[] valores) {
+        medir("Pila: llenar", n, () -> apilar(new Pila<>(), valores).tamaño());
+        medir("ArrayDeque (pila): llenar", n, () -> apilar(new ArrayDeque<>(), valores).size());
+        medir("Pila: llenar + vaciar", n, () -> {
+            Pila<Integer> pila = apilar(new Pila<>(), valores);
+            long suma = 0;
+            while (!pila.estaVacia()) {
+                suma += pila.desapilar();
+            }
+            return suma;
+        });
+        medir("ArrayDeque (pila): llenar + vaciar", n, () -> {
+            ArrayDeque<Integer> pila = apilar(new ArrayDeque<>(), valores);
+            long suma = 0;
+            while (!pila.isEmpty()) {
+                suma += pila.pop();
+            }
+            return suma;
+        });
+
+        Pila<Integer> pila = apilar(new Pila<>(), valores);
+        ArrayDeque<Integer> deque = apilar(new ArrayDeque<>(), valores);
+        medir("Pila: ver cima", 1, () -> pila.verCima());
+        medir("ArrayDeque (pila): ver cima", 1, () -> deque.peek());
+        Integer[] copia = new Integer[n];
+        medir("Pila: recorrer (copiarDesdeBase)", n, () -> {
+            pila.copiarDesdeBase(copia);
+            long suma = 0;
+            for (Integer valor : copia) {
+                suma += valor;
+            }
+            return suma;
+        });
+        medir("ArrayDeque (pila): recorrer", n, () -> sumar(deque));
+    }
+
+    private static void medirColas(int n, Integer[] valores) {
+        medir("Cola: llenar", n, () -> encolar(new Cola<>(), valores).tamaño());
+        medir("ArrayDeque (cola): llenar", n, () -> encolar(new ArrayDeque<>(), valores).size());
+        medir("Cola: llenar + vaciar", n, () -> {
+            Cola<Integer> cola = encolar(new Cola<>(), valores);
+            long suma = 0;
+            while (!cola.estaVacia()) {
+                suma += cola.desencolar();
+            }
+            return suma;
+        });
+        medir("ArrayDeque (cola): llenar + vaciar", n, () -> {
+            ArrayDeque<Integer> cola = encolar(new ArrayDeque<>(), valores);
+            long suma = 0;
+            while (!cola.isEmpty()) {
+                suma += cola.poll();
+            }
+            return suma;
+        });
+
+        Cola<Integer> cola = encolar(new Cola<>(), valores);
+        ArrayDeque<Integer> deque = encolar(new ArrayDeque<>(), valores);
+        medir("Cola: ver frente", 1, () -> cola.verFrente());
+        medir("ArrayDeque (cola): ver frente", 1, () -> deque.peekFirst());
+    }
+
+    private static void medirTablas(int n, Integer[] valores, String[] claves) {
+        medir("TablaHash: llenar", n, () -> insertar(new TablaHash<>(), claves, valores).tamaño());
+        medir("HashMap: llenar", n, () -> insertar(new HashMap<>(), claves, valores).size());
+        medir("TablaHash: llenar + vaciar", n, () -> {
+            TablaHash<String, Integer> tabla = insertar(new TablaHash<>(), claves, valores);
+            long suma = 0;
+            for (String clave : claves) {
+                suma += tabla.eliminar(clave);
+            }
+            return suma;
+        });
+        medir("HashMap: llenar + vaciar", n, () -> {
+            HashMap<String, Integer> tabla = insertar(new HashMap<>(), claves, valores);
+            long suma = 0;
+            for (String clave : claves) {
+                suma += tabla.remove(clave);
+            }
+            return suma;
+        });
+
+        TablaHash<String, Integer> tabla = insertar(new TablaHash<>(), claves, valores);
+        HashMap<String, Integer> mapa = insertar(new HashMap<>(), claves, valores);
+        medir("TablaHash: buscar", n, () -> {
+            long suma = 0;
+            for (String clave : claves) {
+                suma += tabla.obtener(clave);
+            }
+            return suma;
+        });
+        medir("HashMap: buscar", n, () -> {
+            long suma = 0;
+            for (String clave : claves) {
+                suma += mapa.get(clave);
+            }
+            return suma;
+        });
+    }
+
+    /**
+     * El árbol de decisión es fijo (no admite inserciones ni recorridos): se
+     * mide la decisión para cada puntaje frente a un TreeMap de umbrales.
+     */
+    private static void medirArbol() {
+        System.out.println("\n--- ArbolBinario (decisión por puntaje, 2..30) ---");
+        ArbolBinario<String> arbol = new ArbolBinario<>();
+        arbol.setRegistrarDecisiones(false);
+        TreeMap<Integer, String> umbrales = new TreeMap<>();
+        umbrales.put(0, "Pedir carta");
+        umbrales.put(17, "Plantarse");
+
+        medir("ArbolBinario: tomar decisión", 29, () -> {
+            long suma = 0;
+            for (int puntaje = 2; puntaje <= 30; puntaje++) {
+                suma += arbol.tomarDecision(puntaje).getDato().length();
+            }
+            return suma;
+        });
+        medir("TreeMap: floorEntry", 29, () -> {
+            long suma = 0;
+            for (int puntaje = 2; puntaje <= 30; puntaje++) {
+                suma += umbrales.floorEntry(puntaje).getValue().length();
+            }
+            return suma;
+        });
+    }
+
+    private static void medir(String nombre, int elementos, Medidor.Operacion operacion) {
+        medir(nombre, elementos, elementos, operacion);
+    }
+
+    /**
+     * Mide una operación que procesa el número de elementos indicado y
+     * escribe el tiempo y los bytes por elemento. Las repeticiones se ajustan
+     * al trabajo de cada operación para que todas las filas duren parecido.
+     */
+    private static void medir(String nombre, int elementos, int trabajo, Medidor.Operacion operacion) {
+        int repeticiones = Math.max(1, ELEMENTOS_POR_MEDICION / trabajo);
+        double nanos = Medidor.medir(repeticiones, operacion);
+        double bytes = Medidor.medirAsignacion(repeticiones, operacion);
+        Medidor.imprimir(nombre, nanos / elementos, bytes < 0 ? bytes : bytes / elementos);
+    }
+
+    private static <L extends ListaEnlazada<Integer>> L llenar(L lista, Integer[] valores) {
+        for (Integer valor : valores) {
+            lista.agregar(valor);
+        }
+        return lista;
+    }
+
+    private static <L extends java.util.List<Integer>> L llenar(L lista, Integer[] valores) {
+        for (Integer valor : valores) {
+            lista.add(valor);
+        }
+        return lista;
+    }
+
+    private static long vaciar(ListaEnlazada<Integer> lista) {
+        long suma = 0;
+        while (!lista.estaVacia()) {
+            suma += lista.eliminarPrimero();
+        }
+        return suma;
+    }
+
+    private static long vaciar(LinkedList<Integer> lista) {
+        long suma = 0;
+        while (!lista.isEmpty()) {
+            suma += lista.removeFirst();
+        }
+        return suma;
+    }
+
+    private static long sumar(Iterable<Integer> elementos) {
+        long suma = 0;
+        for (int valor : elementos) {
+            suma += valor;
+        }
+        return suma;
+    }
+
+    private static Pila<Integer> apilar(Pila<Integer> pila, Integer[] valores) {
+        for (Integer valor : valores) {
+            pila.apilar(valor);
+        }
+        return pila;
+    }
+
+    private static ArrayDeque<Integer> apilar(ArrayDeque<Integer> pila, Integer[] valores) {
+        for (Integer valor : valores) {
+            pila.push(valor);
+        }
+        return pila;
+    }
+
+    private static Cola<Integer> encolar(Cola<Integer> cola, Integer[] valores) {
+        for (Integer valor : valores) {
+            cola.encolar(valor);
+        }
+        return cola;
+    }
+
+    private static ArrayDeque<Integer> encolar(ArrayDeque<Integer> cola, Integer[] valores) {
+        for (Integer valor : valores) {
+            cola.offer(valor);
+        }
+        return cola;
+    }
+
+    private static <T extends TablaHash<String, Integer>> T insertar(T tabla, String[] claves, Integer[] valores) {
+        for (int i = 0; i < claves.length; i++) {
+            tabla.insertar(claves[i], valores[i]);
+        }
+        return tabla;
+    }
+
+    private static <T extends Map<String, Integer>> T insertar(T tabla, String[] claves, Integer[] valores) {
+        for (int i = 0; i < claves.length; i++) {
+            tabla.put(claves[i], valores[i]);
+        }
+        return tabla;
+    }
+}
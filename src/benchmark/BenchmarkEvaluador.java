@@ -0,0 +1,87 @@
+package benchmark;
+
+import modelo.Carta;
+import modelo.EvaluadorManos;
+import modelo.Jugador;
+import modelo.LoteManos;
+
+import java.util.SplittableRandom;
+
+/**
+ * Benchmark de la evaluación de manos por lotes: compara consultar cada
+ * {@link Jugador} (calcularPuntaje, esSuave, sePaso y tieneBlackjack) con el
+ * {@link EvaluadorManos} escalar y el vectorial sobre un {@link LoteManos}.
+ *
+ * Antes de medir comprueba que los tres coinciden mano a mano y termina con
+ * código 1 si no. Para medir la versión vectorial hay que ejecutarlo con
+ * {@code --add-modules jdk.incubator.vector}; sin el módulo se mide la
+ * escalar dos veces.
+ *
+ * Uso: java --add-modules jdk.incubator.vector benchmark.BenchmarkEvaluador [manos]
+ */
+public class BenchmarkEvaluador {
+
+    private static final int MANOS_POR_DEFECTO = 10_000;
+
+    public static void main(String[] args) {
+        int manos = args.length > 0 ? Integer.parseInt(args[0].replace("_", "")) : MANOS_POR_DEFECTO;
+        if (manos < 1) {
+            throw new IllegalArgumentException("El número de manos debe ser positivo: " + manos);
+        }
+
+        // Manos de 2 a 6 cartas al azar, como las de una simulación
+        SplittableRandom random = new SplittableRandom(21);
+        Jugador[] jugadores = new Jugador[manos];
+        LoteManos lote = new LoteManos(manos);
+        for (int i = 0; i < manos; i++) {
+            jugadores[i] = new Jugador("J" + i);
+            int cartas = 2 + random.nextInt(5);
+            for (int c = 0; c < cartas; c++) {
+                jugadores[i].recibirCarta(Carta.obtener(random.nextInt(Carta.TOTAL_CARTAS)));
+            }
+            lote.agregar(jugadores[i]);
+        }
+
+        EvaluadorManos escalar = EvaluadorManos.escalar();
+        EvaluadorManos vectorial = EvaluadorManos.crear();
+        System.out.println(vectorial);
+        if (!coincide(escalar, lote, jugadores) || !coincide(vectorial, lote, jugadores)) {
+            System.exit(1);
+        }
+
+        // Lotes pequeños necesitan más repeticiones para que el JIT compile los intrínsecos
+        int repeticiones = Math.max(100, 1_000_000 / manos);
+        System.out.println("--- " + manos + " manos (tiempo por mano) ---");
+        Medidor.imprimir("Jugador: puntaje, suave, pasado, Blackjack", Medidor.medir(repeticiones, () -> {
+            long total = 0;
+            for (Jugador jugador : jugadores) {
+                total += jugador.calcularPuntaje();
+                total += jugador.esSuave() ? 1 : 0;
+                total += jugador.sePaso() ? 2 : 0;
+                total += jugador.tieneBlackjack() ? 4 : 0;
+            }
+            return total;
+        }) / manos);
+        Medidor.imprimir("EvaluadorManos escalar", Medidor.medir(repeticiones, () -> {
+            escalar.evaluar(lote);
+            return lote.getPuntaje(manos - 1);
+        }) / manos);
+        Medidor.imprimir(vectorial + "", Medidor.medir(repeticiones, () -> {
+            vectorial.evaluar(lote);
+            return lote.getPuntaje(manos - 1);
+        }) / manos);
+    }
+
+    private static boolean coincide(EvaluadorManos evaluador, LoteManos lote, Jugador[] jugadores) {
+        evaluador.evaluar(lote);
+        for (int i = 0; i < jugadores.length; i++) {
+            Jugador jugador = jugadores[i];
+            if (lote.getPuntaje(i) != jugador.calcularPuntaje() || lote.esSuave(i) != jugador.esSuave()
+                    || lote.sePaso(i) != jugador.sePaso() || lote.tieneBlackjack(i) != jugador.tieneBlackjack()) {
+                System.out.println(evaluador + " no coincide en la mano " + i + ": " + jugador);
+                return false;
+            }
+        }
+        return true;
+    }
+}
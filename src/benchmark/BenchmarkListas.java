@@ -0,0 +1,139 @@
+package benchmark;
+
+import estructuras.Lista;
+import estructuras.ListaArreglo;
+import estructuras.ListaEnlazada;
+
+/**
+ * Compara ListaEnlazada (con puntero al último nodo) y ListaArreglo contra
+ * la lista original, que recorría toda la lista en cada inserción y en cada
+ * acceso por índice.
+ *
+ * Uso: java benchmark.BenchmarkListas
+ */
+public class BenchmarkListas {
+
+    private static final int[] TAMAÑOS = { 10, 100, 1_000, 10_000 };
+
+    public static void main(String[] args) {
+        for (int n : TAMAÑOS) {
+            int repeticiones = Math.max(1, 200_000 / n);
+            System.out.println("\n--- " + n + " elementos ---");
+
+            Medidor.imprimir("Original: agregar + vaciar",
+                    Medidor.medir(n >= 10_000 ? 1 : repeticiones, () -> llenarYVaciarOriginal(n)));
+            Medidor.imprimir("ListaEnlazada: agregar + vaciar",
+                    Medidor.medir(repeticiones, () -> llenarYVaciar(new ListaEnlazada<>(), n)));
+            Medidor.imprimir("ListaArreglo: agregar + vaciar",
+                    Medidor.medir(repeticiones, () -> llenarYVaciar(new ListaArreglo<>(), n)));
+
+            ListaOriginal<Integer> original = new ListaOriginal<>();
+            ListaEnlazada<Integer> enlazada = new ListaEnlazada<>();
+            ListaArreglo<Integer> arreglo = new ListaArreglo<>();
+            for (int i = 0; i < n; i++) {
+                original.agregar(i);
+                enlazada.agregar(i);
+                arreglo.agregar(i);
+            }
+
+            Medidor.imprimir("Original: recorrido por índice",
+                    Medidor.medir(n >= 10_000 ? 1 : repeticiones, () -> recorrerOriginal(original)));
+            Medidor.imprimir("ListaEnlazada: recorrido por índice",
+                    Medidor.medir(n >= 10_000 ? 1 : repeticiones, () -> recorrerPorIndice(enlazada)));
+            Medidor.imprimir("ListaArreglo: recorrido por índice",
+                    Medidor.medir(repeticiones, () -> recorrerPorIndice(arreglo)));
+            Medidor.imprimir("ListaEnlazada: recorrido con iterador",
+                    Medidor.medir(repeticiones, () -> recorrerIterador(enlazada)));
+            Medidor.imprimir("ListaArreglo: recorrido con iterador",
+                    Medidor.medir(repeticiones, () -> recorrerIterador(arreglo)));
+        }
+    }
+
+    private static long llenarYVaciar(Lista<Integer> lista, int n) {
+        for (int i = 0; i < n; i++) {
+            lista.agregar(i);
+        }
+        long suma = 0;
+        while (!lista.estaVacia()) {
+            suma += lista.eliminarPrimero();
+        }
+        return suma;
+    }
+
+    private static long llenarYVaciarOriginal(int n) {
+        ListaOriginal<Integer> lista = new ListaOriginal<>();
+        for (int i = 0; i < n; i++) {
+            lista.agregar(i);
+        }
+        long suma = 0;
+        while (lista.cabeza != null) {
+            suma += lista.cabeza.dato;
+            lista.cabeza = lista.cabeza.siguiente;
+        }
+        return suma;
+    }
+
+    private static long recorrerPorIndice(Lista<Integer> lista) {
+        long suma = 0;
+        for (int i = 0; i < lista.tamaño(); i++) {
+            suma += lista.obtenerElemento(i);
+        }
+        return suma;
+    }
+
+    private static long recorrerIterador(Lista<Integer> lista) {
+        long suma = 0;
+        for (int valor : lista) {
+            suma += valor;
+        }
+        return suma;
+    }
+
+    private static long recorrerOriginal(ListaOriginal<Integer> lista) {
+        long suma = 0;
+        for (int i = 0; i < lista.tamaño; i++) {
+            suma += lista.obtenerElemento(i);
+        }
+        return suma;
+    }
+
+    /**
+     * Réplica de la lista original como línea base: inserción O(n) y acceso
+     * por índice O(n).
+     */
+    private static class ListaOriginal<T> {
+        private Nodo<T> cabeza;
+        private int tamaño;
+
+        private static class Nodo<T> {
+            private final T dato;
+            private Nodo<T> siguiente;
+
+            Nodo(T dato) {
+                this.dato = dato;
+            }
+        }
+
+        void agregar(T dato) {
+            Nodo<T> nuevoNodo = new Nodo<>(dato);
+            if (cabeza == null) {
+                cabeza = nuevoNodo;
+            } else {
+                Nodo<T> actual = cabeza;
+                while (actual.siguiente != null) {
+                    actual = actual.siguiente;
+                }
+                actual.siguiente = nuevoNodo;
+            }
+            tamaño++;
+        }
+
+        T obtenerElemento(int indice) {
+            Nodo<T> actual = cabeza;
+            for (int i = 0; i < indice; i++) {
+                actual = actual.siguiente;
+            }
+            return actual.dato;
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package benchmark;
+
+import estructuras.Pila;
+import estructuras.PilaConcurrente;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Prueba de estrés y benchmark de contención de PilaConcurrente.
+ *
+ * 1. Estrés: varios hilos apilan y desapilan valores únicos a la vez; al
+ *    final se comprueba que cada valor salió exactamente una vez y que el
+ *    tamaño vuelve a cero.
+ * 2. Contención: pares apilar/desapilar por segundo con 1..N hilos, frente a
+ *    una Pila protegida con synchronized.
+ *
+ * Uso: java benchmark.BenchmarkPilaConcurrente
+ */
+public class BenchmarkPilaConcurrente {
+
+    private static final int VALORES_POR_HILO = 200_000;
+    private static final int OPERACIONES_POR_HILO = 2_000_000;
+
+    public static void main(String[] args) throws InterruptedException {
+        int maxHilos = Math.max(4, Runtime.getRuntime().availableProcessors());
+
+        pruebaEstres(maxHilos);
+
+        System.out.println("\n--- Contención: pares apilar/desapilar ---");
+        for (int hilos = 1; hilos <= maxHilos; hilos *= 2) {
+            PilaConcurrente<Integer> concurrente = new PilaConcurrente<>();
+            double sinBloqueo = medirContencion(hilos, () -> {
+                concurrente.apilar(1);
+                concurrente.desapilar();
+            });
+
+            Pila<Integer> pila = new Pila<>();
+            double conBloqueo = medirContencion(hilos, () -> {
+                synchronized (pila) {
+                    pila.apilar(1);
+                    pila.desapilar();
+                }
+            });
+
+            System.out.println(String.format("%2d hilos: PilaConcurrente %,14.0f ops/s | Pila synchronized %,14.0f ops/s",
+                    hilos, sinBloqueo, conBloqueo));
+        }
+    }
+
+    /**
+     * Cada hilo apila sus valores y desapila otros tantos; después se vacía la
+     * pila y se verifica que no se perdió ni duplicó ningún valor.
+     */
+    private static void pruebaEstres(int hilos) throws InterruptedException {
+        PilaConcurrente<Integer> pila = new PilaConcurrente<>();
+        int total = hilos * VALORES_POR_HILO;
+        AtomicIntegerArray vistos = new AtomicIntegerArray(total);
+
+        Thread[] trabajadores = new Thread[hilos];
+        for (int h = 0; h < hilos; h++) {
+            int base = h * VALORES_POR_HILO;
+            trabajadores[h] = new Thread(() -> {
+                for (int i = 0; i < VALORES_POR_HILO; i++) {
+                    pila.apilar(base + i);
+                    if ((i & 1) == 1) {
+                        Integer valor = pila.desapilar();
+                        if (valor != null) {
+                            vistos.incrementAndGet(valor);
+                        }
+                    }
+                }
+            });
+            trabajadores[h].start();
+        }
+        for (Thread trabajador : trabajadores) {
+            trabajador.join();
+        }
+
+        Integer valor;
+        while ((valor = pila.desapilar()) != null) {
+            vistos.incrementAndGet(valor);
+        }
+
+        int errores = 0;
+        for (int i = 0; i < total; i++) {
+            if (vistos.get(i) != 1) {
+                errores++;
+            }
+        }
+        if (errores > 0 || pila.tamaño() != 0) {
+            throw new IllegalStateException(String.format(
+                    "Prueba de estrés fallida: %d valores perdidos o duplicados, tamaño final %d",
+                    errores, pila.tamaño()));
+        }
+        System.out.println(String.format("Prueba de estrés correcta: %,d valores con %d hilos", total, hilos));
+    }
+
+    private static double medirContencion(int hilos, Runnable par) throws InterruptedException {
+        CountDownLatch salida = new CountDownLatch(1);
+        Thread[] trabajadores = new Thread[hilos];
+        for (int h = 0; h < hilos; h++) {
+            trabajadores[h] = new Thread(() -> {
+                try {
+                    salida.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < OPERACIONES_POR_HILO; i++) {
+                    par.run();
+                }
+            });
+            trabajadores[h].start();
+        }
+
+        long inicio = System.nanoTime();
+        salida.countDown();
+        for (Thread trabajador : trabajadores) {
+            trabajador.join();
+        }
+        long nanos = System.nanoTime() - inicio;
+        return (double) hilos * OPERACIONES_POR_HILO * 1_000_000_000.0 / nanos;
+    }
+}
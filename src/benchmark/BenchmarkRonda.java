@@ -0,0 +1,182 @@
+package benchmark;
+
+import juego.ResultadoRonda;
+import modelo.Baraja;
+import modelo.Carta;
+import modelo.Dealer;
+import modelo.EstrategiaBasica;
+import modelo.JugadorBot;
+import modelo.Mazo;
+import modelo.Zapato;
+import salida.SalidaNula;
+
+import java.util.Arrays;
+
+/**
+ * Benchmark de extremo a extremo de una ronda completa sin interfaz: mezclar,
+ * repartir, decisiones del jugador con calcularPuntaje(), turno del Dealer y
+ * determinación del ganador. Informa rondas por segundo, latencia por ronda
+ * (p50, p99, p99.9 y máxima) y bytes asignados por ronda.
+ *
+ * Escenarios:
+ * - Baraja nueva: cada ronda construye y mezcla una Baraja de 52 cartas y el
+ *   Dealer juega con jugarTurnoAutomatico() sobre SalidaNula (la ruta del
+ *   juego por consola, con el registro de decisiones).
+ * - Zapato reutilizado: un Zapato de 6 barajas que solo se mezcla en la carta
+ *   de corte y el turno silencioso del Dealer (la ruta del Simulador).
+ *
+ * Sirve de control de regresión del motor: con un mínimo de rondas por
+ * segundo como segundo argumento, termina con código 1 si el escenario de
+ * Baraja nueva no lo alcanza.
+ *
+ * Uso: java benchmark.BenchmarkRonda [rondas] [rondasPorSegundoMinimas]
+ */
+public class BenchmarkRonda {
+
+    private static final int RONDAS_POR_DEFECTO = 1_000_000;
+    private static final int RONDAS_ASIGNACION = 100_000;
+
+    /**
+     * Una mesa de un asiento que juega rondas completas.
+     */
+    private abstract static class Mesa implements Medidor.Operacion {
+        final JugadorBot jugador = new JugadorBot("Bot", new EstrategiaBasica());
+        final Dealer dealer = new Dealer();
+
+        abstract Mazo prepararMazo();
+
+        abstract void turnoDealer(Mazo mazo);
+
+        @Override
+        public long ejecutar() {
+            Mazo mazo = prepararMazo();
+            jugador.limpiarMano();
+            dealer.limpiarMano();
+            for (int i = 0; i < 2; i++) {
+                jugador.recibirCarta(mazo.robarCarta());
+                dealer.recibirCarta(mazo.robarCarta());
+            }
+
+            if (!jugador.tieneBlackjack() && !dealer.tieneBlackjack()) {
+                Carta visible = dealer.getMano().obtenerElemento(0);
+                while (jugador.debePedirCarta(visible)) {
+                    jugador.recibirCarta(mazo.robarCarta());
+                }
+                if (!jugador.sePaso()) {
+                    turnoDealer(mazo);
+                }
+            }
+            return ResultadoRonda.determinar(jugador, dealer).getPagoMedias();
+        }
+    }
+
+    private static class MesaBarajaNueva extends Mesa {
+        MesaBarajaNueva() {
+            dealer.setModoSilencioso(false);
+        }
+
+        @Override
+        Mazo prepararMazo() {
+            Baraja baraja = new Baraja();
+            baraja.mezclar();
+            return baraja;
+        }
+
+        @Override
+        void turnoDealer(Mazo mazo) {
+            dealer.jugarTurnoAutomatico(mazo, SalidaNula.INSTANCIA);
+        }
+    }
+
+    private static class MesaZapato extends Mesa {
+        private final Zapato zapato = new Zapato(6, 0.75);
+
+        @Override
+        Mazo prepararMazo() {
+            zapato.prepararRonda();
+            return zapato;
+        }
+
+        @Override
+        void turnoDealer(Mazo mazo) {
+            dealer.jugarTurnoSilencioso(mazo);
+        }
+    }
+
+    public static void main(String[] args) {
+        int rondas = args.length > 0 ? Integer.parseInt(args[0].replace("_", "")) : RONDAS_POR_DEFECTO;
+        double minimo = args.length > 1 ? Double.parseDouble(args[1].replace("_", "")) : 0;
+        if (rondas < 1) {
+            throw new IllegalArgumentException("El número de rondas debe ser positivo: " + rondas);
+        }
+
+        System.out.println("--- Fases ---");
+        Medidor.imprimir("Baraja: construir + mezclar", Medidor.medir(100_000, () -> {
+            Baraja baraja = new Baraja();
+            baraja.mezclar();
+            return baraja.cartasRestantes();
+        }));
+        JugadorBot mano = new JugadorBot("Bot", new EstrategiaBasica());
+        mano.recibirCarta(Carta.obtener(0));
+        mano.recibirCarta(Carta.obtener(5));
+        mano.recibirCarta(Carta.obtener(12));
+        Medidor.imprimir("Jugador.calcularPuntaje (3 cartas)", Medidor.medir(1_000_000, mano::calcularPuntaje));
+
+        double rondasPorSegundo = medirEscenario("Ronda completa, Baraja nueva", new MesaBarajaNueva(), rondas);
+        medirEscenario("Ronda completa, Zapato reutilizado", new MesaZapato(), rondas);
+
+        if (minimo > 0) {
+            boolean cumple = rondasPorSegundo >= minimo;
+            System.out.println(String.format("%nControl de regresión: %,.0f rondas/s (mínimo %,.0f): %s",
+                    rondasPorSegundo, minimo, cumple ? "OK" : "FALLA"));
+            if (!cumple) {
+                System.exit(1);
+            }
+        }
+    }
+
+    /**
+     * Mide un escenario e imprime su resumen. El rendimiento se cronometra
+     * en un bucle sin marcas de tiempo por ronda; las latencias se toman en
+     * una pasada aparte, para que las llamadas a nanoTime() no cuenten en las
+     * rondas por segundo.
+     *
+     * @return Las rondas por segundo del escenario.
+     */
+    private static double medirEscenario(String nombre, Mesa mesa, int rondas) {
+        // Calentamiento del JIT con el mismo número de rondas
+        long sumidero = 0;
+        for (int i = 0; i < rondas; i++) {
+            sumidero += mesa.ejecutar();
+        }
+
+        long inicio = System.nanoTime();
+        for (int i = 0; i < rondas; i++) {
+            sumidero += mesa.ejecutar();
+        }
+        long total = System.nanoTime() - inicio;
+
+        long[] latencias = new long[rondas];
+        for (int i = 0; i < rondas; i++) {
+            long antes = System.nanoTime();
+            sumidero += mesa.ejecutar();
+            latencias[i] = System.nanoTime() - antes;
+        }
+        Medidor.consumir(sumidero);
+        double bytes = Medidor.medirAsignacion(Math.min(rondas, RONDAS_ASIGNACION), mesa);
+
+        Arrays.sort(latencias);
+        double rondasPorSegundo = rondas * 1_000_000_000.0 / total;
+        System.out.println("\n--- " + nombre + " (" + rondas + " rondas) ---");
+        System.out.println(String.format("Rendimiento: %,.0f rondas/s", rondasPorSegundo));
+        System.out.println(String.format("Latencia por ronda: p50 %,d ns, p99 %,d ns, p99.9 %,d ns, máx %,d ns",
+                percentil(latencias, 0.50), percentil(latencias, 0.99), percentil(latencias, 0.999),
+                latencias[rondas - 1]));
+        System.out.println(String.format("Asignación: %,.1f B/ronda", bytes));
+        return rondasPorSegundo;
+    }
+
+    private static long percentil(long[] ordenadas, double fraccion) {
+        return ordenadas[(int) Math.round(fraccion * (ordenadas.length - 1))];
+    }
+}
@@ -0,0 +1,159 @@
+package benchmark;
+
+import modelo.Carta;
+import modelo.EvaluadorManos;
+import modelo.EstrategiaBasica;
+import modelo.Jugador;
+import modelo.JugadorVista;
+import modelo.LoteManos;
+import modelo.TablaManos;
+
+import java.util.SplittableRandom;
+
+/**
+ * Benchmark de muchas manos de bots a la vez: un objeto {@link Jugador} por
+ * asiento frente a la {@link TablaManos} en estructura de arreglos.
+ *
+ * Mide la memoria retenida por asiento y, por mano, el tiempo y los bytes
+ * asignados de una ronda: limpiar, repartir dos cartas, pedir según la
+ * estrategia básica y puntuar (en la tabla, con {@link EvaluadorManos}).
+ * Antes de medir comprueba, a través de {@link JugadorVista} y de la
+ * estrategia con la API de Jugador, que la tabla coincide con Jugador
+ * y termina con código 1 si no. El historial de cada Jugador crece en cada
+ * ronda, así que con millones de asientos la versión de objetos necesita un
+ * heap grande (-Xmx).
+ *
+ * Uso: java benchmark.BenchmarkTablaManos [asientos]
+ */
+public class BenchmarkTablaManos {
+
+    private static final int ASIENTOS_POR_DEFECTO = 100_000;
+    private static final int CARTAS_POR_RONDA = 4;
+    private static final EstrategiaBasica ESTRATEGIA = new EstrategiaBasica();
+    // Un 10 visible del Dealer
+    private static final Carta VISIBLE = Carta.obtener(9);
+
+    public static void main(String[] args) {
+        int asientos = args.length > 0 ? Integer.parseInt(args[0].replace("_", "")) : ASIENTOS_POR_DEFECTO;
+        if (asientos < 1) {
+            throw new IllegalArgumentException("El número de asientos debe ser positivo: " + asientos);
+        }
+        // Secuencia fija de cartas: las dos versiones reparten lo mismo
+        SplittableRandom random = new SplittableRandom(25);
+        Carta[] cartas = new Carta[asientos * CARTAS_POR_RONDA];
+        for (int i = 0; i < cartas.length; i++) {
+            cartas[i] = Carta.obtener(random.nextInt(Carta.TOTAL_CARTAS));
+        }
+
+        long antes = memoriaUsada();
+        Jugador[] jugadores = new Jugador[asientos];
+        for (int i = 0; i < asientos; i++) {
+            jugadores[i] = new Jugador("Bot " + i);
+        }
+        jugarRonda(jugadores, cartas, VISIBLE);
+        long bytesJugadores = memoriaUsada() - antes;
+
+        antes = memoriaUsada();
+        TablaManos tabla = new TablaManos(asientos);
+        LoteManos lote = new LoteManos(asientos);
+        jugarRonda(tabla, lote, EvaluadorManos.escalar(), cartas, VISIBLE);
+        long bytesTabla = memoriaUsada() - antes;
+
+        if (!coincide(jugadores, tabla, lote)) {
+            System.exit(1);
+        }
+
+        System.out.println("--- " + asientos + " asientos ---");
+        System.out.println(String.format("Memoria retenida: Jugador %,.1f B/asiento, TablaManos %,.1f B/asiento",
+                bytesJugadores / (double) asientos, bytesTabla / (double) asientos));
+
+        EvaluadorManos evaluador = EvaluadorManos.crear();
+        // La API Vector solo es rápida una vez compilada por C2: se calienta aparte
+        for (int i = 0; i < Math.max(20, 20_000_000 / asientos); i++) {
+            evaluador.evaluar(lote);
+        }
+        Medidor.Operacion rondaJugadores = () -> jugarRonda(jugadores, cartas, VISIBLE);
+        Medidor.Operacion rondaTabla = () -> jugarRonda(tabla, lote, evaluador, cartas, VISIBLE);
+        Medidor.imprimir("Ronda con Jugador[] (por mano)",
+                Medidor.medir(1, rondaJugadores) / asientos,
+                Medidor.medirAsignacion(1, rondaJugadores) / asientos);
+        Medidor.imprimir("Ronda con TablaManos (por mano)",
+                Medidor.medir(1, rondaTabla) / asientos,
+                Medidor.medirAsignacion(1, rondaTabla) / asientos);
+        System.out.println(evaluador);
+    }
+
+    private static long jugarRonda(Jugador[] jugadores, Carta[] cartas, Carta visible) {
+        int siguiente = 0;
+        long total = 0;
+        for (Jugador jugador : jugadores) {
+            jugador.limpiarMano();
+            jugador.recibirCarta(cartas[siguiente++]);
+            jugador.recibirCarta(cartas[siguiente++]);
+            for (int i = 2; i < CARTAS_POR_RONDA && ESTRATEGIA.debePedirCarta(jugador, visible); i++) {
+                jugador.recibirCarta(cartas[siguiente++]);
+            }
+            siguiente += CARTAS_POR_RONDA - jugador.getCantidadCartas();
+            total += jugador.calcularPuntaje() + (jugador.tieneBlackjack() ? 100 : 0);
+        }
+        return total;
+    }
+
+    private static long jugarRonda(TablaManos tabla, LoteManos lote, EvaluadorManos evaluador, Carta[] cartas,
+            Carta visible) {
+        tabla.limpiarManos();
+        int valorVisible = visible.getValorNumerico();
+        int siguiente = 0;
+        for (int asiento = 0; asiento < tabla.capacidad(); asiento++) {
+            tabla.recibirCarta(asiento, cartas[siguiente++]);
+            tabla.recibirCarta(asiento, cartas[siguiente++]);
+            // Consulta directa de las tablas de la estrategia, sin objeto Jugador
+            for (int i = 2; i < CARTAS_POR_RONDA && tabla.calcularPuntaje(asiento) < 21
+                    && ESTRATEGIA.debePedir(tabla.calcularPuntaje(asiento), tabla.esSuave(asiento), valorVisible); i++) {
+                tabla.recibirCarta(asiento, cartas[siguiente++]);
+            }
+            siguiente += CARTAS_POR_RONDA - tabla.getCantidadCartas(asiento);
+        }
+        tabla.cargarLote(lote);
+        evaluador.evaluar(lote);
+        long total = 0;
+        for (int i = 0; i < lote.tamaño(); i++) {
+            total += lote.getPuntaje(i) + (lote.tieneBlackjack(i) ? 100 : 0);
+        }
+        return total;
+    }
+
+    private static boolean coincide(Jugador[] jugadores, TablaManos tabla, LoteManos lote) {
+        JugadorVista vista = tabla.vista(0);
+        for (int i = 0; i < jugadores.length; i++) {
+            Jugador jugador = jugadores[i];
+            vista.moverA(i);
+            if (ESTRATEGIA.debePedirCarta(jugador, VISIBLE) != ESTRATEGIA.debePedirCarta(vista, VISIBLE)) {
+                System.out.println("La estrategia decide distinto en el asiento " + i);
+                return false;
+            }
+            boolean igual = jugador.calcularPuntaje() == vista.calcularPuntaje()
+                    && jugador.esSuave() == vista.esSuave()
+                    && jugador.sePaso() == vista.sePaso()
+                    && jugador.tieneBlackjack() == vista.tieneBlackjack()
+                    && jugador.getCantidadCartas() == vista.getMano().tamaño()
+                    && lote.getPuntaje(i) == jugador.calcularPuntaje();
+            for (int c = 0; igual && c < jugador.getCantidadCartas(); c++) {
+                igual = jugador.getMano().obtenerElemento(c) == vista.getMano().obtenerElemento(c);
+            }
+            if (!igual) {
+                System.out.println("La tabla no coincide con Jugador en el asiento " + i + ":\n" + jugador + "\n" + vista);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long memoriaUsada() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
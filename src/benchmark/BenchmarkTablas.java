@@ -0,0 +1,95 @@
+package benchmark;
+
+import estructuras.Tabla;
+import estructuras.TablaHash;
+import estructuras.TablaHashAbierta;
+import estructuras.TablaHashEntera;
+
+import java.util.Random;
+
+/**
+ * Compara la tabla con encadenamiento (TablaHash) con las tablas de
+ * direccionamiento abierto (TablaHashAbierta y TablaHashEntera) en inserción
+ * y búsqueda con nombres de jugador y con ids enteros. Las búsquedas se hacen
+ * en orden aleatorio para no favorecer a ninguna distribución de índices.
+ *
+ * Uso: java benchmark.BenchmarkTablas
+ */
+public class BenchmarkTablas {
+
+    private static final int[] TAMAÑOS = { 1_000, 100_000, 500_000 };
+
+    public static void main(String[] args) {
+        for (int n : TAMAÑOS) {
+            int repeticiones = Math.max(1, 1_000_000 / n);
+            String[] nombres = new String[n];
+            int[] ids = new int[n];
+            for (int i = 0; i < n; i++) {
+                nombres[i] = "Bot-" + i;
+                ids[i] = i;
+            }
+            System.out.println("\n--- " + n + " jugadores ---");
+
+            Medidor.imprimir("TablaHash: insertar (por entrada)",
+                    Medidor.medir(repeticiones, () -> llenar(new TablaHash<>(), nombres)) / n);
+            Medidor.imprimir("TablaHashAbierta: insertar (por entrada)",
+                    Medidor.medir(repeticiones, () -> llenar(new TablaHashAbierta<>(), nombres)) / n);
+            Medidor.imprimir("TablaHashEntera: insertar (por entrada)",
+                    Medidor.medir(repeticiones, () -> llenarEntera(new TablaHashEntera<>(), n)) / n);
+
+            TablaHash<String, Integer> encadenada = new TablaHash<>();
+            TablaHashAbierta<String, Integer> abierta = new TablaHashAbierta<>();
+            TablaHashEntera<Integer> entera = new TablaHashEntera<>();
+            llenar(encadenada, nombres);
+            llenar(abierta, nombres);
+            llenarEntera(entera, n);
+
+            // Búsquedas en orden aleatorio con copias de las claves, no las mismas instancias
+            Random random = new Random(42);
+            String[] consultas = new String[n];
+            int[] idsConsulta = new int[n];
+            for (int i = 0; i < n; i++) {
+                int j = random.nextInt(n);
+                consultas[i] = new String(nombres[j]);
+                idsConsulta[i] = ids[j];
+            }
+
+            Medidor.imprimir("TablaHash: obtener (por búsqueda)",
+                    Medidor.medir(repeticiones, () -> buscar(encadenada, consultas)) / n);
+            Medidor.imprimir("TablaHashAbierta: obtener (por búsqueda)",
+                    Medidor.medir(repeticiones, () -> buscar(abierta, consultas)) / n);
+            Medidor.imprimir("TablaHashEntera: obtener (por búsqueda)",
+                    Medidor.medir(repeticiones, () -> buscarEntera(entera, idsConsulta)) / n);
+        }
+    }
+
+    private static long llenar(Tabla<String, Integer> tabla, String[] nombres) {
+        for (int i = 0; i < nombres.length; i++) {
+            tabla.insertar(nombres[i], i);
+        }
+        return tabla.tamaño();
+    }
+
+    private static long llenarEntera(TablaHashEntera<Integer> tabla, int n) {
+        for (int i = 0; i < n; i++) {
+            tabla.insertar(i, i);
+        }
+        return tabla.tamaño();
+    }
+
+    private static long buscar(Tabla<String, Integer> tabla, String[] nombres) {
+        long suma = 0;
+        for (String nombre : nombres) {
+            suma += tabla.obtener(nombre);
+        }
+        return suma;
+    }
+
+    private static long buscarEntera(TablaHashEntera<Integer> tabla, int[] ids) {
+        long suma = 0;
+        for (int id : ids) {
+            suma += tabla.obtener(id);
+        }
+        return suma;
+    }
+}
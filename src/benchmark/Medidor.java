@@ -0,0 +1,124 @@
+package benchmark;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Utilidad mínima para micro-benchmarks sin dependencias externas.
+ * Ejecuta una operación varias veces para calentar el JIT y luego mide el
+ * tiempo medio por operación. El resultado de cada operación se acumula en
+ * un sumidero para que el compilador no pueda eliminar el trabajo.
+ * También mide los bytes asignados en el heap por operación con el contador
+ * por hilo de la JVM.
+ */
+public final class Medidor {
+
+    /**
+     * Operación a medir. Devuelve un valor que se consume en el sumidero.
+     */
+    public interface Operacion {
+        long ejecutar();
+    }
+
+    private static final int ITERACIONES_CALENTAMIENTO = 5;
+    private static final int ITERACIONES_MEDICION = 10;
+
+    private static volatile long sumidero;
+
+    private Medidor() {
+    }
+
+    /**
+     * Mide el tiempo medio de una operación en nanosegundos.
+     *
+     * @param repeticiones Veces que se ejecuta la operación por iteración.
+     * @param operacion    La operación a medir.
+     * @return Nanosegundos por operación (mejor iteración).
+     */
+    public static double medir(int repeticiones, Operacion operacion) {
+        long acumulado = 0;
+        for (int i = 0; i < ITERACIONES_CALENTAMIENTO; i++) {
+            for (int r = 0; r < repeticiones; r++) {
+                acumulado += operacion.ejecutar();
+            }
+        }
+
+        double mejor = Double.MAX_VALUE;
+        for (int i = 0; i < ITERACIONES_MEDICION; i++) {
+            long inicio = System.nanoTime();
+            for (int r = 0; r < repeticiones; r++) {
+                acumulado += operacion.ejecutar();
+            }
+            mejor = Math.min(mejor, (System.nanoTime() - inicio) / (double) repeticiones);
+        }
+
+        sumidero += acumulado;
+        return mejor;
+    }
+
+    /**
+     * Consume en el sumidero un resultado calculado fuera de medir(), para
+     * que el compilador no elimine el trabajo de un bucle propio.
+     *
+     * @param valor El resultado a consumir.
+     */
+    public static void consumir(long valor) {
+        sumidero += valor;
+    }
+
+    /**
+     * Mide los bytes asignados en el heap por operación. Antes de medir
+     * ejecuta la operación el mismo calentamiento que {@link #medir}, para que
+     * la asignación medida sea la del código ya compilado por el JIT (tras el
+     * análisis de escape).
+     *
+     * @param repeticiones Veces que se ejecuta la operación por iteración.
+     * @param operacion    La operación a medir.
+     * @return Bytes por operación, o -1 si la JVM no ofrece el contador.
+     */
+    public static double medirAsignacion(int repeticiones, Operacion operacion) {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (!(bean instanceof com.sun.management.ThreadMXBean)) {
+            return -1;
+        }
+        com.sun.management.ThreadMXBean hilos = (com.sun.management.ThreadMXBean) bean;
+        if (!hilos.isThreadAllocatedMemorySupported() || !hilos.isThreadAllocatedMemoryEnabled()) {
+            return -1;
+        }
+
+        long acumulado = 0;
+        for (int i = 0; i < ITERACIONES_CALENTAMIENTO; i++) {
+            for (int r = 0; r < repeticiones; r++) {
+                acumulado += operacion.ejecutar();
+            }
+        }
+        long antes = hilos.getCurrentThreadAllocatedBytes();
+        for (int r = 0; r < repeticiones; r++) {
+            acumulado += operacion.ejecutar();
+        }
+        long despues = hilos.getCurrentThreadAllocatedBytes();
+
+        sumidero += acumulado;
+        return (despues - antes) / (double) repeticiones;
+    }
+
+    /**
+     * Imprime una fila de resultados con formato de tabla.
+     *
+     * @param nombre      Nombre de la medición.
+     * @param nanosPorOp  Nanosegundos por operación.
+     */
+    public static void imprimir(String nombre, double nanosPorOp) {
+        System.out.println(String.format("%-45s %,14.1f ns/op", nombre, nanosPorOp));
+    }
+
+    /**
+     * Imprime una fila con tiempo y memoria asignada por operación.
+     *
+     * @param nombre      Nombre de la medición.
+     * @param nanosPorOp  Nanosegundos por operación.
+     * @param bytesPorOp  Bytes asignados por operación (-1 si no se midieron).
+     */
+    public static void imprimir(String nombre, double nanosPorOp, double bytesPorOp) {
+        System.out.println(String.format("%-45s %,14.1f ns/op %,12.1f B/op", nombre, nanosPorOp, bytesPorOp));
+    }
+}
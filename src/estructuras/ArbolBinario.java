@@ -1,5 +1,8 @@
 package estructuras;
 
+import salida.SalidaConsola;
+import salida.SalidaJuego;
+
 /*
  * Árbol Binario de Decisión optimizado para implementar la IA del Dealer.
  * Estructura: O(1) en espacio, ya que es un árbol de decisión fijo.
@@ -11,6 +14,8 @@ package estructuras;
 public class ArbolBinario<T> {
 
     private Nodo<T> raiz;
+    private boolean registrarDecisiones = true;
+    private SalidaJuego salida = SalidaConsola.ESTANDAR;
 
     // Constante crítica para la lógica de decisión del dealer
     private static final int UMBRAL_DECISION = 17;
@@ -92,12 +97,36 @@ public class ArbolBinario<T> {
                 raiz.getDerecho();
 
         // Log de decisión para análisis y debugging
-        System.out.println(String.format("\nEstrategia del Dealer [%d pts]: %s",
-                puntaje, decision.getDescripcion()));
+        if (registrarDecisiones) {
+            salida.imprimirLinea(String.format("\nEstrategia del Dealer [%d pts]: %s",
+                    puntaje, decision.getDescripcion()));
+        }
 
         return decision;
     }
 
+    /*
+     * Activa o desactiva el log de cada decisión en consola.
+     * En simulaciones masivas el log se desactiva para no saturar la salida.
+     * 
+     * @param registrarDecisiones true para imprimir cada decisión
+     */
+    public void setRegistrarDecisiones(boolean registrarDecisiones) {
+        this.registrarDecisiones = registrarDecisiones;
+    }
+
+    /*
+     * Cambia el destino del log de decisiones y del dibujo del árbol.
+     * 
+     * @param salida la salida donde se escribe el log
+     */
+    public void setSalida(SalidaJuego salida) {
+        if (salida == null) {
+            throw new IllegalArgumentException("La salida no puede ser null");
+        }
+        this.salida = salida;
+    }
+
     public boolean estaVacio() {
         return raiz == null;
     }
@@ -122,7 +151,7 @@ public class ArbolBinario<T> {
                 .append("\n").append(prefijo).append("   └── ")
                 .append(nodo.getDescripcion());
 
-        System.out.println(sb.toString());
+        salida.imprimirLinea(sb.toString());
 
         // Configuración para recursión
         String nuevoConectador = "├── ";
@@ -0,0 +1,168 @@
+package estructuras;
+
+/**
+ * Caché acotada con política de reemplazo LRU (Least Recently Used).
+ * Combina una {@link TablaHashAbierta} para encontrar cada entrada en O(1) con
+ * una lista doblemente enlazada ordenada por uso: al leer o escribir una
+ * entrada pasa al frente, y al llenarse se expulsa la del final.
+ */
+public class CacheLRU<K, V> {
+
+    private final int capacidad;
+    private final TablaHashAbierta<K, Nodo<K, V>> indice;
+    private Nodo<K, V> masReciente;
+    private Nodo<K, V> menosReciente;
+    private long aciertos;
+    private long fallos;
+    private long expulsiones;
+
+    /**
+     * Nodo de la lista de uso.
+     */
+    private static class Nodo<K, V> {
+        private final K clave;
+        private V valor;
+        private Nodo<K, V> anterior;
+        private Nodo<K, V> siguiente;
+
+        public Nodo(K clave, V valor) {
+            this.clave = clave;
+            this.valor = valor;
+        }
+    }
+
+    /**
+     * Constructor de la caché.
+     *
+     * @param capacidad Número máximo de entradas.
+     */
+    public CacheLRU(int capacidad) {
+        if (capacidad < 1) {
+            throw new IllegalArgumentException("La capacidad debe ser positiva: " + capacidad);
+        }
+        this.capacidad = capacidad;
+        this.indice = new TablaHashAbierta<>(capacidad);
+    }
+
+    /**
+     * Obtiene el valor asociado a una clave y la marca como la más reciente.
+     * Complejidad: O(1) en promedio.
+     *
+     * @param clave La clave a buscar.
+     * @return El valor asociado o null si no está en la caché.
+     */
+    public V obtener(K clave) {
+        Nodo<K, V> nodo = indice.obtener(clave);
+        if (nodo == null) {
+            fallos++;
+            return null;
+        }
+        aciertos++;
+        moverAlFrente(nodo);
+        return nodo.valor;
+    }
+
+    /**
+     * Inserta o actualiza una entrada; si la caché está llena expulsa la
+     * entrada usada hace más tiempo.
+     * Complejidad: O(1) en promedio.
+     *
+     * @param clave La clave a insertar.
+     * @param valor El valor asociado.
+     */
+    public void insertar(K clave, V valor) {
+        Nodo<K, V> nodo = indice.obtener(clave);
+        if (nodo != null) {
+            nodo.valor = valor;
+            moverAlFrente(nodo);
+            return;
+        }
+
+        if (indice.tamaño() >= capacidad) {
+            Nodo<K, V> expulsado = menosReciente;
+            desenlazar(expulsado);
+            indice.eliminar(expulsado.clave);
+            expulsiones++;
+        }
+
+        nodo = new Nodo<>(clave, valor);
+        enlazarAlFrente(nodo);
+        indice.insertar(clave, nodo);
+    }
+
+    /**
+     * Vacía la caché y reinicia sus estadísticas.
+     */
+    public void limpiar() {
+        Nodo<K, V> actual = masReciente;
+        while (actual != null) {
+            indice.eliminar(actual.clave);
+            actual = actual.siguiente;
+        }
+        masReciente = null;
+        menosReciente = null;
+        aciertos = 0;
+        fallos = 0;
+        expulsiones = 0;
+    }
+
+    private void moverAlFrente(Nodo<K, V> nodo) {
+        if (nodo != masReciente) {
+            desenlazar(nodo);
+            enlazarAlFrente(nodo);
+        }
+    }
+
+    private void enlazarAlFrente(Nodo<K, V> nodo) {
+        nodo.anterior = null;
+        nodo.siguiente = masReciente;
+        if (masReciente != null) {
+            masReciente.anterior = nodo;
+        }
+        masReciente = nodo;
+        if (menosReciente == null) {
+            menosReciente = nodo;
+        }
+    }
+
+    private void desenlazar(Nodo<K, V> nodo) {
+        if (nodo.anterior != null) {
+            nodo.anterior.siguiente = nodo.siguiente;
+        } else {
+            masReciente = nodo.siguiente;
+        }
+        if (nodo.siguiente != null) {
+            nodo.siguiente.anterior = nodo.anterior;
+        } else {
+            menosReciente = nodo.anterior;
+        }
+        nodo.anterior = null;
+        nodo.siguiente = null;
+    }
+
+    public int tamaño() {
+        return indice.tamaño();
+    }
+
+    public int capacidad() {
+        return capacidad;
+    }
+
+    public long getAciertos() {
+        return aciertos;
+    }
+
+    public long getFallos() {
+        return fallos;
+    }
+
+    public long getExpulsiones() {
+        return expulsiones;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CacheLRU[%d/%d entradas, %d aciertos, %d fallos, %d expulsiones]",
+                tamaño(), capacidad, aciertos, fallos, expulsiones);
+    }
+}
@@ -0,0 +1,281 @@
+package estructuras;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Cola (Queue) acotada sobre un arreglo circular, sin nodos ni bloqueos.
+ * Sigue el principio FIFO (First In, First Out) y reutiliza siempre el mismo
+ * arreglo, por lo que encolar y desencolar no crean objetos.
+ *
+ * Se construye en uno de dos modos:
+ * - {@link #unProductor(int)}: un solo hilo encola y un solo hilo desencola
+ *   (también sirve para uso desde un único hilo, como la cola de turnos).
+ * - {@link #variosProductores(int)}: varios hilos encolan y desencolan a la
+ *   vez, por ejemplo mesas que entregan asientos a un Dealer compartido.
+ *
+ * La capacidad se redondea a la siguiente potencia de dos.
+ */
+public abstract class ColaCircular<T> {
+
+    protected final Object[] elementos;
+    protected final int mascara;
+
+    private ColaCircular(int capacidad) {
+        if (capacidad < 1) {
+            throw new IllegalArgumentException("La capacidad debe ser positiva: " + capacidad);
+        }
+        int real = Integer.highestOneBit(Math.max(capacidad, 2) - 1) << 1;
+        this.elementos = new Object[real];
+        this.mascara = real - 1;
+    }
+
+    /**
+     * Crea una cola para un productor y un consumidor.
+     *
+     * @param capacidad Número máximo de elementos.
+     * @return La cola creada.
+     */
+    public static <T> ColaCircular<T> unProductor(int capacidad) {
+        return new UnProductor<>(capacidad);
+    }
+
+    /**
+     * Crea una cola para varios productores y varios consumidores.
+     *
+     * @param capacidad Número máximo de elementos.
+     * @return La cola creada.
+     */
+    public static <T> ColaCircular<T> variosProductores(int capacidad) {
+        return new VariosProductores<>(capacidad);
+    }
+
+    /**
+     * Agrega un elemento al final de la cola si hay espacio.
+     *
+     * @param dato El elemento a agregar.
+     * @return true si se encoló, false si la cola está llena.
+     * @throws IllegalArgumentException si el dato es null.
+     */
+    public abstract boolean encolar(T dato);
+
+    /**
+     * Elimina y devuelve el elemento al frente de la cola.
+     *
+     * @return El elemento al frente de la cola o null si está vacía.
+     */
+    public abstract T desencolar();
+
+    /**
+     * Devuelve el elemento al frente de la cola sin eliminarlo.
+     * Con varios consumidores es solo una instantánea.
+     *
+     * @return El elemento al frente de la cola o null si está vacía.
+     */
+    public abstract T verFrente();
+
+    /**
+     * Devuelve el tamaño de la cola. Con varios hilos es una aproximación.
+     *
+     * @return El número de elementos en la cola.
+     */
+    public abstract int tamaño();
+
+    /**
+     * Verifica si la cola está vacía.
+     *
+     * @return true si la cola está vacía, false en caso contrario.
+     */
+    public boolean estaVacia() {
+        return tamaño() == 0;
+    }
+
+    /**
+     * Devuelve la capacidad máxima de la cola.
+     *
+     * @return El número máximo de elementos.
+     */
+    public int capacidad() {
+        return elementos.length;
+    }
+
+    /**
+     * Vacía la cola desencolando todos sus elementos.
+     */
+    public void vaciar() {
+        while (desencolar() != null) {
+            // Se descartan los elementos
+        }
+    }
+
+    protected static void validar(Object dato) {
+        if (dato == null) {
+            throw new IllegalArgumentException("No se permiten elementos null");
+        }
+    }
+
+    /**
+     * Muestra el estado actual de la cola.
+     *
+     * @return Una representación en cadena de la cola.
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Frente -> ");
+        int tamaño = tamaño();
+        long frente = frente();
+        for (int i = 0; i < tamaño; i++) {
+            Object dato = elementos[(int) (frente + i) & mascara];
+            if (dato != null) {
+                sb.append("[").append(dato).append("]").append(" -> ");
+            }
+        }
+        sb.append("Final");
+        return sb.toString();
+    }
+
+    protected abstract long frente();
+
+    /**
+     * Modo un productor / un consumidor: cada índice lo escribe un solo hilo,
+     * así que basta con publicarlo con lazySet (escritura ordenada).
+     */
+    private static final class UnProductor<T> extends ColaCircular<T> {
+
+        private final AtomicLong cabeza = new AtomicLong();
+        private final AtomicLong cola = new AtomicLong();
+
+        UnProductor(int capacidad) {
+            super(capacidad);
+        }
+
+        @Override
+        public boolean encolar(T dato) {
+            validar(dato);
+            long posicion = cola.get();
+            if (posicion - cabeza.get() == elementos.length) {
+                return false;
+            }
+            elementos[(int) posicion & mascara] = dato;
+            cola.lazySet(posicion + 1);
+            return true;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T desencolar() {
+            long posicion = cabeza.get();
+            if (posicion == cola.get()) {
+                return null;
+            }
+            int indice = (int) posicion & mascara;
+            T dato = (T) elementos[indice];
+            elementos[indice] = null;
+            cabeza.lazySet(posicion + 1);
+            return dato;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T verFrente() {
+            long posicion = cabeza.get();
+            return posicion == cola.get() ? null : (T) elementos[(int) posicion & mascara];
+        }
+
+        @Override
+        public int tamaño() {
+            return (int) (cola.get() - cabeza.get());
+        }
+
+        @Override
+        protected long frente() {
+            return cabeza.get();
+        }
+    }
+
+    /**
+     * Modo varios productores / varios consumidores (cola acotada de Vyukov).
+     * Cada casilla lleva un número de secuencia que indica si está libre para
+     * el productor de esa vuelta o lista para su consumidor; los índices se
+     * reservan con compareAndSet.
+     */
+    private static final class VariosProductores<T> extends ColaCircular<T> {
+
+        private final AtomicLong cabeza = new AtomicLong();
+        private final AtomicLong cola = new AtomicLong();
+        private final AtomicLongArray secuencias;
+
+        VariosProductores(int capacidad) {
+            super(capacidad);
+            secuencias = new AtomicLongArray(elementos.length);
+            for (int i = 0; i < elementos.length; i++) {
+                secuencias.set(i, i);
+            }
+        }
+
+        @Override
+        public boolean encolar(T dato) {
+            validar(dato);
+            long posicion;
+            int indice;
+            while (true) {
+                posicion = cola.get();
+                indice = (int) posicion & mascara;
+                long diferencia = secuencias.get(indice) - posicion;
+                if (diferencia == 0) {
+                    if (cola.compareAndSet(posicion, posicion + 1)) {
+                        break;
+                    }
+                } else if (diferencia < 0) {
+                    return false; // Llena: la casilla aún no se ha consumido
+                }
+            }
+            elementos[indice] = dato;
+            secuencias.lazySet(indice, posicion + 1);
+            return true;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T desencolar() {
+            long posicion;
+            int indice;
+            while (true) {
+                posicion = cabeza.get();
+                indice = (int) posicion & mascara;
+                long diferencia = secuencias.get(indice) - (posicion + 1);
+                if (diferencia == 0) {
+                    if (cabeza.compareAndSet(posicion, posicion + 1)) {
+                        break;
+                    }
+                } else if (diferencia < 0) {
+                    return null; // Vacía: la casilla aún no se ha producido
+                }
+            }
+            T dato = (T) elementos[indice];
+            elementos[indice] = null;
+            secuencias.lazySet(indice, posicion + elementos.length);
+            return dato;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T verFrente() {
+            long posicion = cabeza.get();
+            int indice = (int) posicion & mascara;
+            return secuencias.get(indice) == posicion + 1 ? (T) elementos[indice] : null;
+        }
+
+        @Override
+        public int tamaño() {
+            long tamaño = cola.get() - cabeza.get();
+            return (int) Math.max(0, Math.min(tamaño, elementos.length));
+        }
+
+        @Override
+        protected long frente() {
+            return cabeza.get();
+        }
+    }
+}
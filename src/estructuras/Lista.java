@@ -0,0 +1,45 @@
+package estructuras;
+
+/*
+ * Contrato común de las listas del proyecto.
+ * Permite elegir entre la lista de nodos enlazados (ListaEnlazada) y la
+ * lista contigua sobre arreglo (ListaArreglo) sin cambiar el código cliente.
+ */
+public interface Lista<T> extends Iterable<T> {
+
+    /*
+     * Inserta un elemento al final de la lista.
+     * 
+     * @param dato Elemento a insertar
+     * 
+     * @throws IllegalArgumentException si el dato es null
+     */
+    void agregar(T dato);
+
+    /*
+     * Elimina y retorna el primer elemento.
+     * 
+     * @return Elemento eliminado o null si la lista está vacía
+     */
+    T eliminarPrimero();
+
+    /*
+     * Obtiene el elemento en la posición indicada.
+     * 
+     * @param indice Posición del elemento (0 es el primero)
+     * 
+     * @return El elemento en esa posición
+     * 
+     * @throws IndexOutOfBoundsException si el índice está fuera de rango
+     */
+    T obtenerElemento(int indice);
+
+    /*
+     * Elimina todos los elementos de la lista.
+     */
+    void limpiar();
+
+    boolean estaVacia();
+
+    int tamaño();
+}
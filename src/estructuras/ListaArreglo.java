@@ -0,0 +1,202 @@
+package estructuras;
+
+import java.util.Iterator;
+
+/*
+ * Implementación de Lista sobre un arreglo circular que crece al doble.
+ * Los elementos quedan contiguos en memoria, por lo que recorrerla y acceder
+ * por índice es O(1) por elemento y aprovecha la caché del procesador.
+ * La capacidad es siempre potencia de dos para calcular posiciones con una
+ * máscara en lugar de la operación módulo.
+ */
+public class ListaArreglo<T> implements Lista<T> {
+
+    private static final int CAPACIDAD_INICIAL = 8;
+
+    private Object[] elementos;
+    private int inicio;
+    private int tamaño;
+
+    /*
+     * Constructor por defecto con capacidad para 8 elementos.
+     */
+    public ListaArreglo() {
+        this(CAPACIDAD_INICIAL);
+    }
+
+    /*
+     * Constructor con capacidad inicial.
+     * La capacidad se redondea a la siguiente potencia de dos.
+     *
+     * @param capacidad Número de elementos esperados
+     */
+    public ListaArreglo(int capacidad) {
+        if (capacidad < 0) {
+            throw new IllegalArgumentException("La capacidad no puede ser negativa: " + capacidad);
+        }
+        int real = Integer.highestOneBit(Math.max(capacidad, 2) - 1) << 1;
+        this.elementos = new Object[real];
+        this.inicio = 0;
+        this.tamaño = 0;
+    }
+
+    /*
+     * Inserción al final de la lista.
+     * Complejidad: O(1) amortizado - solo crece al llenarse el arreglo
+     *
+     * @param dato Elemento a insertar
+     *
+     * @throws IllegalArgumentException si el dato es null
+     */
+    @Override
+    public void agregar(T dato) {
+        if (dato == null) {
+            throw new IllegalArgumentException("No se permiten elementos null");
+        }
+        if (tamaño == elementos.length) {
+            crecer();
+        }
+        elementos[(inicio + tamaño) & (elementos.length - 1)] = dato;
+        tamaño++;
+    }
+
+    /*
+     * Elimina y retorna el primer elemento.
+     * Complejidad: O(1) - avanza el inicio del arreglo circular
+     *
+     * @return Elemento eliminado o null si la lista está vacía
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T eliminarPrimero() {
+        if (estaVacia()) {
+            return null;
+        }
+        T dato = (T) elementos[inicio];
+        elementos[inicio] = null;
+        inicio = (inicio + 1) & (elementos.length - 1);
+        tamaño--;
+        if (tamaño == 0) {
+            inicio = 0;
+        }
+        return dato;
+    }
+
+    /*
+     * Acceso por índice.
+     * Complejidad: O(1) - cálculo directo de la posición
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public T obtenerElemento(int indice) {
+        if (indice < 0 || indice >= tamaño) {
+            throw new IndexOutOfBoundsException(
+                    String.format("Índice %d fuera de rango [0,%d]", indice, tamaño - 1));
+        }
+        return (T) elementos[(inicio + indice) & (elementos.length - 1)];
+    }
+
+    /*
+     * Elimina todos los elementos de la lista conservando la capacidad.
+     * Complejidad: O(n) - se anulan las referencias para no retener objetos
+     */
+    @Override
+    public void limpiar() {
+        for (int i = 0; i < tamaño; i++) {
+            elementos[(inicio + i) & (elementos.length - 1)] = null;
+        }
+        inicio = 0;
+        tamaño = 0;
+    }
+
+    @Override
+    public boolean estaVacia() {
+        return tamaño == 0;
+    }
+
+    @Override
+    public int tamaño() {
+        return tamaño;
+    }
+
+    /*
+     * Duplica la capacidad y deja los elementos a partir de la posición 0.
+     */
+    private void crecer() {
+        Object[] nuevos = new Object[elementos.length * 2];
+        for (int i = 0; i < tamaño; i++) {
+            nuevos[i] = elementos[(inicio + i) & (elementos.length - 1)];
+        }
+        elementos = nuevos;
+        inicio = 0;
+    }
+
+    /*
+     * Genera representación visual con el mismo formato que ListaEnlazada.
+     * Formato: [elem1] -> [elem2] -> ... -> null
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < tamaño; i++) {
+            sb.append("[").append(obtenerElemento(i)).append("]->");
+        }
+        if (estaVacia()) {
+            sb.append("[]->");
+        }
+        sb.append("null");
+        return sb.toString();
+    }
+
+    /*
+     * Recorrido recursivo con el mismo resultado que
+     * ListaEnlazada.recorrerRecursivo(): [elem1]->[elem2]->...->null
+     * Divide el rango por la mitad en cada llamada, así que la profundidad es
+     * O(log n) y no desborda la pila con listas grandes.
+     */
+    public String recorrerRecursivo() {
+        return recorrerRecursivoHelper(0, tamaño, new StringBuilder()).append("null").toString();
+    }
+
+    /*
+     * Método auxiliar para la recursión.
+     * Caso base: un solo elemento o un rango vacío.
+     */
+    private StringBuilder recorrerRecursivoHelper(int desde, int hasta, StringBuilder sb) {
+        if (hasta - desde == 1) {
+            return sb.append("[").append(obtenerElemento(desde)).append("]->");
+        }
+        if (hasta > desde) {
+            int mitad = (desde + hasta) >>> 1;
+            recorrerRecursivoHelper(desde, mitad, sb);
+            recorrerRecursivoHelper(mitad, hasta, sb);
+        }
+        return sb;
+    }
+
+    /*
+     * Implementación del patrón Iterator.
+     * Recorre el arreglo en orden sin crear nodos intermedios.
+     *
+     * @return Iterator sobre los elementos de la lista
+     */
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<T>() {
+            private int posicion = 0;
+
+            @Override
+            public boolean hasNext() {
+                return posicion < tamaño;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new java.util.NoSuchElementException();
+                }
+                return obtenerElemento(posicion++);
+            }
+        };
+    }
+}
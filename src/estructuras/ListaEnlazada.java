@@ -4,10 +4,12 @@ import java.util.Iterator;
 
 /*
  * Implementación de Lista Enlazada Simple.
+ * Mantiene una referencia al último nodo para insertar al final en O(1).
  */
-public class ListaEnlazada<T> implements Iterable<T> {
+public class ListaEnlazada<T> implements Lista<T> {
 
     private Nodo<T> cabeza;
+    private Nodo<T> cola;
     private int tamaño;
 
     /*
@@ -35,16 +37,18 @@ public class ListaEnlazada<T> implements Iterable<T> {
      */
     public ListaEnlazada() {
         this.cabeza = null;
+        this.cola = null;
         this.tamaño = 0;
     } /*
        * Inserción al final de la lista.
-       * Complejidad: O(n) - requiere recorrer hasta el último nodo
+       * Complejidad: O(1) - enlaza directamente tras el último nodo
        * 
        * @param dato Elemento a insertar
        * 
        * @throws IllegalArgumentException si el dato es null
        */
 
+    @Override
     public void agregar(T dato) {
         if (dato == null) {
             throw new IllegalArgumentException("No se permiten elementos null");
@@ -55,12 +59,9 @@ public class ListaEnlazada<T> implements Iterable<T> {
         if (cabeza == null) {
             cabeza = nuevoNodo;
         } else {
-            Nodo<T> actual = cabeza;
-            while (actual.siguiente != null) {
-                actual = actual.siguiente;
-            }
-            actual.siguiente = nuevoNodo;
+            cola.siguiente = nuevoNodo;
         }
+        cola = nuevoNodo;
 
         tamaño++;
     } /*
@@ -70,6 +71,7 @@ public class ListaEnlazada<T> implements Iterable<T> {
        * @return Elemento eliminado o null si la lista está vacía
        */
 
+    @Override
     public T eliminarPrimero() {
         if (estaVacia()) {
             return null;
@@ -77,6 +79,9 @@ public class ListaEnlazada<T> implements Iterable<T> {
 
         T dato = cabeza.dato;
         cabeza = cabeza.siguiente;
+        if (cabeza == null) {
+            cola = null;
+        }
         tamaño--;
 
         return dato;
@@ -88,14 +93,27 @@ public class ListaEnlazada<T> implements Iterable<T> {
      * 
      * @return true si no hay elementos, false en caso contrario
      */
+    @Override
     public boolean estaVacia() {
         return cabeza == null;
     }
 
+    @Override
     public int tamaño() {
         return tamaño;
     }
 
+    /*
+     * Elimina todos los elementos de la lista.
+     * Complejidad: O(1) - los nodos quedan para el recolector de basura
+     */
+    @Override
+    public void limpiar() {
+        cabeza = null;
+        cola = null;
+        tamaño = 0;
+    }
+
     /*
      * Genera representación visual de la estructura.
      * Complejidad: O(n) - requiere recorrido completo
@@ -135,6 +153,12 @@ public class ListaEnlazada<T> implements Iterable<T> {
         return recorrerRecursivoHelper(nodo.siguiente, sb);
     }
 
+    /*
+     * Acceso por índice.
+     * Complejidad: O(n) - recorre desde la cabeza; para acceso indexado
+     * frecuente conviene ListaArreglo
+     */
+    @Override
     public T obtenerElemento(int indice) {
         if (indice < 0 || indice >= tamaño) {
             throw new IndexOutOfBoundsException(
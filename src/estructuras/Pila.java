@@ -1,16 +1,16 @@
 package estructuras;
 
 /*
- * Implementación Thread-Safe de una Pila (Stack) genérica.
+ * Implementación de una Pila (Stack) genérica para un solo hilo.
+ * Para compartir una pila entre varios hilos se usa PilaConcurrente.
  */
 public class Pila<T> {
 
-    private volatile Nodo<T> cima;
-    private volatile int tamaño;
+    private Nodo<T> cima;
+    private int tamaño;
 
     /*
-     * Nodo interno con semántica inmutable.
-     * Garantiza consistencia en operaciones concurrentes.
+     * Nodo interno de la pila.
      */
     private static class Nodo<T> {
         private T dato;
@@ -86,6 +86,26 @@ public class Pila<T> {
         return tamaño;
     }
 
+    /**
+     * Copia los elementos en un arreglo, desde la base hasta la cima, sin
+     * modificar la pila.
+     * Complejidad: O(n)
+     * 
+     * @param destino Arreglo con al menos tamaño() posiciones.
+     * @return El número de elementos copiados.
+     */
+    public int copiarDesdeBase(T[] destino) {
+        if (destino.length < tamaño) {
+            throw new IllegalArgumentException("El arreglo tiene " + destino.length
+                    + " posiciones para " + tamaño + " elementos");
+        }
+        int indice = tamaño;
+        for (Nodo<T> actual = cima; actual != null; actual = actual.siguiente) {
+            destino[--indice] = actual.dato;
+        }
+        return tamaño;
+    }
+
     /**
      * Muestra el estado actual de la pila.
      * 
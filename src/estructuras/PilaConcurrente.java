@@ -0,0 +1,154 @@
+package estructuras;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * Pila (Stack) genérica segura para hilos y sin bloqueos (pila de Treiber).
+ * 
+ * - apilar/desapilar reemplazan la cima con compareAndSet y reintentan si otro
+ *   hilo la cambió entre la lectura y la escritura.
+ * - Cada apilar crea un nodo nuevo e inmutable y el recolector de basura no
+ *   reutiliza un nodo mientras algún hilo lo referencie, por lo que el
+ *   problema ABA no puede ocurrir.
+ * - El tamaño se lleva en un LongAdder para que el contador no sea un punto
+ *   de contención; bajo concurrencia es una aproximación momentánea.
+ */
+public class PilaConcurrente<T> {
+
+    private final AtomicReference<Nodo<T>> cima;
+    private final LongAdder tamaño;
+
+    /*
+     * Nodo inmutable: su enlace no cambia después de publicarse.
+     */
+    private static class Nodo<T> {
+        private final T dato;
+        private final Nodo<T> siguiente;
+
+        public Nodo(T dato, Nodo<T> siguiente) {
+            this.dato = dato;
+            this.siguiente = siguiente;
+        }
+    }
+
+    /**
+     * Constructor de la pila.
+     */
+    public PilaConcurrente() {
+        this.cima = new AtomicReference<>();
+        this.tamaño = new LongAdder();
+    }
+
+    /**
+     * Agrega un elemento a la cima de la pila.
+     * Complejidad: O(1) sin contención; reintenta si otro hilo gana el CAS.
+     * 
+     * @param dato El elemento a agregar.
+     */
+    public void apilar(T dato) {
+        Nodo<T> actual;
+        Nodo<T> nuevoNodo;
+        do {
+            actual = cima.get();
+            nuevoNodo = new Nodo<>(dato, actual);
+        } while (!cima.compareAndSet(actual, nuevoNodo));
+        tamaño.increment();
+    }
+
+    /**
+     * Elimina y devuelve el elemento en la cima de la pila.
+     * 
+     * @return El elemento en la cima de la pila o null si está vacía.
+     */
+    public T desapilar() {
+        Nodo<T> actual;
+        do {
+            actual = cima.get();
+            if (actual == null) {
+                return null;
+            }
+        } while (!cima.compareAndSet(actual, actual.siguiente));
+        tamaño.decrement();
+        return actual.dato;
+    }
+
+    /**
+     * Devuelve el elemento en la cima de la pila sin eliminarlo.
+     * 
+     * @return El elemento en la cima de la pila o null si está vacía.
+     */
+    public T verCima() {
+        Nodo<T> actual = cima.get();
+        return actual != null ? actual.dato : null;
+    }
+
+    /**
+     * Verifica si la pila está vacía.
+     * 
+     * @return true si la pila está vacía, false en caso contrario.
+     */
+    public boolean estaVacia() {
+        return cima.get() == null;
+    }
+
+    /**
+     * Devuelve el tamaño de la pila.
+     * Es exacto cuando no hay operaciones en curso.
+     * 
+     * @return El número de elementos en la pila.
+     */
+    public int tamaño() {
+        return (int) tamaño.sum();
+    }
+
+    /**
+     * Muestra una instantánea del estado actual de la pila.
+     * 
+     * @return Una representación en cadena de la pila.
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Cima -> ");
+
+        Nodo<T> actual = cima.get();
+        while (actual != null) {
+            sb.append("[")
+                    .append(actual.dato)
+                    .append("]")
+                    .append(" -> ");
+            actual = actual.siguiente;
+        }
+
+        sb.append("null");
+        return sb.toString();
+    }
+
+    /**
+     * Método recursivo para mostrar la pila en orden inverso (desde la base hasta
+     * la cima) sobre una instantánea de la pila.
+     * 
+     * @return Una representación en cadena de la pila en orden inverso.
+     */
+    public String mostrarInverso() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Base -> ");
+        mostrarInversoRecursivo(cima.get(), sb);
+        sb.append("Cima");
+        return sb.toString();
+    }
+
+    private void mostrarInversoRecursivo(Nodo<T> nodo, StringBuilder sb) {
+        if (nodo == null) {
+            return;
+        }
+
+        mostrarInversoRecursivo(nodo.siguiente, sb);
+
+        sb.append("[")
+                .append(nodo.dato)
+                .append("]")
+                .append(" -> ");
+    }
+}
@@ -0,0 +1,46 @@
+package estructuras;
+
+/**
+ * Contrato común de las tablas clave-valor del proyecto.
+ * Lo implementan la tabla con encadenamiento (TablaHash) y la tabla con
+ * direccionamiento abierto (TablaHashAbierta).
+ */
+public interface Tabla<K, V> {
+
+    /**
+     * Inserta o actualiza un par clave-valor.
+     * 
+     * @param clave La clave a insertar o actualizar.
+     * @param valor El valor asociado a la clave.
+     * @throws IllegalArgumentException si la clave es null.
+     */
+    void insertar(K clave, V valor);
+
+    /**
+     * Obtiene el valor asociado a una clave.
+     * 
+     * @param clave La clave a buscar.
+     * @return El valor asociado a la clave o null si no existe.
+     */
+    V obtener(K clave);
+
+    /**
+     * Elimina una entrada de la tabla.
+     * 
+     * @param clave La clave de la entrada a eliminar.
+     * @return El valor asociado a la clave eliminada o null si no existe.
+     */
+    V eliminar(K clave);
+
+    /**
+     * Verifica si la tabla contiene una clave.
+     * 
+     * @param clave La clave a verificar.
+     * @return true si la clave existe, false en caso contrario.
+     */
+    boolean contiene(K clave);
+
+    int tamaño();
+
+    boolean estaVacia();
+}
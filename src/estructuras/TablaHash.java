@@ -4,7 +4,7 @@ package estructuras;
  * Implementación de una Tabla Hash para almacenar el estado de los jugadores.
  * Cada entrada almacena: nombre, puntaje, cartas en mano, estado actual.
  */
-public class TablaHash<K, V> {
+public class TablaHash<K, V> implements Tabla<K, V> {
 
     private static final int CAPACIDAD_INICIAL = 16;
     private static final double FACTOR_CARGA = 0.75;
@@ -55,6 +55,7 @@ public class TablaHash<K, V> {
      * @param clave La clave a insertar o actualizar.
      * @param valor El valor asociado a la clave.
      */
+    @Override
     public void insertar(K clave, V valor) {
         if (clave == null) {
             throw new IllegalArgumentException("La clave no puede ser null");
@@ -89,6 +90,7 @@ public class TablaHash<K, V> {
      * @param clave La clave a buscar.
      * @return El valor asociado a la clave o null si no existe.
      */
+    @Override
     public V obtener(K clave) {
         if (clave == null) {
             return null;
@@ -113,6 +115,7 @@ public class TablaHash<K, V> {
      * @param clave La clave de la entrada a eliminar.
      * @return El valor asociado a la clave eliminada o null si no existe.
      */
+    @Override
     public V eliminar(K clave) {
         if (clave == null) {
             return null;
@@ -145,6 +148,7 @@ public class TablaHash<K, V> {
      * @param clave La clave a verificar.
      * @return true si la clave existe, false en caso contrario.
      */
+    @Override
     public boolean contiene(K clave) {
         return obtener(clave) != null;
     }
@@ -154,6 +158,7 @@ public class TablaHash<K, V> {
      * 
      * @return El número de entradas en la tabla hash.
      */
+    @Override
     public int tamaño() {
         return tamaño;
     }
@@ -163,6 +168,7 @@ public class TablaHash<K, V> {
      * 
      * @return true si la tabla hash está vacía, false en caso contrario.
      */
+    @Override
     public boolean estaVacia() {
         return tamaño == 0;
     }
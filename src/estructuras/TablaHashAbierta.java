@@ -0,0 +1,287 @@
+package estructuras;
+
+/**
+ * Tabla Hash con direccionamiento abierto y sondeo lineal.
+ * Guarda claves, valores y hashes en arreglos paralelos, sin un objeto Entrada
+ * por clave, lo que reduce la memoria por entrada y mejora la localidad de
+ * caché. El hash guardado se compara antes que equals(), de modo que sondear
+ * una posición ocupada por otra clave no tiene que leer esa clave.
+ * 
+ * - La capacidad es potencia de dos y el índice se obtiene con hashing de
+ *   Fibonacci (multiplicación y desplazamiento) tras mezclar los bits altos.
+ * - Las eliminaciones desplazan hacia atrás los elementos siguientes, por lo
+ *   que no quedan lápidas que alarguen las búsquedas.
+ * 
+ * Mantiene el mismo contrato que {@link TablaHash}.
+ */
+public class TablaHashAbierta<K, V> implements Tabla<K, V> {
+
+    private static final int CAPACIDAD_INICIAL = 16;
+    private static final double FACTOR_CARGA = 0.7;
+    private static final int FIBONACCI = 0x9E3779B9;
+
+    private Object[] claves;
+    private Object[] valores;
+    private int[] hashes;
+    private int tamaño;
+    private int umbralRehash;
+    private int desplazamiento;
+
+    /**
+     * Constructor de la tabla hash con capacidad por defecto.
+     */
+    public TablaHashAbierta() {
+        this(CAPACIDAD_INICIAL);
+    }
+
+    /**
+     * Constructor con el número de entradas esperadas, para evitar rehash.
+     * 
+     * @param entradasEsperadas Número de entradas que se prevé almacenar.
+     */
+    public TablaHashAbierta(int entradasEsperadas) {
+        if (entradasEsperadas < 0) {
+            throw new IllegalArgumentException("El número de entradas no puede ser negativo");
+        }
+        int capacidad = CAPACIDAD_INICIAL;
+        while (capacidad * FACTOR_CARGA < entradasEsperadas) {
+            capacidad <<= 1;
+        }
+        inicializar(capacidad);
+    }
+
+    private void inicializar(int capacidad) {
+        this.claves = new Object[capacidad];
+        this.valores = new Object[capacidad];
+        this.hashes = new int[capacidad];
+        this.umbralRehash = (int) (capacidad * FACTOR_CARGA);
+        this.desplazamiento = 32 - Integer.numberOfTrailingZeros(capacidad);
+    }
+
+    /**
+     * Mezcla los 16 bits altos del hashCode con los bajos.
+     * 
+     * @param clave La clave a dispersar.
+     * @return El hash dispersado.
+     */
+    private static int dispersar(Object clave) {
+        int h = clave.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Calcula la posición ideal de un hash con hashing de Fibonacci.
+     * 
+     * @param hash El hash dispersado de la clave.
+     * @return El índice calculado.
+     */
+    private int obtenerIndice(int hash) {
+        return (hash * FIBONACCI) >>> desplazamiento;
+    }
+
+    /**
+     * Busca la posición de una clave.
+     * 
+     * @param clave La clave a buscar.
+     * @param hash  El hash dispersado de la clave.
+     * @return La posición de la clave o -1 si no existe.
+     */
+    private int buscar(Object clave, int hash) {
+        int mascara = claves.length - 1;
+        int i = obtenerIndice(hash);
+        Object actual;
+        while ((actual = claves[i]) != null) {
+            if (hashes[i] == hash && (actual == clave || actual.equals(clave))) {
+                return i;
+            }
+            i = (i + 1) & mascara;
+        }
+        return -1;
+    }
+
+    /**
+     * Inserta o actualiza un par clave-valor en la tabla hash.
+     * Complejidad: O(1) en promedio.
+     * 
+     * @param clave La clave a insertar o actualizar.
+     * @param valor El valor asociado a la clave.
+     */
+    @Override
+    public void insertar(K clave, V valor) {
+        if (clave == null) {
+            throw new IllegalArgumentException("La clave no puede ser null");
+        }
+
+        int hash = dispersar(clave);
+        int mascara = claves.length - 1;
+        int i = obtenerIndice(hash);
+        Object actual;
+        while ((actual = claves[i]) != null) {
+            if (hashes[i] == hash && (actual == clave || actual.equals(clave))) {
+                valores[i] = valor;
+                return;
+            }
+            i = (i + 1) & mascara;
+        }
+
+        claves[i] = clave;
+        valores[i] = valor;
+        hashes[i] = hash;
+        if (++tamaño > umbralRehash) {
+            rehash();
+        }
+    }
+
+    /**
+     * Obtiene el valor asociado a una clave.
+     * Complejidad: O(1) en promedio.
+     * 
+     * @param clave La clave a buscar.
+     * @return El valor asociado a la clave o null si no existe.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V obtener(K clave) {
+        if (clave == null) {
+            return null;
+        }
+        int i = buscar(clave, dispersar(clave));
+        return i < 0 ? null : (V) valores[i];
+    }
+
+    /**
+     * Elimina una entrada de la tabla hash desplazando hacia atrás las
+     * entradas del mismo grupo para no dejar huecos en el sondeo.
+     * 
+     * @param clave La clave de la entrada a eliminar.
+     * @return El valor asociado a la clave eliminada o null si no existe.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public V eliminar(K clave) {
+        if (clave == null) {
+            return null;
+        }
+        int hueco = buscar(clave, dispersar(clave));
+        if (hueco < 0) {
+            return null;
+        }
+
+        V valor = (V) valores[hueco];
+        int mascara = claves.length - 1;
+        int j = hueco;
+        while (true) {
+            j = (j + 1) & mascara;
+            if (claves[j] == null) {
+                break;
+            }
+            // La entrada en j puede ocupar el hueco si su posición ideal no
+            // está entre el hueco (exclusivo) y j (inclusivo)
+            int ideal = obtenerIndice(hashes[j]);
+            if (((j - ideal) & mascara) >= ((j - hueco) & mascara)) {
+                claves[hueco] = claves[j];
+                valores[hueco] = valores[j];
+                hashes[hueco] = hashes[j];
+                hueco = j;
+            }
+        }
+        claves[hueco] = null;
+        valores[hueco] = null;
+        tamaño--;
+        return valor;
+    }
+
+    /**
+     * Verifica si la tabla hash contiene una clave.
+     * 
+     * @param clave La clave a verificar.
+     * @return true si la clave existe, false en caso contrario.
+     */
+    @Override
+    public boolean contiene(K clave) {
+        return obtener(clave) != null;
+    }
+
+    @Override
+    public int tamaño() {
+        return tamaño;
+    }
+
+    @Override
+    public boolean estaVacia() {
+        return tamaño == 0;
+    }
+
+    /**
+     * Duplica la capacidad y reinserta todas las entradas.
+     */
+    private void rehash() {
+        Object[] clavesAntiguas = claves;
+        Object[] valoresAntiguos = valores;
+        int[] hashesAntiguos = hashes;
+        inicializar(clavesAntiguas.length * 2);
+
+        int mascara = claves.length - 1;
+        for (int k = 0; k < clavesAntiguas.length; k++) {
+            if (clavesAntiguas[k] != null) {
+                int i = obtenerIndice(hashesAntiguos[k]);
+                while (claves[i] != null) {
+                    i = (i + 1) & mascara;
+                }
+                claves[i] = clavesAntiguas[k];
+                valores[i] = valoresAntiguos[k];
+                hashes[i] = hashesAntiguos[k];
+            }
+        }
+    }
+
+    /**
+     * Muestra el estado actual de la tabla hash.
+     * 
+     * @return Una representación en cadena de la tabla hash.
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("TablaHashAbierta[tamaño=").append(tamaño).append("]\n");
+        for (int i = 0; i < claves.length; i++) {
+            if (claves[i] != null) {
+                sb.append(i).append(": [").append(claves[i]).append("=>").append(valores[i]).append("]\n");
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Método recursivo para mostrar todas las claves en la tabla hash.
+     * Divide las posiciones por la mitad en cada llamada, así que la
+     * profundidad es O(log n) y no desborda la pila con tablas grandes.
+     * 
+     * @return Una representación en cadena de todas las claves.
+     */
+    public String mostrarClaves() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Claves: [");
+        mostrarClavesRecursivo(0, claves.length, sb);
+        sb.append("]");
+        return sb.toString();
+    }
+
+    private void mostrarClavesRecursivo(int desde, int hasta, StringBuilder sb) {
+        if (hasta - desde == 1) {
+            if (claves[desde] != null) {
+                if (sb.charAt(sb.length() - 1) != '[') {
+                    sb.append(", ");
+                }
+                sb.append(claves[desde]);
+            }
+            return;
+        }
+        if (hasta <= desde) {
+            return;
+        }
+        int mitad = (desde + hasta) >>> 1;
+        mostrarClavesRecursivo(desde, mitad, sb);
+        mostrarClavesRecursivo(mitad, hasta, sb);
+    }
+}
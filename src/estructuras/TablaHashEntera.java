@@ -0,0 +1,192 @@
+package estructuras;
+
+/**
+ * Tabla Hash con claves de tipo int primitivo y direccionamiento abierto.
+ * Especialización de {@link TablaHashAbierta} que evita crear un Integer por
+ * cada clave: las claves viven en un int[] y los valores en un arreglo
+ * paralelo. Pensada para tablas de estado indexadas por id de jugador o
+ * asiento con cientos de miles de entradas.
+ * 
+ * Una posición está libre cuando su valor es null, por lo que no se admiten
+ * valores null.
+ */
+public class TablaHashEntera<V> {
+
+    private static final int CAPACIDAD_INICIAL = 16;
+    private static final double FACTOR_CARGA = 0.7;
+    private static final int FIBONACCI = 0x9E3779B9;
+
+    private int[] claves;
+    private Object[] valores;
+    private int tamaño;
+    private int umbralRehash;
+    private int desplazamiento;
+
+    /**
+     * Constructor de la tabla hash con capacidad por defecto.
+     */
+    public TablaHashEntera() {
+        this(CAPACIDAD_INICIAL);
+    }
+
+    /**
+     * Constructor con el número de entradas esperadas, para evitar rehash.
+     * 
+     * @param entradasEsperadas Número de entradas que se prevé almacenar.
+     */
+    public TablaHashEntera(int entradasEsperadas) {
+        if (entradasEsperadas < 0) {
+            throw new IllegalArgumentException("El número de entradas no puede ser negativo");
+        }
+        int capacidad = CAPACIDAD_INICIAL;
+        while (capacidad * FACTOR_CARGA < entradasEsperadas) {
+            capacidad <<= 1;
+        }
+        inicializar(capacidad);
+    }
+
+    private void inicializar(int capacidad) {
+        this.claves = new int[capacidad];
+        this.valores = new Object[capacidad];
+        this.umbralRehash = (int) (capacidad * FACTOR_CARGA);
+        this.desplazamiento = 32 - Integer.numberOfTrailingZeros(capacidad);
+    }
+
+    private int obtenerIndice(int clave) {
+        return ((clave ^ (clave >>> 16)) * FIBONACCI) >>> desplazamiento;
+    }
+
+    private int buscar(int clave) {
+        int mascara = claves.length - 1;
+        int i = obtenerIndice(clave);
+        while (valores[i] != null) {
+            if (claves[i] == clave) {
+                return i;
+            }
+            i = (i + 1) & mascara;
+        }
+        return -1;
+    }
+
+    /**
+     * Inserta o actualiza un par clave-valor en la tabla hash.
+     * 
+     * @param clave La clave a insertar o actualizar.
+     * @param valor El valor asociado a la clave.
+     * @throws IllegalArgumentException si el valor es null.
+     */
+    public void insertar(int clave, V valor) {
+        if (valor == null) {
+            throw new IllegalArgumentException("El valor no puede ser null");
+        }
+
+        int mascara = claves.length - 1;
+        int i = obtenerIndice(clave);
+        while (valores[i] != null) {
+            if (claves[i] == clave) {
+                valores[i] = valor;
+                return;
+            }
+            i = (i + 1) & mascara;
+        }
+
+        claves[i] = clave;
+        valores[i] = valor;
+        if (++tamaño > umbralRehash) {
+            rehash();
+        }
+    }
+
+    /**
+     * Obtiene el valor asociado a una clave.
+     * 
+     * @param clave La clave a buscar.
+     * @return El valor asociado a la clave o null si no existe.
+     */
+    @SuppressWarnings("unchecked")
+    public V obtener(int clave) {
+        int i = buscar(clave);
+        return i < 0 ? null : (V) valores[i];
+    }
+
+    /**
+     * Elimina una entrada de la tabla hash con desplazamiento hacia atrás.
+     * 
+     * @param clave La clave de la entrada a eliminar.
+     * @return El valor asociado a la clave eliminada o null si no existe.
+     */
+    @SuppressWarnings("unchecked")
+    public V eliminar(int clave) {
+        int hueco = buscar(clave);
+        if (hueco < 0) {
+            return null;
+        }
+
+        V valor = (V) valores[hueco];
+        int mascara = claves.length - 1;
+        int j = hueco;
+        while (true) {
+            j = (j + 1) & mascara;
+            if (valores[j] == null) {
+                break;
+            }
+            int ideal = obtenerIndice(claves[j]);
+            if (((j - ideal) & mascara) >= ((j - hueco) & mascara)) {
+                claves[hueco] = claves[j];
+                valores[hueco] = valores[j];
+                hueco = j;
+            }
+        }
+        valores[hueco] = null;
+        tamaño--;
+        return valor;
+    }
+
+    /**
+     * Verifica si la tabla hash contiene una clave.
+     * 
+     * @param clave La clave a verificar.
+     * @return true si la clave existe, false en caso contrario.
+     */
+    public boolean contiene(int clave) {
+        return buscar(clave) >= 0;
+    }
+
+    public int tamaño() {
+        return tamaño;
+    }
+
+    public boolean estaVacia() {
+        return tamaño == 0;
+    }
+
+    private void rehash() {
+        int[] clavesAntiguas = claves;
+        Object[] valoresAntiguos = valores;
+        inicializar(clavesAntiguas.length * 2);
+
+        int mascara = claves.length - 1;
+        for (int k = 0; k < clavesAntiguas.length; k++) {
+            if (valoresAntiguos[k] != null) {
+                int i = obtenerIndice(clavesAntiguas[k]);
+                while (valores[i] != null) {
+                    i = (i + 1) & mascara;
+                }
+                claves[i] = clavesAntiguas[k];
+                valores[i] = valoresAntiguos[k];
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("TablaHashEntera[tamaño=").append(tamaño).append("]\n");
+        for (int i = 0; i < claves.length; i++) {
+            if (valores[i] != null) {
+                sb.append(i).append(": [").append(claves[i]).append("=>").append(valores[i]).append("]\n");
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,111 @@
+package historial;
+
+import juego.ResultadoRonda;
+
+/**
+ * Filtros de una consulta sobre {@link IndiceManos}. Cada filtro que se fija
+ * se resuelve con un índice; los que no se fijan no restringen.
+ *
+ * <pre>
+ *   // Manos que Bot 1 perdió con 20 contra un 10 del Dealer
+ *   new ConsultaManos().jugador("Bot 1").resultado(ResultadoRonda.DERROTA)
+ *           .puntajeFinal(20).cartaVisible(10)
+ * </pre>
+ */
+public class ConsultaManos {
+
+    static final int SIN_FILTRO = -1;
+
+    String jugador;
+    ResultadoRonda resultado;
+    int cartaVisible = SIN_FILTRO;
+    int manoInicial = SIN_FILTRO;
+    int puntajeFinal = SIN_FILTRO;
+
+    /**
+     * Filtra por nombre de jugador.
+     *
+     * @param jugador El nombre del jugador.
+     * @return Esta consulta.
+     */
+    public ConsultaManos jugador(String jugador) {
+        if (jugador == null) {
+            throw new IllegalArgumentException("El nombre del jugador no puede ser null");
+        }
+        this.jugador = jugador;
+        return this;
+    }
+
+    /**
+     * Filtra por resultado para el jugador.
+     *
+     * @param resultado El resultado buscado.
+     * @return Esta consulta.
+     */
+    public ConsultaManos resultado(ResultadoRonda resultado) {
+        if (resultado == null) {
+            throw new IllegalArgumentException("El resultado no puede ser null");
+        }
+        this.resultado = resultado;
+        return this;
+    }
+
+    /**
+     * Filtra por el valor de la carta visible del Dealer.
+     *
+     * @param valor El valor de la carta (1 = As, 10 incluye J, Q, K).
+     * @return Esta consulta.
+     */
+    public ConsultaManos cartaVisible(int valor) {
+        if (valor < 1 || valor > 10) {
+            throw new IllegalArgumentException("Valor de carta visible fuera de rango [1,10]: " + valor);
+        }
+        this.cartaVisible = valor;
+        return this;
+    }
+
+    /**
+     * Filtra por el puntaje de las dos primeras cartas.
+     *
+     * @param puntaje El puntaje inicial (4..21).
+     * @param suave   true para manos suaves (con un As que cuenta 11).
+     * @return Esta consulta.
+     */
+    public ConsultaManos manoInicial(int puntaje, boolean suave) {
+        if (puntaje < 2 || puntaje > 21) {
+            throw new IllegalArgumentException("Puntaje inicial fuera de rango [2,21]: " + puntaje);
+        }
+        this.manoInicial = IndiceManos.claveTotal(puntaje, suave);
+        return this;
+    }
+
+    /**
+     * Filtra por manos iniciales que son un par. Reemplaza al filtro de
+     * {@link #manoInicial(int, boolean)}.
+     *
+     * @param valor El valor de cada carta del par (1 = As, 10).
+     * @return Esta consulta.
+     */
+    public ConsultaManos par(int valor) {
+        if (valor < 1 || valor > 10) {
+            throw new IllegalArgumentException("Valor del par fuera de rango [1,10]: " + valor);
+        }
+        this.manoInicial = IndiceManos.clavePar(valor);
+        return this;
+    }
+
+    /**
+     * Filtra por el puntaje final del jugador.
+     *
+     * @param puntaje El puntaje final (más de 21 si se pasó).
+     * @return Esta consulta.
+     */
+    public ConsultaManos puntajeFinal(int puntaje) {
+        if (puntaje < 2 || puntaje > IndiceManos.PUNTAJE_MAXIMO) {
+            throw new IllegalArgumentException("Puntaje final fuera de rango [2,"
+                    + IndiceManos.PUNTAJE_MAXIMO + "]: " + puntaje);
+        }
+        this.puntajeFinal = puntaje;
+        return this;
+    }
+}
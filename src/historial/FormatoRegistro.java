@@ -0,0 +1,51 @@
+package historial;
+
+import java.nio.file.Path;
+
+/**
+ * Formato binario del registro de manos, compartido por el escritor y el lector.
+ *
+ * El registro es una serie de segmentos {@code manos-000000.seg},
+ * {@code manos-000001.seg}, ... de tamaño fijo. Cada segmento empieza con una
+ * cabecera (número mágico y versión) y sigue con registros:
+ *
+ * <pre>
+ *   int   longitud del contenido (0 = fin de los datos del segmento)
+ *   int   CRC32 del contenido
+ *   contenido:
+ *     long  ID de la partida
+ *     byte  número de nombres; por cada uno: byte longitud + UTF-8
+ *     byte  índice del ganador en los nombres (-1 = empate)
+ *     short longitud del resultado + UTF-8
+ *     short número de jugadas; por cada una:
+ *           byte código de carta (-1 = plantarse), byte índice del jugador,
+ *           byte puntaje resultante
+ * </pre>
+ *
+ * El espacio sin usar al final de un segmento queda en ceros.
+ */
+final class FormatoRegistro {
+
+    static final int MAGIA = 0x424A4B48; // "BJKH"
+    static final int VERSION = 1;
+    static final int CABECERA_SEGMENTO = 8;
+    static final int CABECERA_REGISTRO = 8;
+
+    static final byte CARTA_PLANTARSE = -1;
+    static final byte SIN_GANADOR = -1;
+
+    static final int MAX_NOMBRES = 127;
+    static final int MAX_BYTES_NOMBRE = 255;
+    static final int MAX_BYTES_RESULTADO = 65_535;
+    static final int MAX_JUGADAS = 65_535;
+
+    private FormatoRegistro() {
+    }
+
+    /**
+     * Ruta del segmento con el número indicado dentro del directorio.
+     */
+    static Path segmento(Path directorio, int numero) {
+        return directorio.resolve(String.format("manos-%06d.seg", numero));
+    }
+}
@@ -0,0 +1,418 @@
+package historial;
+
+import estructuras.ListaArreglo;
+import estructuras.TablaHashAbierta;
+import juego.EstadisticasSimulacion;
+import juego.Partida;
+import juego.Partida.JugadaCarta;
+import juego.ResultadoRonda;
+import modelo.Carta;
+import modelo.Dealer;
+
+import java.io.IOException;
+
+/**
+ * Motor de consultas sobre historiales de {@link Partida}.
+ *
+ * Cada partida agregada se descompone en una {@link ManoIndexada} por jugador
+ * (que no retiene la partida, solo su posición en el registro) y se anota en índices secundarios que crecen con cada anexado: por jugador,
+ * por resultado, por mano inicial (total duro o suave y pares), por carta
+ * visible del Dealer y por puntaje final. Cada índice es una lista ordenada
+ * de posiciones, así que una {@link ConsultaManos} recorre la lista más corta
+ * de sus filtros y confirma cada candidata en las demás con búsqueda
+ * exponencial, sin recorrer todo el historial.
+ *
+ * El resumen por mano inicial (tasa de victorias, ventaja de la casa) se
+ * acumula al agregar, por lo que se consulta en O(1).
+ *
+ * Implementación para un solo hilo.
+ */
+public class IndiceManos {
+
+    // Puntaje final más alto posible: 20 más una figura
+    static final int PUNTAJE_MAXIMO = 30;
+
+    // Claves de mano inicial: totales duros (0..31), suaves (32..63), pares (64..74)
+    private static final int CLAVE_SUAVE = 32;
+    private static final int CLAVE_PAR = 64;
+    private static final int CLAVES_MANO_INICIAL = CLAVE_PAR + 11;
+
+    private ManoIndexada[] manos = new ManoIndexada[1024];
+    private int tamaño;
+    private long partidas;
+
+    private final TablaHashAbierta<String, ListaPosiciones> porJugador = new TablaHashAbierta<>();
+    private final ListaPosiciones[] porResultado = new ListaPosiciones[ResultadoRonda.values().length];
+    private final ListaPosiciones[] porCartaVisible = new ListaPosiciones[11];
+    private final ListaPosiciones[] porManoInicial = new ListaPosiciones[CLAVES_MANO_INICIAL];
+    private final ListaPosiciones[] porPuntajeFinal = new ListaPosiciones[PUNTAJE_MAXIMO + 1];
+    private final EstadisticasSimulacion[] resumenManoInicial = new EstadisticasSimulacion[CLAVES_MANO_INICIAL];
+
+    // Arreglo de trabajo reutilizado entre partidas
+    private JugadaCarta[] jugadas = new JugadaCarta[32];
+
+    static int claveTotal(int puntaje, boolean suave) {
+        return suave ? CLAVE_SUAVE + puntaje : puntaje;
+    }
+
+    static int clavePar(int valor) {
+        return CLAVE_PAR + valor;
+    }
+
+    /**
+     * Agrega una partida e indexa la mano de cada jugador contra el Dealer.
+     * Las manos sin dos cartas del jugador y del Dealer no se indexan. La
+     * partida no queda en el índice, así que sus manos no se pueden volver a
+     * leer con {@link ManoIndexada#leerPartida(LectorRegistro)}; las de
+     * {@link #agregarTodas(LectorRegistro)} sí.
+     * Complejidad: O(j * p) con j jugadas y p jugadores de la partida.
+     *
+     * @param partida La partida terminada.
+     * @return El número de manos indexadas.
+     */
+    public int agregar(Partida partida) {
+        return agregar(partida, ManoIndexada.SIN_POSICION, ManoIndexada.SIN_POSICION);
+    }
+
+    private int agregar(Partida partida, int segmento, int posicion) {
+        if (partida == null) {
+            throw new IllegalArgumentException("La partida no puede ser null");
+        }
+        int total = partida.getTotalJugadas();
+        if (jugadas.length < total) {
+            jugadas = new JugadaCarta[Math.max(total, jugadas.length * 2)];
+        }
+        partida.copiarJugadas(jugadas);
+        partidas++;
+
+        // Mano del Dealer: carta visible, Blackjack y puntaje final
+        Carta cartaVisible = null;
+        int cartasDealer = 0;
+        int puntajeDealer = 0;
+        boolean blackjackDealer = false;
+        for (int i = 0; i < total; i++) {
+            JugadaCarta jugada = jugadas[i];
+            if (!jugada.getNombreJugador().equals(Dealer.NOMBRE) || jugada.esPlantarse()) {
+                continue;
+            }
+            if (cartasDealer == 0) {
+                cartaVisible = jugada.getCarta();
+            }
+            cartasDealer++;
+            puntajeDealer = jugada.getPuntajeResultante();
+            blackjackDealer = cartasDealer == 2 && puntajeDealer == 21;
+        }
+
+        int indexadas = 0;
+        if (cartasDealer >= 2) {
+            for (int i = 0; i < total; i++) {
+                String nombre = jugadas[i].getNombreJugador();
+                if (!nombre.equals(Dealer.NOMBRE) && primeraAparicion(nombre, i)
+                        && indexarJugador(partida.getId(), segmento, posicion, nombre, cartaVisible, puntajeDealer,
+                                blackjackDealer, total)) {
+                    indexadas++;
+                }
+            }
+        }
+
+        for (int i = 0; i < total; i++) {
+            jugadas[i] = null;
+        }
+        return indexadas;
+    }
+
+    private boolean primeraAparicion(String nombre, int indice) {
+        for (int i = 0; i < indice; i++) {
+            if (jugadas[i].getNombreJugador().equals(nombre)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean indexarJugador(long idPartida, int segmento, int posicion, String nombre, Carta cartaVisible,
+            int puntajeDealer, boolean blackjackDealer, int total) {
+        Carta primera = null;
+        Carta segunda = null;
+        int cartas = 0;
+        int puntaje = 0;
+        boolean blackjack = false;
+        for (int i = 0; i < total; i++) {
+            JugadaCarta jugada = jugadas[i];
+            if (!jugada.getNombreJugador().equals(nombre)) {
+                continue;
+            }
+            puntaje = jugada.getPuntajeResultante();
+            if (jugada.esPlantarse()) {
+                continue;
+            }
+            cartas++;
+            if (cartas == 1) {
+                primera = jugada.getCarta();
+            } else if (cartas == 2) {
+                segunda = jugada.getCarta();
+            }
+            blackjack = cartas == 2 && puntaje == 21;
+        }
+        if (cartas < 2 || puntaje > PUNTAJE_MAXIMO) {
+            return false;
+        }
+
+        ResultadoRonda resultado = ResultadoRonda.determinar(puntaje, blackjack, puntajeDealer, blackjackDealer);
+        indexar(new ManoIndexada(idPartida, segmento, posicion, nombre, primera, segunda, cartaVisible, cartas - 2,
+                puntaje, puntajeDealer, resultado));
+        return true;
+    }
+
+    private void indexar(ManoIndexada mano) {
+        if (tamaño == manos.length) {
+            ManoIndexada[] nuevas = new ManoIndexada[manos.length * 2];
+            System.arraycopy(manos, 0, nuevas, 0, tamaño);
+            manos = nuevas;
+        }
+        int posicion = tamaño++;
+        manos[posicion] = mano;
+
+        ListaPosiciones delJugador = porJugador.obtener(mano.getJugador());
+        if (delJugador == null) {
+            delJugador = new ListaPosiciones();
+            porJugador.insertar(mano.getJugador(), delJugador);
+        }
+        delJugador.agregar(posicion);
+        anotar(porResultado, mano.getResultado().ordinal(), posicion);
+        anotar(porCartaVisible, mano.getCartaVisible().getValorNumerico(), posicion);
+        anotar(porPuntajeFinal, mano.getPuntajeFinal(), posicion);
+
+        int clave = claveTotal(mano.getPuntajeInicial(), mano.esSuave());
+        anotar(porManoInicial, clave, posicion);
+        resumen(clave).registrar(mano.getResultado());
+        if (mano.esPar()) {
+            clave = clavePar(mano.getPrimeraCarta().getValorNumerico());
+            anotar(porManoInicial, clave, posicion);
+            resumen(clave).registrar(mano.getResultado());
+        }
+    }
+
+    private static void anotar(ListaPosiciones[] indice, int clave, int posicion) {
+        if (indice[clave] == null) {
+            indice[clave] = new ListaPosiciones();
+        }
+        indice[clave].agregar(posicion);
+    }
+
+    private EstadisticasSimulacion resumen(int clave) {
+        if (resumenManoInicial[clave] == null) {
+            resumenManoInicial[clave] = new EstadisticasSimulacion();
+        }
+        return resumenManoInicial[clave];
+    }
+
+    /**
+     * Agrega todas las partidas que quedan en un lector del registro. Cada
+     * mano guarda la posición de su partida para volver a leerla.
+     *
+     * @param lector El lector del registro de manos.
+     * @return El número de partidas agregadas.
+     * @throws IOException si falla la lectura del registro.
+     */
+    public long agregarTodas(LectorRegistro lector) throws IOException {
+        long agregadas = 0;
+        Partida partida;
+        while ((partida = lector.siguiente()) != null) {
+            agregar(partida, lector.getSegmentoActual(), lector.getPosicionUltima());
+            agregadas++;
+        }
+        return agregadas;
+    }
+
+    /**
+     * Devuelve las manos que cumplen todos los filtros, en orden de llegada.
+     * Complejidad: O(k log n) con k el tamaño del índice más selectivo de la
+     * consulta; sin filtros recorre todas las manos.
+     *
+     * @param consulta Los filtros de la consulta.
+     * @return Las manos encontradas.
+     */
+    public ListaArreglo<ManoIndexada> consultar(ConsultaManos consulta) {
+        ListaArreglo<ManoIndexada> encontradas = new ListaArreglo<>();
+        recorrer(consulta, encontradas, null);
+        return encontradas;
+    }
+
+    /**
+     * Cuenta las manos que cumplen todos los filtros sin crear la lista.
+     *
+     * @param consulta Los filtros de la consulta.
+     * @return El número de manos encontradas.
+     */
+    public int contar(ConsultaManos consulta) {
+        return recorrer(consulta, null, null);
+    }
+
+    /**
+     * Acumula los resultados de las manos que cumplen los filtros.
+     *
+     * @param consulta Los filtros de la consulta.
+     * @return Victorias, derrotas, empates y ventaja de la casa de esas manos.
+     */
+    public EstadisticasSimulacion resumir(ConsultaManos consulta) {
+        EstadisticasSimulacion resumen = new EstadisticasSimulacion();
+        recorrer(consulta, null, resumen);
+        return resumen;
+    }
+
+    /**
+     * Resumen acumulado de las manos con un total inicial.
+     * Complejidad: O(1)
+     *
+     * @param puntaje El puntaje de las dos primeras cartas.
+     * @param suave   true para manos suaves.
+     * @return Una copia de los resultados de esas manos.
+     */
+    public EstadisticasSimulacion resumenManoInicial(int puntaje, boolean suave) {
+        if (puntaje < 2 || puntaje > 21) {
+            throw new IllegalArgumentException("Puntaje inicial fuera de rango [2,21]: " + puntaje);
+        }
+        return copiarResumen(claveTotal(puntaje, suave));
+    }
+
+    /**
+     * Resumen acumulado de las manos iniciales que son un par.
+     * Complejidad: O(1)
+     *
+     * @param valor El valor de cada carta del par (1 = As, 10).
+     * @return Una copia de los resultados de esas manos.
+     */
+    public EstadisticasSimulacion resumenPar(int valor) {
+        if (valor < 1 || valor > 10) {
+            throw new IllegalArgumentException("Valor del par fuera de rango [1,10]: " + valor);
+        }
+        return copiarResumen(clavePar(valor));
+    }
+
+    private EstadisticasSimulacion copiarResumen(int clave) {
+        EstadisticasSimulacion copia = new EstadisticasSimulacion();
+        return resumenManoInicial[clave] == null ? copia : copia.combinar(resumenManoInicial[clave]);
+    }
+
+    /**
+     * Interseca los índices de la consulta y entrega cada mano encontrada a
+     * la lista y al resumen que no sean null.
+     */
+    private int recorrer(ConsultaManos consulta, ListaArreglo<ManoIndexada> encontradas,
+            EstadisticasSimulacion resumen) {
+        if (consulta == null) {
+            throw new IllegalArgumentException("La consulta no puede ser null");
+        }
+
+        ListaPosiciones[] listas = new ListaPosiciones[5];
+        int totalListas = 0;
+        boolean vacia = false;
+        if (consulta.jugador != null) {
+            vacia |= (listas[totalListas++] = porJugador.obtener(consulta.jugador)) == null;
+        }
+        if (consulta.resultado != null) {
+            vacia |= (listas[totalListas++] = porResultado[consulta.resultado.ordinal()]) == null;
+        }
+        if (consulta.cartaVisible != ConsultaManos.SIN_FILTRO) {
+            vacia |= (listas[totalListas++] = porCartaVisible[consulta.cartaVisible]) == null;
+        }
+        if (consulta.manoInicial != ConsultaManos.SIN_FILTRO) {
+            vacia |= (listas[totalListas++] = porManoInicial[consulta.manoInicial]) == null;
+        }
+        if (consulta.puntajeFinal != ConsultaManos.SIN_FILTRO) {
+            vacia |= (listas[totalListas++] = porPuntajeFinal[consulta.puntajeFinal]) == null;
+        }
+        if (vacia) {
+            return 0;
+        }
+
+        if (totalListas == 0) {
+            for (int i = 0; i < tamaño; i++) {
+                entregar(manos[i], encontradas, resumen);
+            }
+            return tamaño;
+        }
+
+        // La lista más corta guía el recorrido
+        for (int i = 1; i < totalListas; i++) {
+            ListaPosiciones lista = listas[i];
+            int j = i - 1;
+            while (j >= 0 && listas[j].tamaño() > lista.tamaño()) {
+                listas[j + 1] = listas[j];
+                j--;
+            }
+            listas[j + 1] = lista;
+        }
+
+        int[] cursores = new int[totalListas];
+        int coincidencias = 0;
+        ListaPosiciones guia = listas[0];
+        for (int i = 0; i < guia.tamaño(); i++) {
+            int posicion = guia.obtener(i);
+            boolean enTodas = true;
+            for (int k = 1; k < totalListas; k++) {
+                cursores[k] = listas[k].buscarDesde(posicion, cursores[k]);
+                if (cursores[k] == listas[k].tamaño()) {
+                    return coincidencias;
+                }
+                if (listas[k].obtener(cursores[k]) != posicion) {
+                    enTodas = false;
+                    break;
+                }
+            }
+            if (enTodas) {
+                entregar(manos[posicion], encontradas, resumen);
+                coincidencias++;
+            }
+        }
+        return coincidencias;
+    }
+
+    private static void entregar(ManoIndexada mano, ListaArreglo<ManoIndexada> encontradas,
+            EstadisticasSimulacion resumen) {
+        if (encontradas != null) {
+            encontradas.agregar(mano);
+        }
+        if (resumen != null) {
+            resumen.registrar(mano.getResultado());
+        }
+    }
+
+    /**
+     * Tabla de resultados por mano inicial: manos, porcentaje de victorias y
+     * ganancia media por mano.
+     *
+     * @return Una representación en cadena de la tabla.
+     */
+    public String mostrarManosIniciales() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Mano inicial      Manos   Victorias   Ganancia/mano\n");
+        for (int clave = 0; clave < CLAVES_MANO_INICIAL; clave++) {
+            EstadisticasSimulacion resumen = resumenManoInicial[clave];
+            if (resumen == null) {
+                continue;
+            }
+            String titulo = clave >= CLAVE_PAR ? "Par de " + (clave == CLAVE_PAR + 1 ? "A" : clave - CLAVE_PAR)
+                    : (clave >= CLAVE_SUAVE ? "Suave " + (clave - CLAVE_SUAVE) : "Duro " + clave);
+            sb.append(String.format("%-12s %,10d %10.2f%% %+15.4f%n", titulo, resumen.getManos(),
+                    resumen.getVictorias() * 100.0 / resumen.getManos(), -resumen.getVentajaCasa()));
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Obtiene el número de manos indexadas.
+     *
+     * @return Las manos indexadas.
+     */
+    public int tamaño() {
+        return tamaño;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("IndiceManos [%,d partidas, %,d manos, %d jugadores]",
+                partidas, tamaño, porJugador.tamaño());
+    }
+}
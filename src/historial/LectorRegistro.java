@@ -0,0 +1,251 @@
+package historial;
+
+import estructuras.TablaHashAbierta;
+import juego.Partida;
+import modelo.Carta;
+import modelo.Dealer;
+import modelo.Jugador;
+import salida.SalidaNula;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Lector secuencial del registro de manos que reconstruye cada {@link Partida}.
+ *
+ * Recorre los segmentos en orden proyectándolos en memoria de solo lectura y
+ * entrega una partida por llamada a {@link #siguiente()}, así que reproducir
+ * un historial de miles de millones de manos no necesita tenerlo en el heap.
+ * Un registro con CRC incorrecto (una escritura cortada) termina la lectura
+ * de su segmento. {@link #leer(int, int)} vuelve a leer una partida concreta
+ * a partir de su posición.
+ *
+ * Los jugadores se comparten por nombre entre las partidas reconstruidas y
+ * sus victorias se vuelven a contar, de modo que al terminar reflejan el
+ * historial completo.
+ */
+public class LectorRegistro {
+
+    private final Path directorio;
+    private final CRC32 crc = new CRC32();
+    private final TablaHashAbierta<String, Jugador> jugadores = new TablaHashAbierta<>();
+
+    private MappedByteBuffer buffer;
+    private int numeroSegmento = -1;
+    private int posicionUltima = -1;
+    private long partidasLeidas;
+
+    // Segmento proyectado para leer(), aparte del de la lectura secuencial
+    private MappedByteBuffer segmentoLeido;
+    private int numeroLeido = -1;
+
+    // Nombres del registro actual, reutilizado entre registros
+    private Jugador[] nombres = new Jugador[8];
+    private byte[] textoLeido = new byte[64];
+
+    /**
+     * Constructor del lector.
+     *
+     * @param directorio El directorio con los segmentos del registro.
+     */
+    public LectorRegistro(Path directorio) {
+        this.directorio = directorio;
+    }
+
+    /**
+     * Lee y reconstruye la siguiente partida del registro.
+     *
+     * @return La partida, o null si no quedan más.
+     * @throws IOException si falla la lectura de un segmento.
+     */
+    public Partida siguiente() throws IOException {
+        while (true) {
+            if (buffer == null && !abrirSiguienteSegmento()) {
+                return null;
+            }
+            int longitud = longitudValida(buffer, buffer.position(), crc);
+            if (longitud < 0) {
+                buffer = null;
+                continue;
+            }
+            posicionUltima = buffer.position();
+            buffer.position(posicionUltima + FormatoRegistro.CABECERA_REGISTRO);
+            partidasLeidas++;
+            return decodificar(buffer, true);
+        }
+    }
+
+    /**
+     * Lee y reconstruye la partida guardada en una posición conocida del
+     * registro, por ejemplo la de una mano indexada. No cambia la lectura
+     * secuencial ni vuelve a contar las victorias.
+     * Complejidad: O(j) con j el número de jugadas; proyecta el segmento si
+     * no es el de la lectura anterior.
+     *
+     * @param segmento El número de segmento.
+     * @param posicion La posición del registro dentro del segmento (ver
+     *                 {@link #getPosicionUltima()}).
+     * @return La partida guardada en esa posición.
+     * @throws IOException si el segmento no existe o no hay un registro
+     *                     válido en esa posición.
+     */
+    public Partida leer(int segmento, int posicion) throws IOException {
+        if (segmento != numeroLeido) {
+            segmentoLeido = proyectar(segmento);
+            numeroLeido = segmento;
+        }
+        if (posicion < FormatoRegistro.CABECERA_SEGMENTO || longitudValida(segmentoLeido, posicion, crc) < 0) {
+            throw new IOException("No hay un registro válido en la posición " + posicion + " del segmento "
+                    + segmento);
+        }
+        ByteBuffer contenido = segmentoLeido.duplicate();
+        contenido.position(posicion + FormatoRegistro.CABECERA_REGISTRO);
+        return decodificar(contenido, false);
+    }
+
+    private Partida decodificar(ByteBuffer registro, boolean contarVictoria) {
+        Partida partida = new Partida(registro.getLong(), SalidaNula.INSTANCIA);
+
+        int totalNombres = registro.get();
+        if (nombres.length < totalNombres) {
+            nombres = new Jugador[totalNombres];
+        }
+        for (int i = 0; i < totalNombres; i++) {
+            nombres[i] = jugador(leerTexto(registro, registro.get() & 0xFF));
+        }
+        int indiceGanador = registro.get();
+        String resultado = leerTexto(registro, registro.getShort() & 0xFFFF);
+
+        int totalJugadas = registro.getShort() & 0xFFFF;
+        for (int i = 0; i < totalJugadas; i++) {
+            int codigo = registro.get();
+            Jugador jugador = nombres[registro.get()];
+            int puntaje = registro.get();
+            Carta carta = codigo == FormatoRegistro.CARTA_PLANTARSE ? null : Carta.obtener(codigo);
+            partida.agregarJugada(carta, jugador.getNombre(), puntaje);
+        }
+
+        Jugador ganador = indiceGanador == FormatoRegistro.SIN_GANADOR ? null : nombres[indiceGanador];
+        if (ganador != null && contarVictoria) {
+            ganador.incrementarPartidasGanadas();
+        }
+        partida.restaurarResultado(ganador, resultado);
+        return partida;
+    }
+
+    private String leerTexto(ByteBuffer registro, int longitud) {
+        if (textoLeido.length < longitud) {
+            textoLeido = new byte[Math.max(longitud, textoLeido.length * 2)];
+        }
+        registro.get(textoLeido, 0, longitud);
+        return new String(textoLeido, 0, longitud, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Obtiene el jugador compartido con ese nombre, creándolo la primera vez.
+     */
+    private Jugador jugador(String nombre) {
+        Jugador jugador = jugadores.obtener(nombre);
+        if (jugador == null) {
+            jugador = nombre.equals(Dealer.NOMBRE) ? new Dealer() : new Jugador(nombre);
+            jugadores.insertar(nombre, jugador);
+        }
+        return jugador;
+    }
+
+    private boolean abrirSiguienteSegmento() throws IOException {
+        Path ruta = FormatoRegistro.segmento(directorio, numeroSegmento + 1);
+        if (!Files.exists(ruta)) {
+            return false;
+        }
+        numeroSegmento++;
+        buffer = proyectar(numeroSegmento);
+        buffer.position(FormatoRegistro.CABECERA_SEGMENTO);
+        return true;
+    }
+
+    /**
+     * Proyecta un segmento en memoria de solo lectura y comprueba su cabecera.
+     */
+    private MappedByteBuffer proyectar(int numero) throws IOException {
+        Path ruta = FormatoRegistro.segmento(directorio, numero);
+        MappedByteBuffer segmento;
+        try (FileChannel canal = FileChannel.open(ruta, StandardOpenOption.READ)) {
+            segmento = canal.map(FileChannel.MapMode.READ_ONLY, 0, canal.size());
+        }
+        if (segmento.capacity() < FormatoRegistro.CABECERA_SEGMENTO
+                || segmento.getInt(0) != FormatoRegistro.MAGIA
+                || segmento.getInt(Integer.BYTES) != FormatoRegistro.VERSION) {
+            throw new IOException("El segmento " + ruta + " no es un registro de manos válido");
+        }
+        return segmento;
+    }
+
+    /**
+     * Comprueba el registro que empieza en una posición del segmento.
+     *
+     * @return La longitud de su contenido, o -1 si no hay un registro válido
+     *         (fin de los datos, registro incompleto o CRC incorrecto).
+     */
+    static int longitudValida(ByteBuffer segmento, int posicion, CRC32 crc) {
+        if (segmento.capacity() - posicion < FormatoRegistro.CABECERA_REGISTRO) {
+            return -1;
+        }
+        int longitud = segmento.getInt(posicion);
+        int inicio = posicion + FormatoRegistro.CABECERA_REGISTRO;
+        if (longitud <= 0 || longitud > segmento.capacity() - inicio) {
+            return -1;
+        }
+        ByteBuffer contenido = segmento.duplicate();
+        contenido.position(inicio).limit(inicio + longitud);
+        crc.reset();
+        crc.update(contenido);
+        return (int) crc.getValue() == segmento.getInt(posicion + Integer.BYTES) ? longitud : -1;
+    }
+
+    /**
+     * Obtiene el jugador reconstruido con un nombre, con las victorias leídas
+     * hasta ahora.
+     *
+     * @param nombre El nombre del jugador.
+     * @return El jugador o null si no apareció en el registro.
+     */
+    public Jugador getJugador(String nombre) {
+        return jugadores.obtener(nombre);
+    }
+
+    /**
+     * Obtiene el segmento de la última partida devuelta por siguiente().
+     *
+     * @return El número de segmento, o -1 si aún no se leyó ninguna.
+     */
+    public int getSegmentoActual() {
+        return numeroSegmento;
+    }
+
+    /**
+     * Obtiene la posición dentro de su segmento de la última partida devuelta
+     * por siguiente(), para volver a leerla con {@link #leer(int, int)}.
+     *
+     * @return La posición del registro, o -1 si aún no se leyó ninguna.
+     */
+    public int getPosicionUltima() {
+        return posicionUltima;
+    }
+
+    /**
+     * Obtiene el número de partidas leídas.
+     *
+     * @return Las partidas leídas.
+     */
+    public long getPartidasLeidas() {
+        return partidasLeidas;
+    }
+}
@@ -0,0 +1,63 @@
+package historial;
+
+/**
+ * Lista creciente de posiciones (int primitivos) de un índice secundario.
+ * Las posiciones se agregan siempre en orden ascendente, así que la lista
+ * queda ordenada y se puede intersecar con búsqueda exponencial.
+ */
+final class ListaPosiciones {
+
+    private int[] posiciones = new int[8];
+    private int tamaño;
+
+    /**
+     * Agrega una posición mayor que todas las anteriores.
+     * Complejidad: O(1) amortizado.
+     */
+    void agregar(int posicion) {
+        if (tamaño == posiciones.length) {
+            int[] nuevas = new int[posiciones.length * 2];
+            System.arraycopy(posiciones, 0, nuevas, 0, tamaño);
+            posiciones = nuevas;
+        }
+        posiciones[tamaño++] = posicion;
+    }
+
+    int obtener(int indice) {
+        return posiciones[indice];
+    }
+
+    int tamaño() {
+        return tamaño;
+    }
+
+    /**
+     * Busca la primera posición mayor o igual que el valor, empezando en un
+     * índice conocido: salta en potencias de dos y luego busca en binario.
+     * Complejidad: O(log d) con d la distancia recorrida.
+     *
+     * @return El índice encontrado, o tamaño() si todas son menores.
+     */
+    int buscarDesde(int valor, int desde) {
+        int bajo = desde;
+        int salto = 1;
+        int alto = desde;
+        while (alto < tamaño && posiciones[alto] < valor) {
+            bajo = alto + 1;
+            alto = desde + salto;
+            salto <<= 1;
+        }
+        if (alto > tamaño) {
+            alto = tamaño;
+        }
+        while (bajo < alto) {
+            int medio = (bajo + alto) >>> 1;
+            if (posiciones[medio] < valor) {
+                bajo = medio + 1;
+            } else {
+                alto = medio;
+            }
+        }
+        return bajo;
+    }
+}
@@ -0,0 +1,157 @@
+package historial;
+
+import juego.Partida;
+import juego.ResultadoRonda;
+import modelo.Carta;
+
+import java.io.IOException;
+
+/**
+ * La mano de un jugador dentro de una {@link Partida} con los datos que usan
+ * los índices: mano inicial, carta visible del Dealer, puntajes finales y
+ * resultado para el jugador.
+ *
+ * No guarda la partida: solo su ID y, si vino del registro, el segmento y la
+ * posición donde está, para volver a leerla con
+ * {@link #leerPartida(LectorRegistro)}. Las cartas y los puntajes se guardan
+ * como bytes, así que el índice ocupa poco aunque el historial sea grande.
+ */
+public final class ManoIndexada {
+
+    /** Segmento y posición de una mano que no se leyó del registro. */
+    public static final int SIN_POSICION = -1;
+
+    private final long idPartida;
+    private final int segmento;
+    private final int posicion;
+    private final String jugador;
+    private final ResultadoRonda resultado;
+    private final byte primeraCarta;
+    private final byte segundaCarta;
+    private final byte cartaVisible;
+    private final byte puntajeInicial;
+    private final byte cartasPedidas;
+    private final byte puntajeFinal;
+    private final byte puntajeDealer;
+    private final boolean suave;
+
+    ManoIndexada(long idPartida, int segmento, int posicion, String jugador, Carta primeraCarta,
+            Carta segundaCarta, Carta cartaVisible, int cartasPedidas, int puntajeFinal, int puntajeDealer,
+            ResultadoRonda resultado) {
+        this.idPartida = idPartida;
+        this.segmento = segmento;
+        this.posicion = posicion;
+        this.jugador = jugador;
+        this.primeraCarta = (byte) primeraCarta.getCodigo();
+        this.segundaCarta = (byte) segundaCarta.getCodigo();
+        int duro = primeraCarta.getValorNumerico() + segundaCarta.getValorNumerico();
+        this.suave = (primeraCarta.esAs() || segundaCarta.esAs()) && duro + 10 <= 21;
+        this.puntajeInicial = (byte) (suave ? duro + 10 : duro);
+        this.cartaVisible = (byte) cartaVisible.getCodigo();
+        this.cartasPedidas = (byte) cartasPedidas;
+        this.puntajeFinal = (byte) puntajeFinal;
+        this.puntajeDealer = (byte) puntajeDealer;
+        this.resultado = resultado;
+    }
+
+    public long getIdPartida() {
+        return idPartida;
+    }
+
+    /**
+     * Obtiene el segmento del registro que guarda la partida.
+     *
+     * @return El número de segmento, o {@link #SIN_POSICION} si la partida no
+     *         se leyó del registro.
+     */
+    public int getSegmento() {
+        return segmento;
+    }
+
+    /**
+     * Obtiene la posición de la partida dentro de su segmento.
+     *
+     * @return La posición, o {@link #SIN_POSICION} si la partida no se leyó
+     *         del registro.
+     */
+    public int getPosicion() {
+        return posicion;
+    }
+
+    /**
+     * Vuelve a leer del registro la partida completa de la mano.
+     *
+     * @param lector Un lector del mismo registro del que se indexó la mano.
+     * @return La partida reconstruida.
+     * @throws IOException si falla la lectura del registro.
+     * @throws IllegalStateException si la mano no se indexó desde el registro.
+     */
+    public Partida leerPartida(LectorRegistro lector) throws IOException {
+        if (segmento == SIN_POSICION) {
+            throw new IllegalStateException("La partida #" + idPartida + " no se indexó desde el registro");
+        }
+        return lector.leer(segmento, posicion);
+    }
+
+    public String getJugador() {
+        return jugador;
+    }
+
+    public Carta getPrimeraCarta() {
+        return Carta.obtener(primeraCarta);
+    }
+
+    public Carta getSegundaCarta() {
+        return Carta.obtener(segundaCarta);
+    }
+
+    /**
+     * Obtiene el puntaje de las dos primeras cartas.
+     *
+     * @return El puntaje inicial (un As cuenta 11 si no se pasa).
+     */
+    public int getPuntajeInicial() {
+        return puntajeInicial;
+    }
+
+    public boolean esSuave() {
+        return suave;
+    }
+
+    /**
+     * Indica si las dos primeras cartas tienen el mismo valor.
+     *
+     * @return true si la mano inicial es un par.
+     */
+    public boolean esPar() {
+        return getPrimeraCarta().getValorNumerico() == getSegundaCarta().getValorNumerico();
+    }
+
+    public Carta getCartaVisible() {
+        return Carta.obtener(cartaVisible);
+    }
+
+    public int getCartasPedidas() {
+        return cartasPedidas;
+    }
+
+    public int getPuntajeFinal() {
+        return puntajeFinal;
+    }
+
+    public int getPuntajeDealer() {
+        return puntajeDealer;
+    }
+
+    public ResultadoRonda getResultado() {
+        return resultado;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Partida #%d: %s con %s %s (%s%d) vs %s -> %d contra %d: %s",
+                idPartida, jugador, getPrimeraCarta().toStringCorto(), getSegundaCarta().toStringCorto(),
+                suave ? "suave " : "", puntajeInicial, getCartaVisible().toStringCorto(), puntajeFinal,
+                puntajeDealer, resultado.getDescripcion());
+    }
+}
@@ -0,0 +1,408 @@
+package historial;
+
+import juego.Partida;
+import juego.Partida.JugadaCarta;
+import modelo.Carta;
+import modelo.Dealer;
+import modelo.Jugador;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Registro binario de solo anexado para el historial de partidas.
+ *
+ * Escribe cada {@link Partida} (cartas, decisiones de plantarse y resultado)
+ * directamente en un archivo proyectado en memoria, sin copias intermedias en
+ * el heap. Cuando el segmento actual no tiene espacio se fuerza a disco y se
+ * abre el siguiente, así que el historial puede crecer sin límite mientras la
+ * memoria usada es siempre la de un segmento. El formato se describe en
+ * {@link FormatoRegistro}; cada registro lleva su CRC32 para detectar
+ * escrituras cortadas.
+ *
+ * Al abrir un directorio con segmentos previos se sigue escribiendo al final
+ * del último registro válido. Se puede usar desde varios hilos: cada hilo
+ * codifica sus partidas en su propio buffer y solo la copia al segmento se
+ * hace con el monitor tomado.
+ */
+public class RegistroManos {
+
+    public static final int TAMAÑO_SEGMENTO_POR_DEFECTO = 64 * 1024 * 1024;
+    private static final int TAMAÑO_SEGMENTO_MINIMO = 4 * 1024;
+
+    // Bloque de ceros para borrar la cola de un segmento reabierto
+    private static final byte[] CEROS = new byte[64 * 1024];
+
+    // Textos codificados recientemente: nombres y resultados se repiten mucho
+    private static final int TAMAÑO_CACHE_TEXTOS = 16;
+
+    private final Path directorio;
+    private final int tamañoSegmento;
+    // Solo para validar segmentos al reabrir; cada hilo codifica con su propio CRC
+    private final CRC32 crc = new CRC32();
+
+    private FileChannel canal;
+    private MappedByteBuffer buffer;
+    private int numeroSegmento;
+    private long partidasEscritas;
+
+    // Cada hilo codifica sus partidas aparte; el monitor solo cubre la copia
+    private final ThreadLocal<Codificador> codificadores = ThreadLocal.withInitial(Codificador::new);
+
+    /**
+     * Constructor con segmentos de 64 MB.
+     *
+     * @param directorio El directorio de los segmentos (se crea si no existe).
+     * @throws IOException si no se puede abrir el registro.
+     */
+    public RegistroManos(Path directorio) throws IOException {
+        this(directorio, TAMAÑO_SEGMENTO_POR_DEFECTO);
+    }
+
+    /**
+     * Constructor del registro.
+     *
+     * @param directorio     El directorio de los segmentos (se crea si no existe).
+     * @param tamañoSegmento Tamaño de cada segmento en bytes.
+     * @throws IOException si no se puede abrir el registro.
+     */
+    public RegistroManos(Path directorio, int tamañoSegmento) throws IOException {
+        if (tamañoSegmento < TAMAÑO_SEGMENTO_MINIMO) {
+            throw new IllegalArgumentException("El tamaño de segmento debe ser al menos "
+                    + TAMAÑO_SEGMENTO_MINIMO + " bytes: " + tamañoSegmento);
+        }
+        this.directorio = directorio;
+        this.tamañoSegmento = tamañoSegmento;
+        Files.createDirectories(directorio);
+
+        // Continuar en el último segmento existente, si lo hay
+        int ultimo = 0;
+        while (Files.exists(FormatoRegistro.segmento(directorio, ultimo + 1))) {
+            ultimo++;
+        }
+        if (Files.exists(FormatoRegistro.segmento(directorio, ultimo))) {
+            reabrirSegmento(ultimo);
+        } else {
+            abrirSegmento(ultimo);
+        }
+    }
+
+    /**
+     * Agrega una partida al final del registro.
+     * Complejidad: O(j) con j el número de jugadas; no crea objetos si los
+     * nombres y el resultado ya se codificaron antes en el mismo hilo.
+     *
+     * @param partida La partida a guardar.
+     * @throws IOException si falla la escritura al cambiar de segmento.
+     * @throws IllegalArgumentException si la partida no cabe en el formato.
+     */
+    public void agregar(Partida partida) throws IOException {
+        Codificador codificador = codificadores.get();
+        codificador.iniciar();
+        JugadaCarta[] jugadas = codificador.copiarJugadas(partida);
+        for (int i = 0; i < partida.getTotalJugadas(); i++) {
+            JugadaCarta jugada = jugadas[i];
+            codificador.jugada(jugada.getCarta(), jugada.getNombreJugador(), jugada.getPuntajeResultante());
+            jugadas[i] = null;
+        }
+        escribir(codificador.terminar(partida.getId(), partida.getGanador(), partida.getResultado()));
+    }
+
+    /**
+     * Agrega al final del registro la mano terminada de un jugador contra el
+     * Dealer, con las mismas jugadas que guardaría
+     * {@link Partida#registrarMano(Jugador, Dealer)}, sin construir la
+     * Partida. Para la simulación, que guarda una mano por bot y ronda.
+     * Complejidad: O(j) con j el número de cartas; no crea objetos si los
+     * nombres y el resultado ya se codificaron antes en el mismo hilo.
+     *
+     * @param id        El ID de la partida (ver {@link Partida#siguienteId()}).
+     * @param jugador   El jugador de la mano.
+     * @param dealer    El Dealer de la mesa.
+     * @param ganador   El ganador, o null si fue empate.
+     * @param resultado El resultado (ver {@link Partida#describirResultado(Jugador, String)}).
+     * @throws IOException si falla la escritura al cambiar de segmento.
+     * @throws IllegalArgumentException si la mano no cabe en el formato.
+     */
+    public void agregarMano(long id, Jugador jugador, Dealer dealer, Jugador ganador, String resultado)
+            throws IOException {
+        Codificador codificador = codificadores.get();
+        codificador.iniciar();
+        Partida.recorrerMano(jugador, dealer, codificador);
+        escribir(codificador.terminar(id, ganador, resultado));
+    }
+
+    /**
+     * Copia un registro ya codificado al final del segmento. Es la única
+     * parte de agregar() que se hace con el monitor tomado.
+     */
+    private synchronized void escribir(ByteBuffer registro) throws IOException {
+        if (buffer == null) {
+            throw new IllegalStateException("El registro está cerrado");
+        }
+        int total = registro.remaining();
+        if (total > tamañoSegmento - FormatoRegistro.CABECERA_SEGMENTO) {
+            throw new IllegalArgumentException("La partida no cabe en un segmento: " + total + " bytes");
+        }
+        if (buffer.remaining() < total) {
+            rodarSegmento();
+        }
+        buffer.put(registro);
+        partidasEscritas++;
+    }
+
+    /**
+     * Fuerza a disco el segmento actual y abre el siguiente.
+     */
+    private void rodarSegmento() throws IOException {
+        buffer.force();
+        canal.close();
+        abrirSegmento(numeroSegmento + 1);
+    }
+
+    private void abrirSegmento(int numero) throws IOException {
+        Path ruta = FormatoRegistro.segmento(directorio, numero);
+        canal = FileChannel.open(ruta, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        buffer = canal.map(FileChannel.MapMode.READ_WRITE, 0, tamañoSegmento);
+        buffer.putInt(FormatoRegistro.MAGIA);
+        buffer.putInt(FormatoRegistro.VERSION);
+        numeroSegmento = numero;
+    }
+
+    /**
+     * Abre un segmento existente y se coloca tras su último registro válido.
+     * Lo que sigue (por ejemplo un registro cortado por una caída) se borra.
+     */
+    private void reabrirSegmento(int numero) throws IOException {
+        Path ruta = FormatoRegistro.segmento(directorio, numero);
+        canal = FileChannel.open(ruta, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        // Un segmento más corto que el tamaño configurado se amplía al proyectarlo
+        buffer = canal.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(canal.size(), tamañoSegmento));
+        numeroSegmento = numero;
+
+        if (buffer.capacity() < FormatoRegistro.CABECERA_SEGMENTO
+                || buffer.getInt(0) != FormatoRegistro.MAGIA
+                || buffer.getInt(Integer.BYTES) != FormatoRegistro.VERSION) {
+            throw new IOException("El segmento " + ruta + " no es un registro de manos válido");
+        }
+
+        int posicion = FormatoRegistro.CABECERA_SEGMENTO;
+        while (true) {
+            int longitud = LectorRegistro.longitudValida(buffer, posicion, crc);
+            if (longitud < 0) {
+                break;
+            }
+            posicion += FormatoRegistro.CABECERA_REGISTRO + longitud;
+        }
+        buffer.position(posicion);
+        while (buffer.hasRemaining()) {
+            buffer.put(CEROS, 0, Math.min(CEROS.length, buffer.remaining()));
+        }
+        buffer.position(posicion);
+    }
+
+    /**
+     * Fuerza a disco lo escrito en el segmento actual.
+     */
+    public synchronized void sincronizar() {
+        if (buffer != null) {
+            buffer.force();
+        }
+    }
+
+    /**
+     * Fuerza a disco y cierra el registro.
+     *
+     * @throws IOException si falla el cierre del archivo.
+     */
+    public synchronized void cerrar() throws IOException {
+        if (buffer == null) {
+            return;
+        }
+        buffer.force();
+        canal.close();
+        buffer = null;
+    }
+
+    /**
+     * Obtiene el número de partidas escritas desde que se abrió el registro.
+     *
+     * @return Las partidas escritas.
+     */
+    public synchronized long getPartidasEscritas() {
+        return partidasEscritas;
+    }
+
+    /**
+     * Obtiene el número del segmento en el que se está escribiendo.
+     *
+     * @return El número de segmento actual.
+     */
+    public synchronized int getSegmentoActual() {
+        return numeroSegmento;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("RegistroManos [%s, segmento %d, %d partidas escritas]",
+                directorio, numeroSegmento, partidasEscritas);
+    }
+
+    /**
+     * Codifica las partidas de un hilo en un buffer propio, con su CRC, para
+     * que el registro solo tenga que copiarlas. Reutiliza sus arreglos entre
+     * partidas.
+     */
+    private static final class Codificador implements Partida.ReceptorJugadas {
+
+        private final CRC32 crc = new CRC32();
+        private ByteBuffer registro = ByteBuffer.allocate(1024);
+        private JugadaCarta[] jugadas = new JugadaCarta[32];
+
+        // Jugadas de la partida en curso: código de carta, índice de nombre y puntaje
+        private byte[] cartas = new byte[32];
+        private byte[] indices = new byte[32];
+        private byte[] puntajes = new byte[32];
+        private int totalJugadas;
+
+        private final String[] nombres = new String[FormatoRegistro.MAX_NOMBRES];
+        private final byte[][] nombresCodificados = new byte[FormatoRegistro.MAX_NOMBRES][];
+        private int totalNombres;
+
+        // Bloque de ceros para borrar la cola de un segmento reabierto
+    private static final byte[] CEROS = new byte[64 * 1024];
+
+    // Textos codificados recientemente: nombres y resultados se repiten mucho
+        private final String[] cacheTextos = new String[TAMAÑO_CACHE_TEXTOS];
+        private final byte[][] cacheBytes = new byte[TAMAÑO_CACHE_TEXTOS][];
+        private int siguienteCache;
+
+        void iniciar() {
+            totalJugadas = 0;
+            totalNombres = 0;
+        }
+
+        JugadaCarta[] copiarJugadas(Partida partida) {
+            int total = partida.getTotalJugadas();
+            if (jugadas.length < total) {
+                jugadas = new JugadaCarta[Math.max(total, jugadas.length * 2)];
+            }
+            partida.copiarJugadas(jugadas);
+            return jugadas;
+        }
+
+        @Override
+        public void jugada(Carta carta, String nombreJugador, int puntajeResultante) {
+            if (totalJugadas == FormatoRegistro.MAX_JUGADAS) {
+                throw new IllegalArgumentException("Demasiadas jugadas en la partida: " + (totalJugadas + 1));
+            }
+            if (totalJugadas == cartas.length) {
+                int capacidad = Math.min(cartas.length * 2, FormatoRegistro.MAX_JUGADAS);
+                cartas = crecer(cartas, capacidad);
+                indices = crecer(indices, capacidad);
+                puntajes = crecer(puntajes, capacidad);
+            }
+            cartas[totalJugadas] = carta == null ? FormatoRegistro.CARTA_PLANTARSE : (byte) carta.getCodigo();
+            indices[totalJugadas] = (byte) agregarNombre(nombreJugador);
+            puntajes[totalJugadas] = (byte) puntajeResultante;
+            totalJugadas++;
+        }
+
+        private byte[] crecer(byte[] arreglo, int capacidad) {
+            byte[] nuevo = new byte[capacidad];
+            System.arraycopy(arreglo, 0, nuevo, 0, totalJugadas);
+            return nuevo;
+        }
+
+        /**
+         * Escribe el registro completo de la partida en curso.
+         *
+         * @return El registro listo para copiar, cabecera y CRC incluidos.
+         */
+        ByteBuffer terminar(long id, Jugador ganador, String textoResultado) {
+            int indiceGanador = ganador == null ? FormatoRegistro.SIN_GANADOR : agregarNombre(ganador.getNombre());
+            byte[] resultado = codificar(textoResultado, FormatoRegistro.MAX_BYTES_RESULTADO);
+
+            int longitud = Long.BYTES + 1 + 1 + Short.BYTES + resultado.length + Short.BYTES + totalJugadas * 3;
+            for (int i = 0; i < totalNombres; i++) {
+                longitud += 1 + nombresCodificados[i].length;
+            }
+            int total = FormatoRegistro.CABECERA_REGISTRO + longitud;
+            if (registro.capacity() < total) {
+                registro = ByteBuffer.allocate(Math.max(total, registro.capacity() * 2));
+            }
+
+            // Cabecera con la longitud; el CRC se completa al final
+            registro.clear();
+            registro.putInt(longitud);
+            registro.putInt(0);
+
+            registro.putLong(id);
+            registro.put((byte) totalNombres);
+            for (int i = 0; i < totalNombres; i++) {
+                registro.put((byte) nombresCodificados[i].length);
+                registro.put(nombresCodificados[i]);
+            }
+            registro.put((byte) indiceGanador);
+            registro.putShort((short) resultado.length);
+            registro.put(resultado);
+            registro.putShort((short) totalJugadas);
+            for (int i = 0; i < totalJugadas; i++) {
+                registro.put(cartas[i]);
+                registro.put(indices[i]);
+                registro.put(puntajes[i]);
+            }
+
+            crc.reset();
+            crc.update(registro.array(), FormatoRegistro.CABECERA_REGISTRO, longitud);
+            registro.putInt(Integer.BYTES, (int) crc.getValue());
+            return registro.flip();
+        }
+
+        /**
+         * Obtiene el índice de un nombre en la tabla de la partida en curso,
+         * agregándolo si es nuevo.
+         */
+        private int agregarNombre(String nombre) {
+            for (int i = 0; i < totalNombres; i++) {
+                if (nombres[i].equals(nombre)) {
+                    return i;
+                }
+            }
+            if (totalNombres == FormatoRegistro.MAX_NOMBRES) {
+                throw new IllegalArgumentException("Demasiados jugadores en la partida");
+            }
+            nombres[totalNombres] = nombre;
+            nombresCodificados[totalNombres] = codificar(nombre, FormatoRegistro.MAX_BYTES_NOMBRE);
+            return totalNombres++;
+        }
+
+        /**
+         * Codifica un texto en UTF-8 reutilizando las codificaciones recientes.
+         */
+        private byte[] codificar(String texto, int maximo) {
+            for (int i = 0; i < TAMAÑO_CACHE_TEXTOS; i++) {
+                if (texto.equals(cacheTextos[i])) {
+                    return cacheBytes[i];
+                }
+            }
+            byte[] bytes = texto.getBytes(StandardCharsets.UTF_8);
+            if (bytes.length > maximo) {
+                throw new IllegalArgumentException("Texto demasiado largo para el registro (" + bytes.length
+                        + " bytes, máximo " + maximo + "): " + texto);
+            }
+            cacheTextos[siguienteCache] = texto;
+            cacheBytes[siguienteCache] = bytes;
+            siguienteCache = (siguienteCache + 1) % TAMAÑO_CACHE_TEXTOS;
+            return bytes;
+        }
+    }
+}
@@ -1,61 +1,156 @@
 package juego;
 
-import estructuras.ListaEnlazada;
 import estructuras.TablaHash;
-import modelo.Baraja;
+import persistencia.AlmacenEstadisticas;
+import persistencia.EstadisticasJugador;
 import modelo.Carta;
 import modelo.Dealer;
+import modelo.EstrategiaBasica;
 import modelo.Jugador;
-
-import java.util.Scanner;
+import modelo.JugadorBot;
+import modelo.ProductorZapatos;
+import modelo.Zapato;
 
 /**
  * Clase principal que implementa la lógica del juego Blackjack.
  * Integra todas las estructuras de datos y clases del modelo.
+ * Toda la entrada y salida pasa por una {@link Consola}, de modo que la misma
+ * partida se juega por la terminal o por una conexión de red.
+ *
+ * La mesa tiene de 1 a 7 asientos servidos del mismo zapato: el primero es el
+ * jugador humano y los demás son bots con estrategia básica.
  */
 public class Blackjack {
 
-    private Baraja baraja;
+    // Configuración del zapato: 6 barajas con carta de corte al 75%
+    public static final int NUMERO_BARAJAS = 6;
+    private static final double PENETRACION = 0.75;
+
+    // Las tablas de la estrategia básica son inmutables: una para todas las mesas
+    private static final EstrategiaBasica ESTRATEGIA_BASICA = new EstrategiaBasica();
+
+    // Comandos del protocolo de texto, además de las opciones numéricas
+    private static final String COMANDO_UNIRSE = "join ";
+
+    private Zapato baraja;
     private Jugador jugador;
+    private int numeroAsientos;
+    // Asientos en orden de reparto: el jugador humano y después los bots
+    private Jugador[] asientos;
+    // Orden de la ronda: los asientos y al final el Dealer
+    private Jugador[] ordenRonda;
+    private boolean[] decisionesIniciales;
     private Dealer dealer;
     private Turno turno;
     private TablaHash<String, Jugador> estadoJugadores;
-    private Scanner scanner;
+    private Consola consola;
+    private AlmacenEstadisticas estadisticas;
     private boolean juegoEnCurso;
 
     /**
-     * Constructor del juego Blackjack.
+     * Constructor del juego Blackjack por la consola estándar.
      */
     public Blackjack() {
-        this.baraja = new Baraja();
-        this.scanner = new Scanner(System.in);
+        this(new ConsolaEstandar());
+    }
+
+    /**
+     * Constructor del juego Blackjack sobre una consola cualquiera.
+     *
+     * @param consola La entrada y salida de la partida.
+     */
+    public Blackjack(Consola consola) {
+        this(consola, 1);
+    }
+
+    /**
+     * Constructor del juego Blackjack con bots en los demás asientos.
+     *
+     * @param consola  La entrada y salida de la partida.
+     * @param asientos Número de asientos de la mesa (1 a 7), incluido el del
+     *                 jugador humano.
+     */
+    public Blackjack(Consola consola, int asientos) {
+        if (consola == null) {
+            throw new IllegalArgumentException("La consola no puede ser null");
+        }
+        if (asientos < 1 || asientos > Turno.MAX_ASIENTOS) {
+            throw new IllegalArgumentException(String.format(
+                    "Número de asientos %d fuera de rango [1,%d]", asientos, Turno.MAX_ASIENTOS));
+        }
+        this.numeroAsientos = asientos;
+        this.baraja = new Zapato(NUMERO_BARAJAS, PENETRACION);
+        this.consola = consola;
         this.turno = new Turno();
         this.estadoJugadores = new TablaHash<>();
         this.juegoEnCurso = false;
     }
 
+    /**
+     * Guarda el resultado de cada mano del jugador humano en un almacén
+     * persistente, compartido con otras mesas.
+     *
+     * @param estadisticas El almacén de estadísticas, o null para no guardar.
+     */
+    public void setEstadisticas(AlmacenEstadisticas estadisticas) {
+        this.estadisticas = estadisticas;
+    }
+
+    /**
+     * Toma los zapatos ya mezclados de un productor en segundo plano, para que
+     * la carta de corte no detenga la mesa. Se llama antes de iniciar().
+     *
+     * @param productor El productor de zapatos de {@link #NUMERO_BARAJAS}
+     *                  barajas, que puede compartirse entre mesas.
+     * @throws IllegalArgumentException si el productor es null o entrega
+     *                                  zapatos de otro tamaño.
+     */
+    public void setProductorZapatos(ProductorZapatos productor) {
+        this.baraja = new Zapato(NUMERO_BARAJAS, PENETRACION, productor);
+    }
+
     /**
      * Inicia el juego de Blackjack.
      */
     public void iniciar() {
-        System.out.println("====================================");
-        System.out.println("   BIENVENIDO AL JUEGO BLACKJACK   ");
-        System.out.println("====================================");
+        consola.imprimirLinea("====================================");
+        consola.imprimirLinea("   BIENVENIDO AL JUEGO BLACKJACK   ");
+        consola.imprimirLinea("====================================");
 
         // Solicitar nombre del jugador
-        System.out.print("\nIngrese su nombre: ");
-        String nombreJugador = scanner.nextLine().trim();
+        consola.imprimir("\nIngrese su nombre: ");
+        String linea = consola.leerLinea();
+        if (linea == null) {
+            consola.cerrar();
+            return;
+        }
+        String nombreJugador = linea.trim();
+        if (nombreJugador.toLowerCase().startsWith(COMANDO_UNIRSE)) {
+            nombreJugador = nombreJugador.substring(COMANDO_UNIRSE.length()).trim();
+        }
         if (nombreJugador.isEmpty()) {
             nombreJugador = "Jugador";
         }
 
-        // Inicializar jugadores
+        // Inicializar jugadores: el humano en el primer asiento y bots en el resto
         jugador = new Jugador(nombreJugador);
         dealer = new Dealer();
+        asientos = new Jugador[numeroAsientos];
+        asientos[0] = jugador;
+        for (int i = 1; i < numeroAsientos; i++) {
+            asientos[i] = new JugadorBot("Bot " + i, ESTRATEGIA_BASICA);
+        }
+        ordenRonda = new Jugador[numeroAsientos + 1];
+        System.arraycopy(asientos, 0, ordenRonda, 0, numeroAsientos);
+        ordenRonda[numeroAsientos] = dealer;
+        decisionesIniciales = new boolean[ordenRonda.length];
 
         // Registrar jugadores en la tabla hash
-        estadoJugadores.insertar(jugador.getNombre(), jugador);
+        for (Jugador asiento : asientos) {
+            estadoJugadores.insertar(asiento.getNombre(), asiento);
+        }
         estadoJugadores.insertar(dealer.getNombre(), dealer);
+        mostrarHistorialGuardado("\nTu historial: ");
 
         // Iniciar el bucle principal del juego
         juegoEnCurso = true;
@@ -66,185 +161,299 @@ public class Blackjack {
 
         // Mostrar estadísticas finales
         mostrarEstadisticasFinales();
-        System.out.println("\n¡Gracias por jugar! ¡Hasta pronto!");
-        scanner.close();
+        consola.imprimirLinea("\n¡Gracias por jugar! ¡Hasta pronto!");
+        consola.cerrar();
     }
 
     /**
      * Ejecuta una ronda completa del juego.
      */
     private void jugarRonda() {
-        System.out.println("\n====================================");
-        System.out.println("        NUEVA RONDA DE JUEGO        ");
-        System.out.println("====================================");
+        consola.imprimirLinea("\n====================================");
+        consola.imprimirLinea("        NUEVA RONDA DE JUEGO        ");
+        consola.imprimirLinea("====================================");
 
-        // Preparar la baraja
-        baraja = new Baraja();
-        baraja.mezclar();
+        // Preparar el zapato: solo se mezcla al alcanzar la carta de corte
+        if (baraja.prepararRonda()) {
+            consola.imprimirLinea("Se alcanzó la carta de corte. Mezclando el zapato...");
+        }
 
         // Limpiar manos de los jugadores
-        jugador.limpiarMano();
+        for (Jugador asiento : asientos) {
+            asiento.limpiarMano();
+        }
         dealer.limpiarMano();
 
-        // Repartir cartas iniciales (2 a cada uno)
+        // Repartir cartas iniciales como en el casino: una a cada asiento en
+        // orden y luego al Dealer, dos veces
         for (int i = 0; i < 2; i++) {
-            jugador.recibirCarta(baraja.robarCarta());
+            for (Jugador asiento : asientos) {
+                asiento.recibirCarta(baraja.robarCarta());
+            }
             dealer.recibirCarta(baraja.robarCarta());
         }
 
-        // Configurar el orden de los turnos (primero jugador, luego dealer)
-        turno.reiniciarTurnos(jugador, dealer);
+        // Configurar el orden de los turnos (asientos en orden, luego dealer)
+        turno.reiniciarTurnos(ordenRonda);
 
         // Mostrar estado inicial
         mostrarEstadoJuego();
 
         // Verificar si hay Blackjack inicial
         if (verificarBlackjackInicial()) {
+            guardarResultado();
             return;
         }
 
-        // Turno del jugador
-        jugarTurnoJugador();
-
-        // Si el jugador no se pasó, juega el dealer
-        if (!jugador.sePaso()) {
-            dealer.jugarTurnoAutomatico(baraja);
+        // Las primeras decisiones de los bots solo dependen de su mano y de la
+        // carta visible: se calculan de una vez; las cartas se reparten en orden
+        Carta cartaVisible = dealer.getMano().obtenerElemento(0);
+        turno.recogerDecisiones(cartaVisible, decisionesIniciales);
+
+        // Turnos en el orden de la cola: cada asiento y por último el Dealer
+        int posicion = 0;
+        while (!turno.sinJugadores()) {
+            Jugador actual = turno.siguienteJugador();
+            if (actual == dealer) {
+                // El Dealer solo juega si queda alguna mano sin pasarse
+                if (quedanManosEnJuego()) {
+                    dealer.jugarTurnoAutomatico(baraja, consola);
+                }
+            } else if (actual.tieneBlackjack()) {
+                // Ya se pagó con el Blackjack inicial
+            } else if (actual == jugador) {
+                jugarTurnoJugador();
+            } else {
+                jugarTurnoBot((JugadorBot) actual, cartaVisible, decisionesIniciales[posicion]);
+            }
+            posicion++;
         }
 
         // Determinar el ganador
         determinarGanador();
+        guardarResultado();
+    }
+
+    /**
+     * Anota en el almacén persistente el resultado de la mano del jugador.
+     */
+    private void guardarResultado() {
+        if (estadisticas != null) {
+            estadisticas.registrar(jugador.getNombre(), ResultadoRonda.determinar(jugador, dealer));
+        }
+    }
+
+    private void mostrarHistorialGuardado(String titulo) {
+        if (estadisticas == null) {
+            return;
+        }
+        EstadisticasJugador guardadas = estadisticas.obtener(jugador.getNombre());
+        if (guardadas != null) {
+            consola.imprimirLinea(titulo + guardadas);
+        }
+    }
+
+    /**
+     * Indica si algún asiento sigue en juego tras sus turnos: no se pasó ni
+     * se resolvió con Blackjack.
+     */
+    private boolean quedanManosEnJuego() {
+        for (Jugador asiento : asientos) {
+            if (!asiento.sePaso() && !asiento.tieneBlackjack()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Ejecuta el turno de un bot. La primera decisión ya viene calculada; las
+     * siguientes dependen de cada carta recibida y se toman en orden.
+     */
+    private void jugarTurnoBot(JugadorBot bot, Carta cartaVisible, boolean pedir) {
+        consola.imprimirLinea("\n--- Turno de " + bot.getNombre() + " ---");
+        while (pedir) {
+            Carta nuevaCarta = baraja.robarCarta();
+            bot.recibirCarta(nuevaCarta);
+            consola.imprimirLinea(bot.getNombre() + " pide carta y recibe: " + nuevaCarta);
+            pedir = bot.debePedirCarta(cartaVisible);
+        }
+
+        if (bot.sePaso()) {
+            consola.imprimirLinea("¡" + bot.getNombre() + " se ha pasado de 21! Puntaje: " + bot.calcularPuntaje());
+        } else {
+            bot.plantarse();
+            consola.imprimirLinea(bot.getNombre() + " se planta con " + bot.calcularPuntaje() + " puntos.");
+        }
     }
 
     /**
      * Ejecuta el turno del jugador humano.
      */
     private void jugarTurnoJugador() {
-        System.out.println("\n--- Turno de " + jugador.getNombre() + " ---");
+        consola.imprimirLinea("\n--- Turno de " + jugador.getNombre() + " ---");
 
         boolean turnoTerminado = false;
         while (!turnoTerminado) {
-            System.out.println("\nTu mano actual: ");
-            ListaEnlazada<Carta> manoJugador = jugador.getMano();
-            for (int i = 0; i < manoJugador.tamaño(); i++) {
-                System.out.println("- " + manoJugador.obtenerElemento(i));
+            consola.imprimirLinea("\nTu mano actual: ");
+            for (Carta carta : jugador.getMano()) {
+                consola.imprimirLinea("- " + carta);
             }
-            System.out.println("Puntaje actual: " + jugador.calcularPuntaje());
+            consola.imprimirLinea("Puntaje actual: " + jugador.calcularPuntaje());
+
+            // Sugerencia de la estrategia básica: una consulta a la tabla precalculada
+            boolean sugierePedir = ESTRATEGIA_BASICA.debePedirCarta(jugador, dealer.getMano().obtenerElemento(0));
+            consola.imprimirLinea("Sugerencia (estrategia básica): " + (sugierePedir ? "Pedir carta" : "Plantarse"));
 
             // Mostrar opciones
-            System.out.println("\n¿Qué deseas hacer?");
-            System.out.println("1. Pedir carta");
-            System.out.println("2. Plantarse");
-            System.out.print("Selecciona una opción (1-2): ");
-
-            int opcion;
-            try {
-                opcion = Integer.parseInt(scanner.nextLine().trim());
-            } catch (NumberFormatException e) {
-                opcion = 0; // Valor inválido
+            consola.imprimirLinea("\n¿Qué deseas hacer?");
+            consola.imprimirLinea("1. Pedir carta");
+            consola.imprimirLinea("2. Plantarse");
+            consola.imprimirLinea("3. Ver estado de la mesa");
+            consola.imprimir("Selecciona una opción (1-3): ");
+
+            String linea = consola.leerLinea();
+            if (linea == null) {
+                // Entrada cerrada o tiempo agotado: el jugador se planta
+                jugador.plantarse();
+                consola.imprimirLinea("\nTiempo agotado. Te plantas con " + jugador.calcularPuntaje() + " puntos.");
+                break;
             }
 
-            switch (opcion) {
+            switch (leerOpcionTurno(linea)) {
                 case 1: // Pedir carta
                     if (!baraja.estaVacia()) {
                         Carta nuevaCarta = baraja.robarCarta();
                         jugador.recibirCarta(nuevaCarta);
-                        System.out.println("\nHas recibido: " + nuevaCarta);
+                        consola.imprimirLinea("\nHas recibido: " + nuevaCarta);
 
                         // Verificar si se pasó de 21
                         if (jugador.sePaso()) {
-                            System.out.println("¡Te has pasado de 21! Tu puntaje: " + jugador.calcularPuntaje());
+                            consola.imprimirLinea("¡Te has pasado de 21! Tu puntaje: " + jugador.calcularPuntaje());
                             turnoTerminado = true;
                         }
                     } else {
-                        System.out.println("No quedan cartas en la baraja.");
+                        consola.imprimirLinea("No quedan cartas en la baraja.");
                         turnoTerminado = true;
                     }
                     break;
 
                 case 2: // Plantarse
                     jugador.plantarse();
-                    System.out.println("Te plantas con " + jugador.calcularPuntaje() + " puntos.");
+                    consola.imprimirLinea("Te plantas con " + jugador.calcularPuntaje() + " puntos.");
                     turnoTerminado = true;
                     break;
 
+                case 3: // Ver estado
+                    mostrarEstadoJuego();
+                    break;
+
                 default:
-                    System.out.println("Opción no válida. Intenta de nuevo.");
+                    consola.imprimirLinea("Opción no válida. Intenta de nuevo.");
             }
         }
     }
 
     /**
      * Verifica si hay un Blackjack inicial (21 puntos con 2 cartas).
+     * Con Blackjack del Dealer se resuelven todos los asientos; si no, solo
+     * se pagan los asientos con Blackjack y los demás siguen jugando.
      * 
-     * @return true si se encontró un Blackjack inicial, false en caso contrario.
+     * @return true si la ronda quedó resuelta, false si quedan turnos por jugar.
      */
     private boolean verificarBlackjackInicial() {
-        boolean jugadorTieneBlackjack = jugador.tieneBlackjack();
         boolean dealerTieneBlackjack = dealer.tieneBlackjack();
+        boolean hayBlackjack = dealerTieneBlackjack;
+        boolean quedanTurnos = false;
+        for (Jugador asiento : asientos) {
+            hayBlackjack |= asiento.tieneBlackjack();
+            quedanTurnos |= !asiento.tieneBlackjack();
+        }
+        if (!hayBlackjack) {
+            return false;
+        }
+        boolean rondaResuelta = dealerTieneBlackjack || !quedanTurnos;
 
-        if (jugadorTieneBlackjack || dealerTieneBlackjack) {
-            System.out.println("\n¡Blackjack inicial!");
+        consola.imprimirLinea("\n¡Blackjack inicial!");
 
-            // Mostrar todas las cartas del jugador
-            System.out.println("\nCartas de " + jugador.getNombre() + ":");
-            ListaEnlazada<Carta> manoJugador = jugador.getMano();
-            for (int i = 0; i < manoJugador.tamaño(); i++) {
-                System.out.println("- " + manoJugador.obtenerElemento(i));
+        for (Jugador asiento : asientos) {
+            if (!dealerTieneBlackjack && !asiento.tieneBlackjack()) {
+                continue;
             }
 
-            // Mostrar todas las cartas del dealer
-            System.out.println("\nCartas del Dealer:");
-            ListaEnlazada<Carta> manoDealer = dealer.getMano();
-            for (int i = 0; i < manoDealer.tamaño(); i++) {
-                System.out.println("- " + manoDealer.obtenerElemento(i));
+            // Mostrar todas las cartas del asiento resuelto
+            consola.imprimirLinea("\nCartas de " + asiento.getNombre() + ":");
+            for (Carta carta : asiento.getMano()) {
+                consola.imprimirLinea("- " + carta);
             }
+        }
 
-            // Determinar el resultado
-            if (jugadorTieneBlackjack && dealerTieneBlackjack) {
-                System.out.println("\n¡Empate! Ambos tienen Blackjack.");
-            } else if (jugadorTieneBlackjack) {
-                System.out.println("\n¡" + jugador.getNombre() + " gana con Blackjack!");
-                jugador.incrementarPartidasGanadas();
-            } else {
-                System.out.println("\n¡El Dealer gana con Blackjack!");
-                dealer.incrementarPartidasGanadas();
+        // Mostrar todas las cartas del dealer si la ronda termina aquí
+        if (rondaResuelta) {
+            consola.imprimirLinea("\nCartas del Dealer:");
+            for (Carta carta : dealer.getMano()) {
+                consola.imprimirLinea("- " + carta);
             }
+        }
 
-            return true;
+        // Determinar el resultado de cada asiento resuelto
+        for (Jugador asiento : asientos) {
+            boolean asientoTieneBlackjack = asiento.tieneBlackjack();
+            if (asientoTieneBlackjack && dealerTieneBlackjack) {
+                consola.imprimirLinea("\n¡Empate! " + (numeroAsientos == 1 ? "Ambos tienen"
+                        : asiento.getNombre() + " y el Dealer tienen") + " Blackjack.");
+            } else if (asientoTieneBlackjack) {
+                consola.imprimirLinea("\n¡" + asiento.getNombre() + " gana con Blackjack!");
+                asiento.incrementarPartidasGanadas();
+            } else if (dealerTieneBlackjack) {
+                consola.imprimirLinea("\n¡El Dealer gana con Blackjack!"
+                        + (numeroAsientos == 1 ? "" : " (contra " + asiento.getNombre() + ")"));
+                dealer.incrementarPartidasGanadas();
+            }
         }
 
-        return false;
+        return rondaResuelta;
     }
 
     /**
-     * Determina el ganador de la ronda actual.
+     * Determina el ganador de la ronda actual en cada asiento que no se
+     * resolvió con Blackjack inicial.
      */
     private void determinarGanador() {
-        System.out.println("\n====================================");
-        System.out.println("         RESULTADO DE LA RONDA      ");
-        System.out.println("====================================");
+        consola.imprimirLinea("\n====================================");
+        consola.imprimirLinea("         RESULTADO DE LA RONDA      ");
+        consola.imprimirLinea("====================================");
 
-        int puntajeJugador = jugador.calcularPuntaje();
+        for (Jugador asiento : asientos) {
+            consola.imprimirLinea(asiento.getNombre() + ": " + asiento.calcularPuntaje() + " puntos");
+        }
         int puntajeDealer = dealer.calcularPuntaje();
+        consola.imprimirLinea("Dealer: " + puntajeDealer + " puntos");
 
-        System.out.println(jugador.getNombre() + ": " + puntajeJugador + " puntos");
-        System.out.println("Dealer: " + puntajeDealer + " puntos");
+        for (Jugador asiento : asientos) {
+            if (asiento.tieneBlackjack()) {
+                continue;
+            }
+            int puntajeJugador = asiento.calcularPuntaje();
 
-        // Determinar el ganador
-        if (jugador.sePaso()) {
-            System.out.println("\n¡El Dealer gana! " + jugador.getNombre() + " se pasó de 21.");
-            dealer.incrementarPartidasGanadas();
-        } else if (dealer.sePaso()) {
-            System.out.println("\n¡" + jugador.getNombre() + " gana! El Dealer se pasó de 21.");
-            jugador.incrementarPartidasGanadas();
-        } else if (puntajeJugador > puntajeDealer) {
-            System.out.println("\n¡" + jugador.getNombre() + " gana con mayor puntaje!");
-            jugador.incrementarPartidasGanadas();
-        } else if (puntajeDealer > puntajeJugador) {
-            System.out.println("\n¡El Dealer gana con mayor puntaje!");
-            dealer.incrementarPartidasGanadas();
-        } else {
-            System.out.println("\n¡Empate! Ambos tienen el mismo puntaje.");
+            // Determinar el ganador
+            if (asiento.sePaso()) {
+                consola.imprimirLinea("\n¡El Dealer gana! " + asiento.getNombre() + " se pasó de 21.");
+                dealer.incrementarPartidasGanadas();
+            } else if (dealer.sePaso()) {
+                consola.imprimirLinea("\n¡" + asiento.getNombre() + " gana! El Dealer se pasó de 21.");
+                asiento.incrementarPartidasGanadas();
+            } else if (puntajeJugador > puntajeDealer) {
+                consola.imprimirLinea("\n¡" + asiento.getNombre() + " gana con mayor puntaje!");
+                asiento.incrementarPartidasGanadas();
+            } else if (puntajeDealer > puntajeJugador) {
+                consola.imprimirLinea("\n¡El Dealer gana con mayor puntaje!"
+                        + (numeroAsientos == 1 ? "" : " (contra " + asiento.getNombre() + ")"));
+                dealer.incrementarPartidasGanadas();
+            } else {
+                consola.imprimirLinea("\n¡Empate! " + (numeroAsientos == 1 ? "Ambos tienen"
+                        : asiento.getNombre() + " y el Dealer tienen") + " el mismo puntaje.");
+            }
         }
     }
 
@@ -252,48 +461,85 @@ public class Blackjack {
      * Muestra el estado actual del juego.
      */
     private void mostrarEstadoJuego() {
-        System.out.println("\n--- Estado Actual del Juego ---");
-        System.out.println(jugador);
-        System.out.println(dealer);
-        System.out.println("Cartas restantes en la baraja: " + baraja.cartasRestantes());
+        consola.imprimirLinea("\n--- Estado Actual del Juego ---");
+        for (Jugador asiento : asientos) {
+            consola.imprimirLinea(asiento.toString());
+        }
+        consola.imprimirLinea(dealer.toString());
+        consola.imprimirLinea("Cartas restantes en el zapato: " + baraja.cartasRestantes());
     }
 
     /**
      * Pregunta al jugador si desea jugar otra ronda.
      */
     private void preguntarNuevaRonda() {
-        System.out.println("\n¿Deseas jugar otra ronda?");
-        System.out.println("1. Sí");
-        System.out.println("2. No");
-        System.out.print("Selecciona una opción (1-2): ");
-
-        int opcion;
-        try {
-            opcion = Integer.parseInt(scanner.nextLine().trim());
-        } catch (NumberFormatException e) {
-            opcion = 2; // Por defecto, salir
-        }
+        consola.imprimirLinea("\n¿Deseas jugar otra ronda?");
+        consola.imprimirLinea("1. Sí");
+        consola.imprimirLinea("2. No");
+        consola.imprimir("Selecciona una opción (1-2): ");
+
+        // Por defecto, salir (también si se cerró la entrada o se agotó el tiempo)
+        String linea = consola.leerLinea();
+        String opcion = linea == null ? "" : linea.trim().toLowerCase();
+        juegoEnCurso = opcion.equals("1") || opcion.equals("deal") || opcion.equals("si") || opcion.equals("sí");
+    }
 
-        juegoEnCurso = (opcion == 1);
+    /**
+     * Traduce la respuesta del jugador en su turno a una opción del menú.
+     * Acepta el número de la opción o el comando del protocolo de texto
+     * (hit, stand, status).
+     *
+     * @param linea La línea escrita por el jugador.
+     * @return 1 para pedir, 2 para plantarse, 3 para ver el estado o 0 si no es válida.
+     */
+    private static int leerOpcionTurno(String linea) {
+        switch (linea.trim().toLowerCase()) {
+            case "1":
+            case "hit":
+            case "pedir":
+                return 1;
+            case "2":
+            case "stand":
+            case "plantarse":
+                return 2;
+            case "3":
+            case "status":
+            case "estado":
+                return 3;
+            default:
+                return 0; // Valor inválido
+        }
     }
 
     /**
      * Muestra las estadísticas finales del juego.
      */
     private void mostrarEstadisticasFinales() {
-        System.out.println("\n====================================");
-        System.out.println("         ESTADÍSTICAS FINALES       ");
-        System.out.println("====================================");
-        System.out.println(jugador.getNombre() + ": " + jugador.getPartidasGanadas() + " partidas ganadas");
-        System.out.println("Dealer: " + dealer.getPartidasGanadas() + " partidas ganadas");
-
-        // Determinar el ganador general
-        if (jugador.getPartidasGanadas() > dealer.getPartidasGanadas()) {
-            System.out.println("\n¡" + jugador.getNombre() + " es el ganador general!");
-        } else if (dealer.getPartidasGanadas() > jugador.getPartidasGanadas()) {
-            System.out.println("\n¡El Dealer es el ganador general!");
+        consola.imprimirLinea("\n====================================");
+        consola.imprimirLinea("         ESTADÍSTICAS FINALES       ");
+        consola.imprimirLinea("====================================");
+
+        // Determinar el ganador general: quien más partidas ganó
+        Jugador mejor = dealer;
+        boolean empate = false;
+        for (Jugador asiento : asientos) {
+            consola.imprimirLinea(asiento.getNombre() + ": " + asiento.getPartidasGanadas() + " partidas ganadas");
+            if (asiento.getPartidasGanadas() > mejor.getPartidasGanadas()) {
+                mejor = asiento;
+                empate = false;
+            } else if (asiento.getPartidasGanadas() == mejor.getPartidasGanadas()) {
+                empate = true;
+            }
+        }
+        consola.imprimirLinea("Dealer: " + dealer.getPartidasGanadas() + " partidas ganadas");
+
+        if (empate) {
+            consola.imprimirLinea("\n¡Empate en el marcador general!");
+        } else if (mejor == dealer) {
+            consola.imprimirLinea("\n¡El Dealer es el ganador general!");
         } else {
-            System.out.println("\n¡Empate en el marcador general!");
+            consola.imprimirLinea("\n¡" + mejor.getNombre() + " es el ganador general!");
         }
+        mostrarHistorialGuardado("\nHistorial acumulado: ");
     }
-}
\ No newline at end of file
+}
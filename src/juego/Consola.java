@@ -0,0 +1,22 @@
+package juego;
+
+import salida.SalidaJuego;
+
+/**
+ * Frontera de entrada y salida de una partida de {@link Blackjack}.
+ * Permite jugar por la consola estándar o por una conexión de red sin que la
+ * lógica del juego dependa de {@code Scanner} ni de {@code System.out}.
+ * La parte de salida es una {@link SalidaJuego}, así que la consola también
+ * sirve de destino para el registro del turno del Dealer.
+ */
+public interface Consola extends SalidaJuego {
+
+    /**
+     * Lee la siguiente línea escrita por el jugador. Antes de esperar se
+     * envía todo lo escrito hasta ahora.
+     *
+     * @return La línea leída, o null si la entrada se cerró o se agotó el
+     *         tiempo de espera.
+     */
+    String leerLinea();
+}
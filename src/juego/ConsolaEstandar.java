@@ -0,0 +1,64 @@
+package juego;
+
+import salida.SalidaBuffer;
+import salida.SalidaJuego;
+
+import java.util.Scanner;
+
+/**
+ * Consola del juego sobre la entrada estándar. La salida se acumula por
+ * defecto en un {@link SalidaBuffer} sobre {@code System.out} y se envía
+ * justo antes de leer al jugador.
+ */
+public class ConsolaEstandar implements Consola {
+
+    private final Scanner scanner;
+    private final SalidaJuego salida;
+
+    /**
+     * Constructor de la consola estándar con salida por lotes.
+     */
+    public ConsolaEstandar() {
+        this(new SalidaBuffer(System.out));
+    }
+
+    /**
+     * Constructor de la consola estándar con una salida cualquiera.
+     *
+     * @param salida Donde se escriben los mensajes del juego.
+     */
+    public ConsolaEstandar(SalidaJuego salida) {
+        if (salida == null) {
+            throw new IllegalArgumentException("La salida no puede ser null");
+        }
+        this.scanner = new Scanner(System.in);
+        this.salida = salida;
+    }
+
+    @Override
+    public String leerLinea() {
+        salida.vaciar();
+        return scanner.hasNextLine() ? scanner.nextLine() : null;
+    }
+
+    @Override
+    public void imprimir(String texto) {
+        salida.imprimir(texto);
+    }
+
+    @Override
+    public void imprimirLinea(String texto) {
+        salida.imprimirLinea(texto);
+    }
+
+    @Override
+    public void vaciar() {
+        salida.vaciar();
+    }
+
+    @Override
+    public void cerrar() {
+        salida.cerrar();
+        scanner.close();
+    }
+}
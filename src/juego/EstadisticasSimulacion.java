@@ -0,0 +1,177 @@
+package juego;
+
+/**
+ * Acumula los resultados de una simulación de rondas sin interfaz.
+ * Una ronda es un reparto completo de la mesa; cada asiento juega en ella una
+ * mano, así que los resultados y la ventaja de la casa se cuentan por mano.
+ * Los acumuladores parciales de cada hilo se combinan al final con
+ * {@link #combinar(EstadisticasSimulacion)}.
+ */
+public class EstadisticasSimulacion {
+
+    private long rondas;
+    private long manos;
+    private long mezclas;
+    private long victorias;
+    private long blackjacks;
+    private long derrotas;
+    private long empates;
+    private long gananciaMedias;
+    private long nanosegundos;
+
+    /**
+     * Registra una ronda repartida en la mesa.
+     */
+    public void registrarRonda() {
+        rondas++;
+    }
+
+    /**
+     * Registra que el zapato se volvió a mezclar.
+     */
+    public void registrarMezcla() {
+        mezclas++;
+    }
+
+    /**
+     * Registra el resultado de la mano de un asiento.
+     *
+     * @param resultado El resultado de la mano para el jugador.
+     */
+    public void registrar(ResultadoRonda resultado) {
+        manos++;
+        gananciaMedias += resultado.getPagoMedias();
+        switch (resultado) {
+            case BLACKJACK:
+                blackjacks++;
+                victorias++;
+                break;
+            case VICTORIA:
+                victorias++;
+                break;
+            case DERROTA:
+                derrotas++;
+                break;
+            default:
+                empates++;
+        }
+    }
+
+    /**
+     * Suma los contadores de otro acumulador a este.
+     *
+     * @param otro El acumulador a combinar.
+     * @return Este mismo acumulador, para encadenar llamadas.
+     */
+    public EstadisticasSimulacion combinar(EstadisticasSimulacion otro) {
+        rondas += otro.rondas;
+        manos += otro.manos;
+        mezclas += otro.mezclas;
+        victorias += otro.victorias;
+        blackjacks += otro.blackjacks;
+        derrotas += otro.derrotas;
+        empates += otro.empates;
+        gananciaMedias += otro.gananciaMedias;
+        return this;
+    }
+
+    public long getRondas() {
+        return rondas;
+    }
+
+    public long getManos() {
+        return manos;
+    }
+
+    public long getMezclas() {
+        return mezclas;
+    }
+
+    public long getVictorias() {
+        return victorias;
+    }
+
+    public long getBlackjacks() {
+        return blackjacks;
+    }
+
+    public long getDerrotas() {
+        return derrotas;
+    }
+
+    public long getEmpates() {
+        return empates;
+    }
+
+    /**
+     * Ganancia neta del jugador en unidades de apuesta.
+     *
+     * @return La ganancia neta (negativa si pierde).
+     */
+    public double getGananciaNeta() {
+        return gananciaMedias / 2.0;
+    }
+
+    /**
+     * Ventaja de la casa estimada: pérdida media del jugador por apuesta.
+     *
+     * @return La ventaja de la casa como fracción (0.05 = 5%).
+     */
+    public double getVentajaCasa() {
+        return manos == 0 ? 0.0 : -getGananciaNeta() / manos;
+    }
+
+    /**
+     * Establece la duración de la simulación.
+     *
+     * @param nanosegundos Tiempo total transcurrido.
+     */
+    public void setNanosegundos(long nanosegundos) {
+        this.nanosegundos = nanosegundos;
+    }
+
+    /**
+     * Rondas simuladas por segundo de tiempo real.
+     *
+     * @return El rendimiento de la simulación.
+     */
+    public double getRondasPorSegundo() {
+        return nanosegundos == 0 ? 0.0 : rondas * 1_000_000_000.0 / nanosegundos;
+    }
+
+    /**
+     * Manos jugadas por segundo de tiempo real, sumando todos los asientos.
+     *
+     * @return El rendimiento de la simulación en manos.
+     */
+    public double getManosPorSegundo() {
+        return nanosegundos == 0 ? 0.0 : manos * 1_000_000_000.0 / nanosegundos;
+    }
+
+    private double porcentaje(long valor) {
+        return manos == 0 ? 0.0 : valor * 100.0 / manos;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("\n====================================\n");
+        sb.append("       RESULTADOS DE SIMULACIÓN     \n");
+        sb.append("====================================\n");
+        sb.append(String.format("Rondas simuladas: %,d%n", rondas));
+        sb.append(String.format("Manos jugadas: %,d (%.1f por ronda)%n",
+                manos, rondas == 0 ? 0.0 : (double) manos / rondas));
+        sb.append(String.format("Mezclas del zapato: %,d (%.1f rondas por zapato)%n",
+                mezclas, mezclas == 0 ? 0.0 : (double) rondas / mezclas));
+        sb.append(String.format("Victorias: %,d (%.2f%%), de ellas Blackjack: %,d%n",
+                victorias, porcentaje(victorias), blackjacks));
+        sb.append(String.format("Derrotas: %,d (%.2f%%)%n", derrotas, porcentaje(derrotas)));
+        sb.append(String.format("Empates: %,d (%.2f%%)%n", empates, porcentaje(empates)));
+        sb.append(String.format("Ganancia neta: %,.1f apuestas%n", getGananciaNeta()));
+        sb.append(String.format("Ventaja de la casa: %.3f%%%n", getVentajaCasa() * 100));
+        sb.append(String.format("Tiempo: %.2f s (%,.0f rondas/s, %,.0f manos/s)%n",
+                nanosegundos / 1_000_000_000.0, getRondasPorSegundo(), getManosPorSegundo()));
+        sb.append("====================================");
+        return sb.toString();
+    }
+}
@@ -1,25 +1,36 @@
 package juego;
 
+import estructuras.Lista;
 import estructuras.Pila;
 import modelo.Carta;
+import modelo.Dealer;
 import modelo.Jugador;
+import salida.SalidaConsola;
+import salida.SalidaJuego;
+
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Representa una partida individual de Blackjack.
- * Almacena información sobre la partida como las cartas jugadas y el resultado.
+ * Almacena información sobre la partida como las cartas jugadas, las
+ * decisiones de plantarse y el resultado. Se puede guardar y reconstruir con
+ * el registro binario del paquete {@code historial}.
  */
 public class Partida {
 
-    private int id;
+    private long id;
     private Jugador ganador;
     private Pila<JugadaCarta> historialCartas;
     private String resultado;
-    private static int contadorPartidas = 0;
+    private SalidaJuego salida;
+    // Compartido por todas las mesas y simulaciones, que crean partidas en paralelo
+    private static final AtomicLong contadorPartidas = new AtomicLong();
 
     /**
-     * Clase interna para representar una carta jugada con información adicional
+     * Clase interna para representar una carta jugada con información adicional.
+     * Una jugada sin carta representa la decisión de plantarse.
      */
-    private static class JugadaCarta {
+    public static class JugadaCarta {
         private Carta carta;
         private String nombreJugador;
         private int puntajeResultante;
@@ -30,28 +41,107 @@ public class Partida {
             this.puntajeResultante = puntajeResultante;
         }
 
+        /**
+         * Obtiene la carta jugada.
+         * 
+         * @return La carta, o null si la jugada es plantarse.
+         */
+        public Carta getCarta() {
+            return carta;
+        }
+
+        public String getNombreJugador() {
+            return nombreJugador;
+        }
+
+        public int getPuntajeResultante() {
+            return puntajeResultante;
+        }
+
+        /**
+         * Indica si la jugada es la decisión de plantarse.
+         * 
+         * @return true si el jugador se plantó.
+         */
+        public boolean esPlantarse() {
+            return carta == null;
+        }
+
         @Override
         public String toString() {
+            if (carta == null) {
+                return nombreJugador + " se planta (Puntaje: " + puntajeResultante + ")";
+            }
             return nombreJugador + " jugó " + carta + " (Puntaje: " + puntajeResultante + ")";
         }
     }
 
     /**
-     * Constructor de la partida.
+     * Destino de las jugadas de una mano recorrida con
+     * {@link Partida#recorrerMano(Jugador, Dealer, ReceptorJugadas)}.
+     */
+    public interface ReceptorJugadas {
+
+        /**
+         * Recibe una jugada de la mano.
+         *
+         * @param carta             La carta jugada, o null si el jugador se planta.
+         * @param nombreJugador     El nombre del jugador.
+         * @param puntajeResultante El puntaje del jugador tras la jugada.
+         */
+        void jugada(Carta carta, String nombreJugador, int puntajeResultante);
+    }
+
+    /**
+     * Constructor de la partida que registra las jugadas en la consola.
      */
     public Partida() {
-        this.id = ++contadorPartidas;
+        this(SalidaConsola.ESTANDAR);
+    }
+
+    /**
+     * Constructor de la partida con una salida para el registro de jugadas.
+     * 
+     * @param salida Donde se escribe cada jugada registrada.
+     */
+    public Partida(SalidaJuego salida) {
+        this(contadorPartidas.incrementAndGet(), salida);
+    }
+
+    /**
+     * Constructor para reconstruir una partida guardada con su ID original.
+     * 
+     * @param id     El ID de la partida.
+     * @param salida Donde se escribe cada jugada registrada.
+     */
+    public Partida(long id, SalidaJuego salida) {
+        if (salida == null) {
+            throw new IllegalArgumentException("La salida no puede ser null");
+        }
+        this.salida = salida;
+        this.id = id;
+        contadorPartidas.accumulateAndGet(id, Math::max);
         this.historialCartas = new Pila<>();
         this.ganador = null;
         this.resultado = "En curso";
     }
 
+    /**
+     * Reserva el siguiente ID de partida, para guardar una mano sin construir
+     * su Partida.
+     *
+     * @return Un ID nuevo, el mismo que recibiría la próxima Partida creada.
+     */
+    public static long siguienteId() {
+        return contadorPartidas.incrementAndGet();
+    }
+
     /**
      * Obtiene el ID de la partida.
      * 
      * @return El ID de la partida.
      */
-    public int getId() {
+    public long getId() {
         return id;
     }
 
@@ -62,9 +152,98 @@ public class Partida {
      * @param jugador El jugador que jugó la carta.
      */
     public void registrarCartaJugada(Carta carta, Jugador jugador) {
-        JugadaCarta jugada = new JugadaCarta(carta, jugador.getNombre(), jugador.calcularPuntaje());
+        agregarJugada(carta, jugador.getNombre(), jugador.calcularPuntaje());
+    }
+
+    /**
+     * Registra que un jugador se planta con su puntaje actual.
+     * 
+     * @param jugador El jugador que se planta.
+     */
+    public void registrarPlantarse(Jugador jugador) {
+        agregarJugada(null, jugador.getNombre(), jugador.calcularPuntaje());
+    }
+
+    /**
+     * Agrega una jugada al historial a partir de sus datos.
+     * 
+     * @param carta             La carta jugada, o null si el jugador se planta.
+     * @param nombreJugador     El nombre del jugador.
+     * @param puntajeResultante El puntaje del jugador tras la jugada.
+     */
+    public void agregarJugada(Carta carta, String nombreJugador, int puntajeResultante) {
+        JugadaCarta jugada = new JugadaCarta(carta, nombreJugador, puntajeResultante);
         historialCartas.apilar(jugada);
-        System.out.println(jugada.toString());
+        // Con una salida que descarta (simulación, lectura del historial) no se formatea
+        if (!salida.descarta()) {
+            salida.imprimirLinea(jugada.toString());
+        }
+    }
+
+    /**
+     * Registra una mano terminada de un jugador contra el Dealer en el orden
+     * real de reparto (ver {@link #recorrerMano(Jugador, Dealer, ReceptorJugadas)}).
+     * 
+     * @param jugador El jugador de la mano.
+     * @param dealer  El Dealer de la mesa.
+     */
+    public void registrarMano(Jugador jugador, Dealer dealer) {
+        recorrerMano(jugador, dealer, this::agregarJugada);
+    }
+
+    /**
+     * Recorre las jugadas de una mano terminada en el orden real de reparto:
+     * primera carta del jugador, primera del Dealer (la visible), segunda del
+     * jugador, segunda del Dealer, las cartas pedidas por el jugador, su
+     * decisión de plantarse y las cartas del Dealer. Cada carta va con el
+     * puntaje que tenía su jugador en ese momento. No crea objetos.
+     * 
+     * @param jugador  El jugador de la mano.
+     * @param dealer   El Dealer de la mesa.
+     * @param receptor Quien recibe cada jugada.
+     */
+    public static void recorrerMano(Jugador jugador, Dealer dealer, ReceptorJugadas receptor) {
+        Lista<Carta> manoJugador = jugador.getMano();
+        Lista<Carta> manoDealer = dealer.getMano();
+        // Total duro y ases de las cartas ya emitidas de cada uno
+        int duroJugador = 0;
+        int asesJugador = 0;
+        int duroDealer = 0;
+        int asesDealer = 0;
+
+        for (int i = 0; i < 2; i++) {
+            Carta carta = manoJugador.obtenerElemento(i);
+            duroJugador += carta.getValorNumerico();
+            asesJugador += carta.esAs() ? 1 : 0;
+            receptor.jugada(carta, jugador.getNombre(), puntaje(duroJugador, asesJugador));
+
+            carta = manoDealer.obtenerElemento(i);
+            duroDealer += carta.getValorNumerico();
+            asesDealer += carta.esAs() ? 1 : 0;
+            receptor.jugada(carta, dealer.getNombre(), puntaje(duroDealer, asesDealer));
+        }
+        for (int i = 2; i < manoJugador.tamaño(); i++) {
+            Carta carta = manoJugador.obtenerElemento(i);
+            duroJugador += carta.getValorNumerico();
+            asesJugador += carta.esAs() ? 1 : 0;
+            receptor.jugada(carta, jugador.getNombre(), puntaje(duroJugador, asesJugador));
+        }
+        if (!jugador.sePaso() && !jugador.tieneBlackjack() && !dealer.tieneBlackjack()) {
+            receptor.jugada(null, jugador.getNombre(), jugador.calcularPuntaje());
+        }
+        for (int i = 2; i < manoDealer.tamaño(); i++) {
+            Carta carta = manoDealer.obtenerElemento(i);
+            duroDealer += carta.getValorNumerico();
+            asesDealer += carta.esAs() ? 1 : 0;
+            receptor.jugada(carta, dealer.getNombre(), puntaje(duroDealer, asesDealer));
+        }
+    }
+
+    /**
+     * Puntaje de una mano a partir de su total duro y sus ases.
+     */
+    private static int puntaje(int duro, int ases) {
+        return ases > 0 && duro + 10 <= 21 ? duro + 10 : duro;
     }
 
     /**
@@ -75,7 +254,7 @@ public class Partida {
      */
     public void establecerGanador(Jugador ganador, String razon) {
         this.ganador = ganador;
-        this.resultado = ganador != null ? ganador.getNombre() + " ganó: " + razon : "Empate: " + razon;
+        this.resultado = describirResultado(ganador, razon);
 
         // Incrementar contador de partidas ganadas si hay un ganador
         if (ganador != null) {
@@ -83,6 +262,29 @@ public class Partida {
         }
     }
 
+    /**
+     * Describe el resultado de una partida como lo guarda establecerGanador().
+     * 
+     * @param ganador El jugador ganador o null si fue empate.
+     * @param razon   La razón del resultado.
+     * @return La descripción del resultado.
+     */
+    public static String describirResultado(Jugador ganador, String razon) {
+        return ganador != null ? ganador.getNombre() + " ganó: " + razon : "Empate: " + razon;
+    }
+
+    /**
+     * Restaura el resultado de una partida guardada, sin volver a contar la
+     * victoria del ganador.
+     * 
+     * @param ganador   El jugador ganador o null si fue empate.
+     * @param resultado La descripción del resultado tal como se guardó.
+     */
+    public void restaurarResultado(Jugador ganador, String resultado) {
+        this.ganador = ganador;
+        this.resultado = resultado;
+    }
+
     /**
      * Obtiene el ganador de la partida.
      * 
@@ -110,6 +312,25 @@ public class Partida {
         return historialCartas;
     }
 
+    /**
+     * Copia las jugadas en orden cronológico (de la primera a la última).
+     * 
+     * @param destino Arreglo con al menos getTotalJugadas() posiciones.
+     * @return El número de jugadas copiadas.
+     */
+    public int copiarJugadas(JugadaCarta[] destino) {
+        return historialCartas.copiarDesdeBase(destino);
+    }
+
+    /**
+     * Obtiene el número de jugadas registradas.
+     * 
+     * @return El total de jugadas.
+     */
+    public int getTotalJugadas() {
+        return historialCartas.tamaño();
+    }
+
     /**
      * Muestra el historial de cartas jugadas en orden inverso (desde la primera
      * hasta la última).
@@ -0,0 +1,90 @@
+package juego;
+
+import modelo.Dealer;
+import modelo.Jugador;
+
+/**
+ * Resultado de una ronda desde el punto de vista del jugador.
+ * Cada resultado conoce su pago en medias unidades de apuesta para poder
+ * acumular ganancias con aritmética entera (el Blackjack paga 3:2).
+ */
+public enum ResultadoRonda {
+
+    BLACKJACK(3, "Blackjack"),
+    VICTORIA(2, "Victoria"),
+    EMPATE(0, "Empate"),
+    DERROTA(-2, "Derrota");
+
+    private final int pagoMedias;
+    private final String descripcion;
+
+    ResultadoRonda(int pagoMedias, String descripcion) {
+        this.pagoMedias = pagoMedias;
+        this.descripcion = descripcion;
+    }
+
+    /**
+     * Obtiene la descripción del resultado.
+     *
+     * @return El nombre legible del resultado.
+     */
+    public String getDescripcion() {
+        return descripcion;
+    }
+
+    /**
+     * Obtiene el pago del resultado en medias unidades de apuesta.
+     *
+     * @return El pago (3 = +1.5 apuestas, -2 = -1 apuesta).
+     */
+    public int getPagoMedias() {
+        return pagoMedias;
+    }
+
+    /**
+     * Determina el resultado de una ronda terminada aplicando las mismas reglas
+     * que {@link Blackjack}.
+     *
+     * @param jugador El jugador.
+     * @param dealer  El Dealer.
+     * @return El resultado para el jugador.
+     */
+    public static ResultadoRonda determinar(Jugador jugador, Dealer dealer) {
+        return determinar(jugador.calcularPuntaje(), jugador.tieneBlackjack(),
+                dealer.calcularPuntaje(), dealer.tieneBlackjack());
+    }
+
+    /**
+     * Determina el resultado a partir de los puntajes finales, para manos que
+     * ya no están en un {@link Jugador} (por ejemplo, leídas del historial).
+     *
+     * @param puntajeJugador   Puntaje final del jugador.
+     * @param blackjackJugador true si el jugador tuvo Blackjack inicial.
+     * @param puntajeDealer    Puntaje final del Dealer.
+     * @param blackjackDealer  true si el Dealer tuvo Blackjack inicial.
+     * @return El resultado para el jugador.
+     */
+    public static ResultadoRonda determinar(int puntajeJugador, boolean blackjackJugador, int puntajeDealer,
+            boolean blackjackDealer) {
+        if (blackjackJugador || blackjackDealer) {
+            if (blackjackJugador && blackjackDealer) {
+                return EMPATE;
+            }
+            return blackjackJugador ? BLACKJACK : DERROTA;
+        }
+
+        if (puntajeJugador > 21) {
+            return DERROTA;
+        }
+        if (puntajeDealer > 21) {
+            return VICTORIA;
+        }
+
+        if (puntajeJugador > puntajeDealer) {
+            return VICTORIA;
+        } else if (puntajeDealer > puntajeJugador) {
+            return DERROTA;
+        }
+        return EMPATE;
+    }
+}
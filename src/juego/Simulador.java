@@ -0,0 +1,369 @@
+package juego;
+
+import historial.RegistroManos;
+import modelo.Carta;
+import modelo.Dealer;
+import modelo.Estrategia;
+import modelo.Jugador;
+import modelo.JugadorBot;
+import modelo.ReglasDealer;
+import modelo.Zapato;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.random.RandomGenerator;
+
+/**
+ * Motor de simulación Monte Carlo sin interfaz.
+ * Reparte millones de rondas entre todos los núcleos con fork-join: cada tarea
+ * hoja juega su bloque de rondas con su propia mesa de bots, Dealer y zapato,
+ * y los acumuladores parciales se combinan al unir las tareas.
+ *
+ * Cada mesa tiene de 1 a 7 asientos servidos del mismo zapato en el orden
+ * real de reparto. Dentro de una hoja las decisiones se toman en el hilo de
+ * la tarea: el paralelismo ya está en las mesas.
+ *
+ * Cada hoja mezcla con su propio generador aleatorio, sin estado compartido
+ * entre hilos. Con un generador maestro (por ejemplo una semilla), el de cada
+ * hoja se deriva siguiendo la división del rango, que no depende del hilo que
+ * ejecute cada tarea: con {@code split()} si el maestro es divisible, o con
+ * saltos ({@code jump()}) si es saltable como los xoshiro, dando a cada hoja
+ * un tramo distinto de la secuencia. Dos simulaciones con la misma semilla y
+ * el mismo número de rondas dan exactamente el mismo resultado.
+ */
+public class Simulador {
+
+    // Rondas por tarea hoja: suficiente para amortizar el coste de la tarea
+    private static final long RONDAS_POR_TAREA = 20_000;
+
+    // Zapato por defecto: 6 barajas con carta de corte al 75%
+    private static final int NUMERO_BARAJAS = 6;
+    private static final double PENETRACION = 0.75;
+
+    private final Estrategia estrategia;
+    private final ReglasDealer reglas;
+    private final int numeroBarajas;
+    private final double penetracion;
+    private final int asientos;
+    private final ForkJoinPool pool;
+    private RegistroManos historial;
+    // Divisible o saltable; ver setGeneradorMaestro
+    private RandomGenerator generadorMaestro;
+
+    /**
+     * Constructor del simulador sobre el pool común de fork-join.
+     *
+     * @param estrategia La estrategia con la que deciden los bots.
+     */
+    public Simulador(Estrategia estrategia) {
+        this(estrategia, 1);
+    }
+
+    /**
+     * Constructor del simulador con varios asientos por mesa.
+     *
+     * @param estrategia La estrategia con la que deciden los bots.
+     * @param asientos   Número de asientos de cada mesa (1 a 7).
+     */
+    public Simulador(Estrategia estrategia, int asientos) {
+        this(estrategia, ReglasDealer.PLANTARSE_EN_17_SUAVE, NUMERO_BARAJAS, PENETRACION, asientos,
+                ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor del simulador con reglas, zapato y pool propios.
+     *
+     * @param estrategia    La estrategia con la que deciden los bots.
+     * @param reglas        Las reglas de la casa que sigue el Dealer.
+     * @param numeroBarajas Número de barajas de cada zapato (1 a 8).
+     * @param penetracion   Fracción del zapato repartida antes de mezclar.
+     * @param pool          El pool de fork-join donde se ejecutan las tareas.
+     */
+    public Simulador(Estrategia estrategia, ReglasDealer reglas, int numeroBarajas, double penetracion,
+            ForkJoinPool pool) {
+        this(estrategia, reglas, numeroBarajas, penetracion, 1, pool);
+    }
+
+    /**
+     * Constructor del simulador con reglas, zapato, asientos y pool propios.
+     *
+     * @param estrategia    La estrategia con la que deciden los bots.
+     * @param reglas        Las reglas de la casa que sigue el Dealer.
+     * @param numeroBarajas Número de barajas de cada zapato (1 a 8).
+     * @param penetracion   Fracción del zapato repartida antes de mezclar.
+     * @param asientos      Número de asientos de cada mesa (1 a 7).
+     * @param pool          El pool de fork-join donde se ejecutan las tareas.
+     */
+    public Simulador(Estrategia estrategia, ReglasDealer reglas, int numeroBarajas, double penetracion,
+            int asientos, ForkJoinPool pool) {
+        if (estrategia == null || reglas == null || pool == null) {
+            throw new IllegalArgumentException("La estrategia, las reglas y el pool no pueden ser null");
+        }
+        if (asientos < 1 || asientos > Turno.MAX_ASIENTOS) {
+            throw new IllegalArgumentException(String.format(
+                    "Número de asientos %d fuera de rango [1,%d]", asientos, Turno.MAX_ASIENTOS));
+        }
+        Zapato.validarConfiguracion(numeroBarajas, penetracion);
+        this.estrategia = estrategia;
+        this.reglas = reglas;
+        this.numeroBarajas = numeroBarajas;
+        this.penetracion = penetracion;
+        this.asientos = asientos;
+        this.pool = pool;
+    }
+
+    /**
+     * Guarda cada mano simulada en un registro de historial. Sin registro (por
+     * defecto) no se crea ninguna {@link Partida}.
+     *
+     * @param historial El registro donde se anexan las manos, o null.
+     */
+    public void setHistorial(RegistroManos historial) {
+        this.historial = historial;
+    }
+
+    /**
+     * Fija la semilla de la simulación para poder repetirla exactamente.
+     *
+     * @param semilla La semilla del generador maestro.
+     */
+    public void setSemilla(long semilla) {
+        setGeneradorMaestro(new SplittableRandom(semilla));
+    }
+
+    /**
+     * Fija el generador maestro del que se derivan los de cada tarea: uno
+     * divisible, por ejemplo de la familia LXM ({@code L64X128MixRandom}), o
+     * uno saltable, por ejemplo {@code Xoshiro256PlusPlus}. Sin generador
+     * maestro (por defecto) cada tarea usa un generador con semilla propia.
+     *
+     * @param generadorMaestro El generador maestro, o null.
+     * @throws IllegalArgumentException si el generador no es divisible ni
+     *                                  saltable.
+     */
+    public void setGeneradorMaestro(RandomGenerator generadorMaestro) {
+        if (generadorMaestro != null && !(generadorMaestro instanceof RandomGenerator.SplittableGenerator)
+                && !(generadorMaestro instanceof RandomGenerator.JumpableGenerator)) {
+            throw new IllegalArgumentException("El generador maestro debe ser divisible o saltable: "
+                    + generadorMaestro.getClass().getSimpleName());
+        }
+        this.generadorMaestro = generadorMaestro;
+    }
+
+    /**
+     * Simula el número de rondas indicado en paralelo.
+     *
+     * @param rondas Número total de rondas a simular.
+     * @return Las estadísticas agregadas, incluyendo rondas por segundo.
+     */
+    public EstadisticasSimulacion simular(long rondas) {
+        if (rondas < 0) {
+            throw new IllegalArgumentException("El número de rondas no puede ser negativo");
+        }
+
+        long inicio = System.nanoTime();
+        // Cada simulación parte de un flujo nuevo del maestro: repetir la misma
+        // secuencia de llamadas con la misma semilla repite los resultados
+        RandomGenerator generador = null;
+        if (generadorMaestro instanceof RandomGenerator.SplittableGenerator) {
+            generador = ((RandomGenerator.SplittableGenerator) generadorMaestro).split();
+        } else if (generadorMaestro != null) {
+            // El maestro salta tantos tramos como hojas tendrá esta simulación
+            RandomGenerator.JumpableGenerator saltable = (RandomGenerator.JumpableGenerator) generadorMaestro;
+            generador = saltable.copy();
+            saltar(saltable, hojas(rondas));
+        }
+        EstadisticasSimulacion estadisticas = pool.invoke(new TareaSimulacion(this, rondas, generador));
+        estadisticas.setNanosegundos(System.nanoTime() - inicio);
+        return estadisticas;
+    }
+
+    /**
+     * Número de tareas hoja en que se divide un rango de rondas.
+     */
+    private static long hojas(long rondas) {
+        if (rondas <= RONDAS_POR_TAREA) {
+            return 1;
+        }
+        long mitad = rondas / 2;
+        return hojas(mitad) + hojas(rondas - mitad);
+    }
+
+    private static void saltar(RandomGenerator.JumpableGenerator generador, long saltos) {
+        for (long i = 0; i < saltos; i++) {
+            generador.jump();
+        }
+    }
+
+    /**
+     * Tarea recursiva que divide el rango de rondas hasta el tamaño de hoja.
+     */
+    private static class TareaSimulacion extends RecursiveTask<EstadisticasSimulacion> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Simulador config;
+        private final long rondas;
+        // Generador propio de la tarea, o null para uno con semilla propia
+        private final RandomGenerator generador;
+        // Textos de resultado del historial por asiento y resultado, creados al usarse
+        private String[][] textosResultado;
+
+        TareaSimulacion(Simulador config, long rondas, RandomGenerator generador) {
+            this.config = config;
+            this.rondas = rondas;
+            this.generador = generador;
+        }
+
+        @Override
+        protected EstadisticasSimulacion compute() {
+            if (rondas <= RONDAS_POR_TAREA) {
+                return jugarBloque();
+            }
+
+            long mitad = rondas / 2;
+            TareaSimulacion izquierda = new TareaSimulacion(config, mitad, derivar(mitad));
+            TareaSimulacion derecha = new TareaSimulacion(config, rondas - mitad, generador);
+            izquierda.fork();
+            EstadisticasSimulacion resultado = derecha.compute();
+            return resultado.combinar(izquierda.join());
+        }
+
+        /**
+         * Generador de la mitad izquierda. Uno divisible se divide; uno
+         * saltable se copia y luego salta tantos tramos como hojas tendrá la
+         * izquierda, así que la derecha sigue en un tramo que nadie más usa.
+         */
+        private RandomGenerator derivar(long rondasIzquierda) {
+            if (generador == null) {
+                return null;
+            }
+            if (generador instanceof RandomGenerator.SplittableGenerator) {
+                return ((RandomGenerator.SplittableGenerator) generador).split();
+            }
+            RandomGenerator.JumpableGenerator saltable = (RandomGenerator.JumpableGenerator) generador;
+            RandomGenerator.JumpableGenerator izquierda = saltable.copy();
+            saltar(saltable, hojas(rondasIzquierda));
+            return izquierda;
+        }
+
+        private EstadisticasSimulacion jugarBloque() {
+            EstadisticasSimulacion estadisticas = new EstadisticasSimulacion();
+            JugadorBot[] bots = new JugadorBot[config.asientos];
+            for (int i = 0; i < bots.length; i++) {
+                bots[i] = new JugadorBot("Bot " + (i + 1), config.estrategia);
+            }
+            Dealer dealer = new Dealer(config.reglas);
+            dealer.setModoSilencioso(true);
+            Zapato zapato = new Zapato(config.numeroBarajas, config.penetracion,
+                    generador != null ? generador : new SplittableRandom());
+            Turno turno = new Turno();
+            boolean[] pedir = new boolean[bots.length];
+
+            for (long i = 0; i < rondas; i++) {
+                jugarRonda(zapato, bots, dealer, turno, pedir, estadisticas);
+            }
+            return estadisticas;
+        }
+
+        /**
+         * Juega una ronda completa de la mesa sin salida por consola.
+         * Reparte como en el casino: una carta a cada asiento en orden y luego
+         * al Dealer, dos veces; después juega cada asiento en orden y al final
+         * el Dealer, solo si queda alguna mano por resolver.
+         */
+        private void jugarRonda(Zapato baraja, JugadorBot[] bots, Dealer dealer, Turno turno, boolean[] pedir,
+                EstadisticasSimulacion estadisticas) {
+            if (baraja.prepararRonda()) {
+                estadisticas.registrarMezcla();
+            }
+            estadisticas.registrarRonda();
+
+            for (JugadorBot bot : bots) {
+                bot.limpiarMano();
+            }
+            dealer.limpiarMano();
+
+            for (int i = 0; i < 2; i++) {
+                for (JugadorBot bot : bots) {
+                    bot.recibirCarta(baraja.robarCarta());
+                }
+                dealer.recibirCarta(baraja.robarCarta());
+            }
+
+            if (!dealer.tieneBlackjack()) {
+                Carta cartaVisible = dealer.getMano().obtenerElemento(0);
+                turno.reiniciarTurnos(bots);
+                turno.recogerDecisiones(cartaVisible, pedir);
+
+                boolean quedanManos = false;
+                for (int i = 0; i < bots.length; i++) {
+                    JugadorBot bot = bots[i];
+                    if (bot.tieneBlackjack()) {
+                        continue;
+                    }
+                    if (pedir[i]) {
+                        do {
+                            bot.recibirCarta(baraja.robarCarta());
+                        } while (bot.debePedirCarta(cartaVisible));
+                    }
+                    quedanManos |= !bot.sePaso();
+                }
+
+                if (quedanManos) {
+                    dealer.jugarTurnoSilencioso(baraja);
+                }
+            }
+
+            for (int i = 0; i < bots.length; i++) {
+                ResultadoRonda resultado = ResultadoRonda.determinar(bots[i], dealer);
+                estadisticas.registrar(resultado);
+                if (config.historial != null) {
+                    guardarMano(i, bots[i], dealer, resultado);
+                }
+            }
+        }
+
+        /**
+         * Anexa la mano de un asiento al registro de historial con el mismo
+         * contenido que una Partida con registrarMano() y establecerGanador(),
+         * pero sin construirla.
+         */
+        private void guardarMano(int asiento, JugadorBot bot, Dealer dealer, ResultadoRonda resultado) {
+            Jugador ganador;
+            switch (resultado) {
+                case BLACKJACK:
+                case VICTORIA:
+                    ganador = bot;
+                    break;
+                case DERROTA:
+                    ganador = dealer;
+                    break;
+                default:
+                    ganador = null;
+            }
+            if (ganador != null) {
+                ganador.incrementarPartidasGanadas();
+            }
+
+            // Los textos de resultado se repiten: uno por asiento y resultado
+            if (textosResultado == null) {
+                textosResultado = new String[config.asientos][ResultadoRonda.values().length];
+            }
+            String texto = textosResultado[asiento][resultado.ordinal()];
+            if (texto == null) {
+                texto = Partida.describirResultado(ganador, resultado.getDescripcion());
+                textosResultado[asiento][resultado.ordinal()] = texto;
+            }
+
+            try {
+                config.historial.agregarMano(Partida.siguienteId(), bot, dealer, ganador, texto);
+            } catch (IOException e) {
+                throw new UncheckedIOException("No se pudo guardar la mano en el historial", e);
+            }
+        }
+    }
+}
@@ -1,30 +1,59 @@
 package juego;
 
-import estructuras.Cola;
+import estructuras.ColaCircular;
+import modelo.Carta;
 import modelo.Jugador;
+import modelo.JugadorBot;
 
 /**
  * Gestiona los turnos de juego utilizando una Cola (FIFO).
  * Controla el orden en que los jugadores y el dealer realizan sus acciones.
+ * La cola es un arreglo circular acotado que se reutiliza en cada ronda, así
+ * que reiniciar los turnos no crea objetos.
+ *
+ * Además conserva el orden de la ronda en un arreglo para recoger de una vez
+ * las decisiones de los bots sobre su mano inicial.
  */
 public class Turno {
 
-    private Cola<Jugador> colaTurnos;
+    /** Número máximo de asientos de jugador en una mesa. */
+    public static final int MAX_ASIENTOS = 7;
+
+    // Capacidad por defecto: 7 asientos más el Dealer
+    private static final int CAPACIDAD_MESA = MAX_ASIENTOS + 1;
+
+    private ColaCircular<Jugador> colaTurnos;
+    // Orden de la ronda según la última llamada a reiniciarTurnos
+    private final Jugador[] orden;
+    private int participantes;
 
     /**
      * Constructor de la clase Turno.
      */
     public Turno() {
-        this.colaTurnos = new Cola<>();
+        this(CAPACIDAD_MESA);
+    }
+
+    /**
+     * Constructor con el número máximo de participantes por ronda.
+     * 
+     * @param capacidad Número máximo de jugadores, incluido el Dealer.
+     */
+    public Turno(int capacidad) {
+        this.colaTurnos = ColaCircular.unProductor(capacidad);
+        this.orden = new Jugador[colaTurnos.capacidad()];
     }
 
     /**
      * Agrega un jugador a la cola de turnos.
      * 
      * @param jugador El jugador a agregar.
+     * @throws IllegalStateException si la mesa ya está completa.
      */
     public void agregarJugador(Jugador jugador) {
-        colaTurnos.encolar(jugador);
+        if (!colaTurnos.encolar(jugador)) {
+            throw new IllegalStateException("La mesa está completa: " + colaTurnos.capacidad() + " jugadores");
+        }
     }
 
     /**
@@ -61,13 +90,47 @@ public class Turno {
      */
     public void reiniciarTurnos(Jugador... jugadores) {
         // Vaciar la cola actual
-        while (!colaTurnos.estaVacia()) {
-            colaTurnos.desencolar();
-        }
+        colaTurnos.vaciar();
+        participantes = 0;
 
         // Agregar los jugadores en el orden proporcionado
         for (Jugador jugador : jugadores) {
-            colaTurnos.encolar(jugador);
+            agregarJugador(jugador);
+            orden[participantes++] = jugador;
+        }
+    }
+
+    /**
+     * Obtiene el número de participantes de la ronda actual.
+     *
+     * @return Los jugadores pasados a la última llamada a reiniciarTurnos.
+     */
+    public int getParticipantes() {
+        return participantes;
+    }
+
+    /**
+     * Recoge la primera decisión de cada participante de la ronda frente a la
+     * carta visible del Dealer: pedir[i] indica si el i-ésimo participante
+     * (en el orden de {@link #reiniciarTurnos(Jugador...)}) pide carta.
+     *
+     * Solo depende de la mano inicial de cada bot y de la carta visible; las
+     * cartas que se pidan después deben repartirse en orden, asiento por
+     * asiento. Los jugadores que no son bots (humanos y Dealer) quedan en
+     * false: deciden en su propio turno. Se calcula en el hilo actual: cada
+     * decisión tarda nanosegundos, y el paralelismo de la simulación viene de
+     * jugar mesas distintas en tareas distintas.
+     *
+     * @param cartaVisible La carta descubierta del Dealer.
+     * @param pedir        Arreglo destino, con al menos getParticipantes() posiciones.
+     */
+    public void recogerDecisiones(Carta cartaVisible, boolean[] pedir) {
+        if (pedir.length < participantes) {
+            throw new IllegalArgumentException("El arreglo de decisiones tiene " + pedir.length
+                    + " posiciones para " + participantes + " participantes");
+        }
+        for (int i = 0; i < participantes; i++) {
+            pedir[i] = orden[i] instanceof JugadorBot && ((JugadorBot) orden[i]).debePedirCarta(cartaVisible);
         }
     }
 
@@ -1,78 +1,90 @@
 package modelo;
 
-import estructuras.ListaEnlazada;
-import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
 
 /**
  * Representa la baraja de cartas para el juego de Blackjack.
- * Utiliza una Lista Enlazada para almacenar las cartas.
+ * Las cartas viven en un arreglo de códigos (byte) y se mezclan de forma
+ * perezosa: mezclar() solo marca la baraja y cada robarCarta() hace un paso
+ * de Fisher-Yates, así que solo se sortean las cartas que se reparten.
  */
-public class Baraja {
+public class Baraja implements Mazo {
 
-    private ListaEnlazada<Carta> cartas;
-    private Random random;
+    // Códigos de carta; las restantes ocupan [cursor, codigos.length)
+    private final byte[] codigos;
+    private int cursor;
+    private boolean mezclada;
+    private RandomGenerator random;
+    private ObservadorMazo[] observadores = new ObservadorMazo[0];
 
     /**
      * Constructor de la baraja.
      * Inicializa una baraja estándar de 52 cartas.
      */
     public Baraja() {
-        this.cartas = new ListaEnlazada<>();
-        this.random = new Random();
+        this(new SplittableRandom());
+    }
+
+    /**
+     * Constructor de la baraja con un generador propio para mezclar, por
+     * ejemplo uno sembrado para repetir una partida.
+     *
+     * @param random El generador de números aleatorios de la mezcla.
+     */
+    public Baraja(RandomGenerator random) {
+        if (random == null) {
+            throw new IllegalArgumentException("El generador aleatorio no puede ser null");
+        }
+        this.codigos = new byte[Carta.TOTAL_CARTAS];
+        this.random = random;
         inicializarBaraja();
     }
 
     /**
      * Inicializa la baraja con las 52 cartas estándar.
+     * Reutiliza las instancias canónicas de {@link Carta}, sin crear cartas nuevas.
      */
     private void inicializarBaraja() {
-        String[] palos = { Carta.CORAZONES, Carta.DIAMANTES, Carta.TREBOLES, Carta.PICAS };
-        String[] valores = { Carta.AS, "2", "3", "4", "5", "6", "7", "8", "9", "10",
-                Carta.JOTA, Carta.REINA, Carta.REY };
-
-        for (String palo : palos) {
-            for (String valor : valores) {
-                cartas.agregar(new Carta(valor, palo));
-            }
+        for (int codigo = 0; codigo < Carta.TOTAL_CARTAS; codigo++) {
+            codigos[codigo] = (byte) codigo;
         }
     }
 
     /**
-     * Mezcla las cartas de la baraja de manera aleatoria.
-     * Implementa el algoritmo de Fisher-Yates para mezclar.
+     * Mezcla las cartas restantes de la baraja de manera aleatoria.
+     * Complejidad: O(1) - la mezcla es perezosa: cada robarCarta() elige la
+     * carta al azar entre las restantes (un paso de Fisher-Yates), lo que da
+     * la misma distribución que mezclar todo de antemano. Solo reordena las
+     * cartas restantes, así que no notifica a los observadores.
      */
     public void mezclar() {
-        // Convertimos la lista enlazada a un arreglo para facilitar la mezcla
-        Carta[] arregloCartas = new Carta[cartas.tamaño()];
-        int indice = 0;
-
-        // Extraemos todas las cartas a un arreglo
-        while (!cartas.estaVacia()) {
-            arregloCartas[indice++] = cartas.eliminarPrimero();
-        }
-
-        // Algoritmo de Fisher-Yates para mezclar
-        for (int i = arregloCartas.length - 1; i > 0; i--) {
-            int j = random.nextInt(i + 1);
-            // Intercambiar arregloCartas[i] y arregloCartas[j]
-            Carta temp = arregloCartas[i];
-            arregloCartas[i] = arregloCartas[j];
-            arregloCartas[j] = temp;
-        }
-
-        // Volvemos a agregar las cartas mezcladas a la lista enlazada
-        for (Carta carta : arregloCartas) {
-            cartas.agregar(carta);
-        }
+        mezclada = true;
     }
 
     /**
-     * Roba la carta superior de la baraja.
+     * Roba la carta superior de la baraja y la notifica a los observadores.
+     * Si la baraja está mezclada, la carta superior se sortea en este momento.
+     * Complejidad: O(1)
      * 
      * @return La carta robada o null si la baraja está vacía.
      */
+    @Override
     public Carta robarCarta() {
-        return cartas.eliminarPrimero();
+        if (cursor == codigos.length) {
+            return null;
+        }
+        if (mezclada) {
+            int j = cursor + random.nextInt(codigos.length - cursor);
+            byte temp = codigos[cursor];
+            codigos[cursor] = codigos[j];
+            codigos[j] = temp;
+        }
+        Carta carta = Carta.obtener(codigos[cursor++]);
+        for (ObservadorMazo observador : observadores) {
+            observador.cartaRobada(carta);
+        }
+        return carta;
     }
 
     /**
@@ -80,8 +92,9 @@ public class Baraja {
      * 
      * @return true si la baraja está vacía, false en caso contrario.
      */
+    @Override
     public boolean estaVacia() {
-        return cartas.estaVacia();
+        return cursor == codigos.length;
     }
 
     /**
@@ -89,17 +102,46 @@ public class Baraja {
      * 
      * @return El número de cartas en la baraja.
      */
+    @Override
     public int cartasRestantes() {
-        return cartas.tamaño();
+        return codigos.length - cursor;
+    }
+
+    @Override
+    public int[] contarValores() {
+        int[] conteo = new int[11];
+        for (int i = cursor; i < codigos.length; i++) {
+            conteo[Carta.obtener(codigos[i]).getValorNumerico()]++;
+        }
+        return conteo;
+    }
+
+    @Override
+    public void agregarObservador(ObservadorMazo observador) {
+        if (observador == null) {
+            throw new IllegalArgumentException("El observador no puede ser null");
+        }
+        ObservadorMazo[] nuevos = new ObservadorMazo[observadores.length + 1];
+        System.arraycopy(observadores, 0, nuevos, 0, observadores.length);
+        nuevos[observadores.length] = observador;
+        observadores = nuevos;
     }
 
     /**
-     * Muestra el estado actual de la baraja.
+     * Muestra el estado actual de la baraja. En una baraja mezclada el orden
+     * de las cartas restantes aún no está decidido, así que se listan en el
+     * orden en que están guardadas.
      * 
      * @return Una representación en cadena de la baraja.
      */
     @Override
     public String toString() {
-        return "Baraja [" + cartasRestantes() + " cartas]\n" + cartas.toString();
+        StringBuilder sb = new StringBuilder();
+        sb.append("Baraja [").append(cartasRestantes()).append(" cartas]\n");
+        for (int i = cursor; i < codigos.length; i++) {
+            sb.append("[").append(Carta.obtener(codigos[i])).append("]->");
+        }
+        sb.append(cursor == codigos.length ? "[]->null" : "null");
+        return sb.toString();
     }
 }
\ No newline at end of file
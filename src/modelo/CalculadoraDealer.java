@@ -0,0 +1,188 @@
+package modelo;
+
+import estructuras.CacheLRU;
+
+/**
+ * Calcula de forma exacta la distribución del puntaje final del Dealer a partir
+ * de su carta visible y de la composición real de las cartas que quedan.
+ *
+ * Recorre recursivamente todas las cartas que el Dealer podría pedir según sus
+ * {@link ReglasDealer}, extrayéndolas sin reposición de la composición. Los
+ * subresultados se memorizan en una {@link CacheLRU} acotada con clave
+ * (composición restante, mano del Dealer): dos secuencias de cartas con el
+ * mismo multiconjunto llevan al mismo estado y se calculan una sola vez.
+ *
+ * No es segura para hilos: cada hilo debe usar su propia calculadora.
+ */
+public class CalculadoraDealer {
+
+    private static final int CAPACIDAD_POR_DEFECTO = 100_000;
+
+    // Bits por valor en la clave de composición: 6 para 1..9 y 8 para el 10,
+    // suficiente para 8 barajas (32 cartas por valor y 128 dieces)
+    private static final int BITS_VALOR = 6;
+    private static final int MAXIMO_VALOR = (1 << BITS_VALOR) - 1;
+    private static final int MAXIMO_DIECES = 255;
+
+    // Distribuciones de un solo resultado, compartidas y de solo lectura
+    private static final double[][] FINALES = new double[DistribucionDealer.PASADO + 1][];
+
+    static {
+        for (int i = 0; i <= DistribucionDealer.PASADO; i++) {
+            FINALES[i] = new double[DistribucionDealer.PASADO + 1];
+            FINALES[i][i] = 1.0;
+        }
+    }
+
+    private final ReglasDealer reglas;
+    private final CacheLRU<Clave, double[]> cache;
+
+    /**
+     * Clave de la caché: composición empaquetada y mano del Dealer.
+     */
+    private static final class Clave {
+        private final long composicion;
+        private final int mano;
+
+        Clave(long composicion, int mano) {
+            this.composicion = composicion;
+            this.mano = mano;
+        }
+
+        @Override
+        public boolean equals(Object otro) {
+            if (!(otro instanceof Clave)) {
+                return false;
+            }
+            Clave clave = (Clave) otro;
+            return clave.composicion == composicion && clave.mano == mano;
+        }
+
+        @Override
+        public int hashCode() {
+            long h = composicion * 31 + mano;
+            return (int) (h ^ (h >>> 32));
+        }
+    }
+
+    /**
+     * Constructor con las reglas estándar y caché por defecto.
+     */
+    public CalculadoraDealer() {
+        this(ReglasDealer.PLANTARSE_EN_17_SUAVE, CAPACIDAD_POR_DEFECTO);
+    }
+
+    /**
+     * Constructor con reglas y tamaño de caché configurables.
+     *
+     * @param reglas           Las reglas que sigue el Dealer.
+     * @param capacidadCache   Número máximo de subresultados memorizados.
+     */
+    public CalculadoraDealer(ReglasDealer reglas, int capacidadCache) {
+        if (reglas == null) {
+            throw new IllegalArgumentException("Las reglas del Dealer no pueden ser null");
+        }
+        this.reglas = reglas;
+        this.cache = new CacheLRU<>(capacidadCache);
+    }
+
+    /**
+     * Calcula la distribución final del Dealer para las cartas de un mazo.
+     *
+     * @param cartaVisible La carta visible del Dealer (ya repartida).
+     * @param mazo         El mazo con las cartas que quedan por repartir.
+     * @return La distribución del puntaje final del Dealer.
+     */
+    public DistribucionDealer calcular(Carta cartaVisible, Mazo mazo) {
+        return calcular(cartaVisible.getValorNumerico(), mazo.contarValores());
+    }
+
+    /**
+     * Calcula la distribución final del Dealer para una composición dada.
+     * La carta oculta también se extrae de la composición, y un Blackjack del
+     * Dealer cuenta como 21.
+     *
+     * @param valorVisible Valor de la carta visible (1 = As, 2..10).
+     * @param composicion  Cartas restantes por valor (posiciones 1..10), sin
+     *                     incluir la carta visible. No se modifica.
+     * @return La distribución del puntaje final del Dealer.
+     * @throws IllegalArgumentException si los datos están fuera de rango.
+     */
+    public DistribucionDealer calcular(int valorVisible, int[] composicion) {
+        if (valorVisible < 1 || valorVisible > 10) {
+            throw new IllegalArgumentException("Valor de carta visible fuera de rango [1,10]: " + valorVisible);
+        }
+        if (composicion == null || composicion.length != 11) {
+            throw new IllegalArgumentException("La composición debe tener 11 posiciones (valores 1..10)");
+        }
+
+        int[] restantes = composicion.clone();
+        int total = 0;
+        for (int valor = 1; valor <= 10; valor++) {
+            int maximo = valor == 10 ? MAXIMO_DIECES : MAXIMO_VALOR;
+            if (restantes[valor] < 0 || restantes[valor] > maximo) {
+                throw new IllegalArgumentException(String.format(
+                        "Cantidad de cartas de valor %d fuera de rango [0,%d]: %d", valor, maximo, restantes[valor]));
+            }
+            total += restantes[valor];
+        }
+
+        return new DistribucionDealer(resolver(valorVisible, valorVisible == 1, restantes, total));
+    }
+
+    /**
+     * Distribución final desde una mano del Dealer y una composición.
+     * La composición se modifica durante la recursión y se restaura al salir.
+     */
+    private double[] resolver(int duro, boolean tieneAs, int[] composicion, int total) {
+        int puntaje = tieneAs && duro + 10 <= 21 ? duro + 10 : duro;
+        if (puntaje > 21) {
+            return FINALES[DistribucionDealer.PASADO];
+        }
+        boolean suave = tieneAs && duro + 10 <= 21;
+        if (!reglas.debePedir(puntaje, suave) || total == 0) {
+            return FINALES[puntaje];
+        }
+
+        Clave clave = new Clave(empaquetar(composicion), (duro << 1) | (tieneAs ? 1 : 0));
+        double[] memorizado = cache.obtener(clave);
+        if (memorizado != null) {
+            return memorizado;
+        }
+
+        double[] resultado = new double[DistribucionDealer.PASADO + 1];
+        for (int valor = 1; valor <= 10; valor++) {
+            int cantidad = composicion[valor];
+            if (cantidad == 0) {
+                continue;
+            }
+            double probabilidad = (double) cantidad / total;
+            composicion[valor]--;
+            double[] parcial = resolver(duro + valor, tieneAs || valor == 1, composicion, total - 1);
+            composicion[valor]++;
+            for (int i = 0; i <= DistribucionDealer.PASADO; i++) {
+                resultado[i] += probabilidad * parcial[i];
+            }
+        }
+
+        cache.insertar(clave, resultado);
+        return resultado;
+    }
+
+    private static long empaquetar(int[] composicion) {
+        long clave = composicion[10];
+        for (int valor = 1; valor <= 9; valor++) {
+            clave = (clave << BITS_VALOR) | composicion[valor];
+        }
+        return clave;
+    }
+
+    /**
+     * Obtiene la caché de subresultados, para consultar sus estadísticas.
+     *
+     * @return La caché LRU de la calculadora.
+     */
+    public CacheLRU<?, ?> getCache() {
+        return cache;
+    }
+}
@@ -3,97 +3,203 @@ package modelo;
 /**
  * Representa una carta de la baraja de Blackjack.
  * Cada carta tiene un valor y un palo.
+ *
+ * Las cartas son inmutables y existen solo 52 instancias canónicas (patrón
+ * Flyweight). Cada una se identifica por un código 0..51 = palo * 13 + rango,
+ * y su valor numérico y si es As se leen de tablas precalculadas, sin
+ * comparar ni convertir cadenas.
  */
-public class Carta {
-    
+public final class Carta {
+
     // Constantes para los palos
     public static final String CORAZONES = "Corazones";
     public static final String DIAMANTES = "Diamantes";
     public static final String TREBOLES = "Tréboles";
     public static final String PICAS = "Picas";
-    
+
     // Constantes para las cartas especiales
     public static final String AS = "A";
     public static final String JOTA = "J";
     public static final String REINA = "Q";
     public static final String REY = "K";
-    
+
+    // Dimensiones de la codificación
+    public static final int NUM_RANGOS = 13;
+    public static final int NUM_PALOS = 4;
+    public static final int TOTAL_CARTAS = NUM_RANGOS * NUM_PALOS;
+
+    // Tablas indexadas por rango (0 = As, 1..8 = 2..9, 9 = 10, 10..12 = J, Q, K)
+    private static final String[] VALORES = { AS, "2", "3", "4", "5", "6", "7", "8", "9", "10",
+            JOTA, REINA, REY };
+    private static final int[] VALOR_NUMERICO = { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 10, 10, 10 };
+    private static final String[] PALOS = { CORAZONES, DIAMANTES, TREBOLES, PICAS };
+
+    // Cache de las 52 instancias canónicas, indexada por código
+    private static final Carta[] CARTAS = new Carta[TOTAL_CARTAS];
+
+    static {
+        for (int codigo = 0; codigo < TOTAL_CARTAS; codigo++) {
+            CARTAS[codigo] = new Carta(codigo);
+        }
+    }
+
+    private final byte codigo;
+    private final byte rango;
     private final String valor;
     private final String palo;
-    
+
     /**
-     * Constructor de la carta.
-     * 
+     * Constructor privado: las instancias se obtienen con {@link #obtener(int)}.
+     *
+     * @param codigo Código de la carta (0..51).
+     */
+    private Carta(int codigo) {
+        this.codigo = (byte) codigo;
+        this.rango = (byte) (codigo % NUM_RANGOS);
+        this.valor = VALORES[rango];
+        this.palo = PALOS[codigo / NUM_RANGOS];
+    }
+
+    /**
+     * Obtiene la carta canónica para un código.
+     * Complejidad: O(1) - acceso directo al arreglo de cartas
+     *
+     * @param codigo Código de la carta (0..51).
+     * @return La carta correspondiente.
+     * @throws IllegalArgumentException si el código está fuera de rango.
+     */
+    public static Carta obtener(int codigo) {
+        if (codigo < 0 || codigo >= TOTAL_CARTAS) {
+            throw new IllegalArgumentException(
+                    String.format("Código de carta %d fuera de rango [0,%d]", codigo, TOTAL_CARTAS - 1));
+        }
+        return CARTAS[codigo];
+    }
+
+    /**
+     * Obtiene la carta canónica a partir de su valor y palo en texto.
+     * Solo se usa fuera de la ruta crítica (por ejemplo, al leer datos).
+     *
      * @param valor El valor de la carta (A, 2-10, J, Q, K).
      * @param palo El palo de la carta (Corazones, Diamantes, Tréboles, Picas).
+     * @return La carta correspondiente.
+     * @throws IllegalArgumentException si el valor o el palo no existen.
      */
-    public Carta(String valor, String palo) {
-        this.valor = valor;
-        this.palo = palo;
+    public static Carta obtener(String valor, String palo) {
+        int rango = buscar(VALORES, valor);
+        int indicePalo = buscar(PALOS, palo);
+        if (rango < 0 || indicePalo < 0) {
+            throw new IllegalArgumentException("Carta no válida: " + valor + " de " + palo);
+        }
+        return CARTAS[indicePalo * NUM_RANGOS + rango];
+    }
+
+    private static int buscar(String[] tabla, String texto) {
+        for (int i = 0; i < tabla.length; i++) {
+            if (tabla[i].equals(texto)) {
+                return i;
+            }
+        }
+        return -1;
     }
-    
+
+    /**
+     * Valor numérico de un rango según las reglas del Blackjack (As = 1).
+     *
+     * @param rango El rango (0..12).
+     * @return El valor numérico del rango.
+     */
+    public static int valorDeRango(int rango) {
+        return VALOR_NUMERICO[rango];
+    }
+
     /**
      * Obtiene el valor de la carta.
-     * 
+     *
      * @return El valor de la carta.
      */
     public String getValor() {
         return valor;
     }
-    
+
     /**
      * Obtiene el palo de la carta.
-     * 
+     *
      * @return El palo de la carta.
      */
     public String getPalo() {
         return palo;
     }
-    
+
+    /**
+     * Obtiene el código compacto de la carta.
+     *
+     * @return El código (0..51).
+     */
+    public int getCodigo() {
+        return codigo;
+    }
+
+    /**
+     * Obtiene el rango de la carta (0 = As, 12 = Rey).
+     *
+     * @return El rango (0..12).
+     */
+    public int getRango() {
+        return rango;
+    }
+
     /**
      * Calcula el valor numérico de la carta según las reglas del Blackjack.
      * - As: puede valer 1 u 11 (se determina en la lógica del juego)
      * - Cartas numéricas (2-10): valen su número
      * - Figuras (J, Q, K): valen 10
-     * 
+     *
      * @return El valor numérico de la carta.
      */
     public int getValorNumerico() {
-        if (valor.equals(AS)) {
-            return 1; // El valor 11 se maneja en la lógica del juego
-        } else if (valor.equals(JOTA) || valor.equals(REINA) || valor.equals(REY)) {
-            return 10;
-        } else {
-            return Integer.parseInt(valor);
-        }
+        return VALOR_NUMERICO[rango]; // El valor 11 del As se maneja en la lógica del juego
     }
-    
+
     /**
      * Verifica si la carta es un As.
-     * 
+     *
      * @return true si la carta es un As, false en caso contrario.
      */
     public boolean esAs() {
-        return valor.equals(AS);
+        return rango == 0;
+    }
+
+    @Override
+    public boolean equals(Object otro) {
+        if (this == otro) {
+            return true;
+        }
+        return otro instanceof Carta && ((Carta) otro).codigo == codigo;
+    }
+
+    @Override
+    public int hashCode() {
+        return codigo;
     }
-    
+
     /**
      * Representación en cadena de la carta.
-     * 
+     *
      * @return Una representación en cadena de la carta (valor + palo).
      */
     @Override
     public String toString() {
         return valor + " de " + palo;
     }
-    
+
     /**
      * Representación corta de la carta.
-     * 
+     *
      * @return Una representación corta de la carta (valor + inicial del palo).
      */
     public String toStringCorto() {
         char inicialPalo = palo.charAt(0);
         return valor + inicialPalo;
     }
-}
\ No newline at end of file
+}
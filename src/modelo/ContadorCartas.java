@@ -0,0 +1,185 @@
+package modelo;
+
+/**
+ * Lleva a la vez el conteo de cartas de todos los {@link SistemaConteo} y las
+ * cartas que quedan de cada rango, actualizándose con cada carta repartida.
+ *
+ * Se suscribe a un mazo con {@link Mazo#agregarObservador(ObservadorMazo)}
+ * justo después de mezclarlo. Cada carta se procesa en O(1) sin crear
+ * objetos: los conteos viven en arreglos de enteros indexados por el ordinal
+ * del sistema y por el rango de la carta.
+ *
+ * No es seguro para hilos: debe usarse desde el hilo que reparte.
+ */
+public class ContadorCartas implements ObservadorMazo {
+
+    private static final SistemaConteo[] SISTEMAS = SistemaConteo.values();
+
+    // pesos[sistema][valor]: copia plana para no pasar por el enum al contar
+    private static final int[][] PESOS = new int[SISTEMAS.length][11];
+
+    static {
+        for (SistemaConteo sistema : SISTEMAS) {
+            for (int valor = 1; valor <= 10; valor++) {
+                PESOS[sistema.ordinal()][valor] = sistema.peso(valor);
+            }
+        }
+    }
+
+    private final int numeroBarajas;
+    private final int totalCartas;
+    private final int[] conteoCorrido;
+    private final int[] restantesPorRango;
+    private int cartasVistas;
+
+    /**
+     * Constructor del contador para un mazo recién mezclado.
+     *
+     * @param numeroBarajas Número de barajas del mazo (1 a 8).
+     * @throws IllegalArgumentException si el número de barajas está fuera de rango.
+     */
+    public ContadorCartas(int numeroBarajas) {
+        if (numeroBarajas < Zapato.MIN_BARAJAS || numeroBarajas > Zapato.MAX_BARAJAS) {
+            throw new IllegalArgumentException(String.format(
+                    "Número de barajas %d fuera de rango [%d,%d]", numeroBarajas,
+                    Zapato.MIN_BARAJAS, Zapato.MAX_BARAJAS));
+        }
+        this.numeroBarajas = numeroBarajas;
+        this.totalCartas = numeroBarajas * Carta.TOTAL_CARTAS;
+        this.conteoCorrido = new int[SISTEMAS.length];
+        this.restantesPorRango = new int[Carta.NUM_RANGOS];
+        mazoMezclado();
+    }
+
+    /**
+     * Registra una carta repartida en todos los sistemas.
+     * Complejidad: O(1) - una suma por sistema, sin crear objetos.
+     *
+     * @param carta La carta robada.
+     */
+    @Override
+    public void cartaRobada(Carta carta) {
+        int valor = carta.getValorNumerico();
+        for (int i = 0; i < conteoCorrido.length; i++) {
+            conteoCorrido[i] += PESOS[i][valor];
+        }
+        restantesPorRango[carta.getRango()]--;
+        cartasVistas++;
+    }
+
+    /**
+     * Reinicia los conteos: todas las cartas vuelven al mazo.
+     */
+    @Override
+    public void mazoMezclado() {
+        for (SistemaConteo sistema : SISTEMAS) {
+            conteoCorrido[sistema.ordinal()] = sistema.conteoInicial(numeroBarajas);
+        }
+        for (int rango = 0; rango < Carta.NUM_RANGOS; rango++) {
+            restantesPorRango[rango] = numeroBarajas * Carta.NUM_PALOS;
+        }
+        cartasVistas = 0;
+    }
+
+    /**
+     * Obtiene el conteo corrido de un sistema.
+     *
+     * @param sistema El sistema de conteo.
+     * @return El conteo corrido (con medios puntos en Wong Halves).
+     */
+    public double getConteoCorrido(SistemaConteo sistema) {
+        return (double) conteoCorrido[sistema.ordinal()] / sistema.getDivisor();
+    }
+
+    /**
+     * Obtiene el conteo real: el conteo corrido dividido entre las barajas que
+     * quedan por repartir. En los sistemas no balanceados se suele usar
+     * directamente el conteo corrido.
+     *
+     * @param sistema El sistema de conteo.
+     * @return El conteo real, o el corrido si ya no quedan cartas.
+     */
+    public double getConteoReal(SistemaConteo sistema) {
+        int restantes = getCartasRestantes();
+        double corrido = getConteoCorrido(sistema);
+        return restantes == 0 ? corrido : corrido * Carta.TOTAL_CARTAS / restantes;
+    }
+
+    /**
+     * Obtiene cuántas cartas de un rango quedan por repartir.
+     *
+     * @param rango El rango de la carta (0 = As .. 12 = K).
+     * @return El número de cartas de ese rango que quedan.
+     */
+    public int getRestantesRango(int rango) {
+        if (rango < 0 || rango >= Carta.NUM_RANGOS) {
+            throw new IllegalArgumentException("Rango fuera de rango [0,12]: " + rango);
+        }
+        return restantesPorRango[rango];
+    }
+
+    /**
+     * Obtiene cuántas cartas de un valor quedan por repartir (el 10 suma el
+     * 10 y las figuras).
+     *
+     * @param valor El valor de la carta (1 = As, 2..10).
+     * @return El número de cartas de ese valor que quedan.
+     */
+    public int getRestantesValor(int valor) {
+        if (valor < 1 || valor > 10) {
+            throw new IllegalArgumentException("Valor de carta fuera de rango [1,10]: " + valor);
+        }
+        if (valor < 10) {
+            return restantesPorRango[valor - 1];
+        }
+        int dieces = 0;
+        for (int rango = 9; rango < Carta.NUM_RANGOS; rango++) {
+            dieces += restantesPorRango[rango];
+        }
+        return dieces;
+    }
+
+    /**
+     * Obtiene las cartas que quedan por repartir.
+     *
+     * @return El número de cartas restantes.
+     */
+    public int getCartasRestantes() {
+        return totalCartas - cartasVistas;
+    }
+
+    /**
+     * Obtiene las barajas que quedan por repartir, con decimales.
+     *
+     * @return Las barajas restantes.
+     */
+    public double getBarajasRestantes() {
+        return (double) getCartasRestantes() / Carta.TOTAL_CARTAS;
+    }
+
+    /**
+     * Obtiene el número de cartas vistas desde la última mezcla.
+     *
+     * @return Las cartas vistas.
+     */
+    public int getCartasVistas() {
+        return cartasVistas;
+    }
+
+    /**
+     * Muestra los conteos de todos los sistemas.
+     *
+     * @return Una representación en cadena del contador.
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Conteo [%d cartas vistas, %.2f barajas restantes]",
+                cartasVistas, getBarajasRestantes()));
+        for (SistemaConteo sistema : SISTEMAS) {
+            sb.append(String.format("%n  %-12s corrido %6.1f  real %6.2f",
+                    sistema.getNombre(), getConteoCorrido(sistema), getConteoReal(sistema)));
+        }
+        return sb.toString();
+    }
+}
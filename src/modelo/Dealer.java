@@ -1,62 +1,102 @@
 package modelo;
 
 import estructuras.ArbolBinario;
+import salida.SalidaConsola;
+import salida.SalidaJuego;
 
 /**
  * Representa al Dealer (la casa) en el juego de Blackjack.
- * Extiende la clase Jugador y utiliza un Árbol Binario para tomar decisiones.
+ * Extiende la clase Jugador. Sus decisiones se leen de la tabla precalculada
+ * de {@link ReglasDealer}; el Árbol Binario de decisión se conserva para
+ * describir la estrategia en el registro por consola.
  */
 public class Dealer extends Jugador {
 
-    private static final int UMBRAL_PLANTARSE = 17;
+    // Nombre con el que aparece el Dealer en las partidas y el historial
+    public static final String NOMBRE = "Dealer";
+
+    private final ReglasDealer reglas;
     private ArbolBinario<String> arbolDecision;
+    private boolean registrarDecisiones;
 
     /**
-     * Constructor del Dealer.
+     * Constructor del Dealer con las reglas estándar (se planta en 17 suave).
      */
     public Dealer() {
-        super("Dealer");
+        this(ReglasDealer.PLANTARSE_EN_17_SUAVE);
+    }
+
+    /**
+     * Constructor del Dealer con reglas de la casa configurables.
+     * 
+     * @param reglas Las reglas que sigue el Dealer.
+     */
+    public Dealer(ReglasDealer reglas) {
+        super(NOMBRE);
+        if (reglas == null) {
+            throw new IllegalArgumentException("Las reglas del Dealer no pueden ser null");
+        }
+        this.reglas = reglas;
         this.arbolDecision = new ArbolBinario<>();
+        this.registrarDecisiones = true;
     }
 
     /**
      * Decide automáticamente si el Dealer debe pedir otra carta o plantarse
-     * basado en el árbol de decisión.
+     * según la tabla de decisión de sus reglas.
+     * Complejidad: O(1) - una lectura de arreglo, sin salida por consola.
      * 
      * @return true si debe pedir carta, false si debe plantarse.
      */
     public boolean debePedirCarta() {
-        int puntajeActual = calcularPuntaje();
-        ArbolBinario.Nodo<String> decision = arbolDecision.tomarDecision(puntajeActual);
+        return reglas.debePedir(calcularPuntaje(), esSuave());
+    }
 
-        return decision != null && decision.getDato().equals("Pedir carta");
+    /**
+     * Obtiene las reglas que sigue el Dealer.
+     * 
+     * @return Las reglas de la casa.
+     */
+    public ReglasDealer getReglas() {
+        return reglas;
     }
 
     /**
      * Ejecuta el turno automático del Dealer según las reglas del Blackjack.
      * El Dealer pide cartas hasta alcanzar al menos 17 puntos.
      * 
-     * @param baraja La baraja de la cual robar cartas.
+     * @param baraja El mazo del cual robar cartas.
      */
-    public void jugarTurnoAutomatico(Baraja baraja) {
+    public void jugarTurnoAutomatico(Mazo baraja) {
+        jugarTurnoAutomatico(baraja, SalidaConsola.ESTANDAR);
+    }
+
+    /**
+     * Ejecuta el turno automático del Dealer describiendo cada paso en la
+     * salida indicada, por ejemplo la consola de una mesa remota.
+     * 
+     * @param baraja El mazo del cual robar cartas.
+     * @param salida Donde se escribe el registro del turno.
+     */
+    public void jugarTurnoAutomatico(Mazo baraja, SalidaJuego salida) {
         // Mostrar la primera carta del Dealer
-        System.out.println("\nTurno del Dealer:");
-        System.out.println("Cartas iniciales del Dealer: " + getMano().obtenerElemento(0) + " y [Carta oculta]");
+        salida.imprimirLinea("\nTurno del Dealer:");
+        salida.imprimirLinea("Cartas iniciales del Dealer: " + getMano().obtenerElemento(0) + " y [Carta oculta]");
 
         // Revelar la carta oculta
-        System.out.println("El Dealer revela su carta oculta: " + getMano().obtenerElemento(1));
-        System.out.println("Puntaje actual del Dealer: " + calcularPuntaje());
+        salida.imprimirLinea("El Dealer revela su carta oculta: " + getMano().obtenerElemento(1));
+        salida.imprimirLinea("Puntaje actual del Dealer: " + calcularPuntaje());
 
-        // El Dealer pide cartas según su árbol de decisión
-        while (debePedirCarta() && !baraja.estaVacia()) {
+        // El Dealer pide cartas según su tabla de decisión
+        while (decidirYRegistrar(salida) && !baraja.estaVacia()) {
             Carta nuevaCarta = baraja.robarCarta();
             recibirCarta(nuevaCarta);
-            System.out.println("El Dealer toma una carta: " + nuevaCarta);
-            System.out.println("Puntaje actual del Dealer: " + calcularPuntaje());
+            salida.imprimirLinea("El Dealer toma una carta: " + nuevaCarta);
+            salida.imprimirLinea("Puntaje actual del Dealer: " + calcularPuntaje());
 
             // Si se pasa de 21, termina su turno
             if (sePaso()) {
-                System.out.println("¡El Dealer se ha pasado de 21!");
+                salida.imprimirLinea("¡El Dealer se ha pasado de 21!");
                 break;
             }
         }
@@ -64,8 +104,52 @@ public class Dealer extends Jugador {
         // Si no se pasó y no pidió más cartas, se planta
         if (!sePaso()) {
             plantarse();
-            System.out.println("El Dealer se planta con " + calcularPuntaje() + " puntos.");
+            salida.imprimirLinea("El Dealer se planta con " + calcularPuntaje() + " puntos.");
+        }
+    }
+
+    /**
+     * Ejecuta el turno del Dealer sin ninguna salida por consola.
+     * Aplica las mismas reglas que {@link #jugarTurnoAutomatico(Mazo)} y se
+     * utiliza en las simulaciones sin interfaz.
+     *
+     * @param baraja El mazo del cual robar cartas.
+     */
+    public void jugarTurnoSilencioso(Mazo baraja) {
+        while (!sePaso() && debePedirCarta() && !baraja.estaVacia()) {
+            recibirCarta(baraja.robarCarta());
+        }
+
+        if (!sePaso()) {
+            plantarse();
+        }
+    }
+
+    /**
+     * Toma la decisión y, si el registro está activo, la describe con el nodo
+     * correspondiente del árbol de decisión. Solo se usa en el turno por
+     * consola, fuera de la ruta crítica de la simulación.
+     * 
+     * @return true si debe pedir carta, false si debe plantarse.
+     */
+    private boolean decidirYRegistrar(SalidaJuego salida) {
+        boolean pedir = debePedirCarta();
+        if (registrarDecisiones) {
+            ArbolBinario.Nodo<String> raiz = arbolDecision.getRaiz();
+            ArbolBinario.Nodo<String> nodo = pedir ? raiz.getIzquierdo() : raiz.getDerecho();
+            salida.imprimirLinea(String.format("\nEstrategia del Dealer [%d pts%s]: %s",
+                    calcularPuntaje(), esSuave() ? ", suave" : "", nodo.getDescripcion()));
         }
+        return pedir;
+    }
+
+    /**
+     * Activa o desactiva el registro en consola de las decisiones del Dealer.
+     *
+     * @param silencioso true para no imprimir las decisiones.
+     */
+    public void setModoSilencioso(boolean silencioso) {
+        this.registrarDecisiones = !silencioso;
     }
 
     /**
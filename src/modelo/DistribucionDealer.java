@@ -0,0 +1,73 @@
+package modelo;
+
+/**
+ * Distribución de probabilidad del puntaje final del Dealer.
+ * Resultado inmutable de {@link CalculadoraDealer}.
+ */
+public final class DistribucionDealer {
+
+    /** Posición de la probabilidad de pasarse en el arreglo interno. */
+    static final int PASADO = 22;
+
+    private final double[] probabilidades;
+
+    /**
+     * Constructor de la distribución.
+     *
+     * @param probabilidades Arreglo de 23 posiciones: 0..21 para cada puntaje
+     *                       final y 22 para pasarse. Se copia.
+     */
+    DistribucionDealer(double[] probabilidades) {
+        this.probabilidades = probabilidades.clone();
+    }
+
+    /**
+     * Probabilidad de que el Dealer termine exactamente con un puntaje.
+     *
+     * @param puntaje El puntaje final (0..21).
+     * @return La probabilidad, o 0 si el puntaje está fuera de rango.
+     */
+    public double probabilidad(int puntaje) {
+        return puntaje < 0 || puntaje > 21 ? 0.0 : probabilidades[puntaje];
+    }
+
+    /**
+     * Probabilidad de que el Dealer se pase de 21.
+     *
+     * @return La probabilidad de pasarse.
+     */
+    public double probabilidadPasarse() {
+        return probabilidades[PASADO];
+    }
+
+    /**
+     * Valor esperado de plantarse con un puntaje frente a esta distribución,
+     * en unidades de apuesta (+1 gana, -1 pierde, 0 empate).
+     *
+     * @param puntaje El puntaje del jugador (hasta 21).
+     * @return El valor esperado de plantarse.
+     */
+    public double valorPlantarse(int puntaje) {
+        double valor = probabilidades[PASADO];
+        for (int puntajeDealer = 0; puntajeDealer <= 21; puntajeDealer++) {
+            if (puntajeDealer < puntaje) {
+                valor += probabilidades[puntajeDealer];
+            } else if (puntajeDealer > puntaje) {
+                valor -= probabilidades[puntajeDealer];
+            }
+        }
+        return valor;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("Distribución del Dealer:");
+        for (int puntaje = 0; puntaje <= 21; puntaje++) {
+            if (probabilidades[puntaje] > 0) {
+                sb.append(String.format(" %d=%.4f", puntaje, probabilidades[puntaje]));
+            }
+        }
+        sb.append(String.format(" pasarse=%.4f", probabilidades[PASADO]));
+        return sb.toString();
+    }
+}
@@ -0,0 +1,17 @@
+package modelo;
+
+/**
+ * Estrategia de decisión para un jugador automático (bot).
+ * Permite que la simulación decida sin leer del teclado.
+ */
+public interface Estrategia {
+
+    /**
+     * Decide si el jugador debe pedir otra carta.
+     *
+     * @param jugador            El jugador que toma la decisión.
+     * @param cartaVisibleDealer La carta descubierta del Dealer.
+     * @return true si debe pedir carta, false si debe plantarse.
+     */
+    boolean debePedirCarta(Jugador jugador, Carta cartaVisibleDealer);
+}
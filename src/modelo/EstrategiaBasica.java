@@ -0,0 +1,241 @@
+package modelo;
+
+/**
+ * Estrategia básica precalculada a partir de las reglas del Dealer.
+ *
+ * Al construirse calcula, para mazo infinito, el valor esperado de pedir y de
+ * plantarse en cada mano del jugador (dura, suave y pares) frente a cada carta
+ * visible del Dealer, y guarda la mejor acción en tablas. Después cada
+ * decisión es una sola lectura de arreglo.
+ *
+ * El juego solo permite pedir o plantarse (sin dividir ni doblar), así que la
+ * fila de un par coincide con la de su total: se conserva para consultas de
+ * tipo entrenador o sugerencia.
+ *
+ * Como el Blackjack inicial se resuelve antes del turno del jugador, la carta
+ * oculta del Dealer se condiciona a que no forme Blackjack con la visible.
+ */
+public class EstrategiaBasica implements Estrategia {
+
+    // Probabilidad de cada valor 1..10 en mazo infinito (el 10 incluye J, Q, K)
+    private static final double[] PROBABILIDAD = new double[11];
+
+    static {
+        for (int valor = 1; valor <= 9; valor++) {
+            PROBABILIDAD[valor] = 1.0 / 13;
+        }
+        PROBABILIDAD[10] = 4.0 / 13;
+    }
+
+    private static final int PUNTAJE_MAXIMO = 21;
+    private static final int PASADO = 22;
+    private static final int CARTAS_VISIBLES = 10;
+
+    private final ReglasDealer reglas;
+
+    // pedir[(puntaje * 2 + suave) * 10 + visible]
+    private final boolean[] pedir;
+    // pedirPar[rango del par (1..10) * 10 + visible]
+    private final boolean[] pedirPar;
+
+    /**
+     * Constructor con las reglas estándar del Dealer.
+     */
+    public EstrategiaBasica() {
+        this(ReglasDealer.PLANTARSE_EN_17_SUAVE);
+    }
+
+    /**
+     * Constructor que deriva la estrategia de unas reglas de la casa.
+     *
+     * @param reglas Las reglas que sigue el Dealer.
+     */
+    public EstrategiaBasica(ReglasDealer reglas) {
+        if (reglas == null) {
+            throw new IllegalArgumentException("Las reglas del Dealer no pueden ser null");
+        }
+        this.reglas = reglas;
+        this.pedir = new boolean[(PUNTAJE_MAXIMO + 1) * 2 * CARTAS_VISIBLES];
+        this.pedirPar = new boolean[11 * CARTAS_VISIBLES];
+
+        for (int visible = 1; visible <= CARTAS_VISIBLES; visible++) {
+            calcularColumna(visible);
+        }
+    }
+
+    /**
+     * Calcula todas las decisiones frente a una carta visible del Dealer.
+     */
+    private void calcularColumna(int visible) {
+        double[] dealer = distribucionDealer(visible);
+
+        // Valor de plantarse con cada puntaje
+        double[] plantarse = new double[PUNTAJE_MAXIMO + 1];
+        for (int puntaje = 0; puntaje <= PUNTAJE_MAXIMO; puntaje++) {
+            double valor = dealer[PASADO];
+            for (int puntajeDealer = 0; puntajeDealer <= PUNTAJE_MAXIMO; puntajeDealer++) {
+                if (puntajeDealer < puntaje) {
+                    valor += dealer[puntajeDealer];
+                } else if (puntajeDealer > puntaje) {
+                    valor -= dealer[puntajeDealer];
+                }
+            }
+            plantarse[puntaje] = valor;
+        }
+
+        // Valor esperado óptimo por (total duro, tiene As), de mayor a menor
+        // total duro porque pedir solo puede aumentarlo
+        double[][] optimo = new double[PASADO + 10][2];
+        for (int duro = PASADO + 9; duro >= 2; duro--) {
+            for (int as = 0; as <= 1; as++) {
+                int puntaje = puntaje(duro, as == 1);
+                if (puntaje > PUNTAJE_MAXIMO) {
+                    optimo[duro][as] = -1.0;
+                    continue;
+                }
+                double valorPedir = 0.0;
+                for (int carta = 1; carta <= 10; carta++) {
+                    int nuevoDuro = duro + carta;
+                    int nuevoAs = (as == 1 || carta == 1) ? 1 : 0;
+                    valorPedir += PROBABILIDAD[carta]
+                            * (nuevoDuro > PUNTAJE_MAXIMO ? -1.0 : optimo[nuevoDuro][nuevoAs]);
+                }
+                boolean conviene = valorPedir > plantarse[puntaje];
+                optimo[duro][as] = conviene ? valorPedir : plantarse[puntaje];
+
+                boolean suave = as == 1 && duro + 10 <= PUNTAJE_MAXIMO;
+                pedir[indice(puntaje, suave, visible)] = conviene;
+            }
+        }
+
+        // Pares: sin dividir, la decisión es la de su total
+        for (int rango = 1; rango <= 10; rango++) {
+            int duro = rango * 2;
+            pedirPar[rango * CARTAS_VISIBLES + visible - 1] =
+                    pedir[indice(puntaje(duro, rango == 1), rango == 1, visible)];
+        }
+    }
+
+    /**
+     * Distribución del puntaje final del Dealer dada su carta visible.
+     * Posiciones 0..21: probabilidad de terminar con ese puntaje;
+     * posición 22: probabilidad de pasarse.
+     */
+    private double[] distribucionDealer(int visible) {
+        double[] resultado = new double[PASADO + 1];
+
+        // Carta oculta condicionada a que no haya Blackjack del Dealer
+        int excluida = visible == 1 ? 10 : (visible == 10 ? 1 : 0);
+        double total = 1.0 - (excluida == 0 ? 0.0 : PROBABILIDAD[excluida]);
+        for (int oculta = 1; oculta <= 10; oculta++) {
+            if (oculta == excluida) {
+                continue;
+            }
+            double[] parcial = new double[PASADO + 1];
+            completarDealer(visible + oculta, visible == 1 || oculta == 1, 1.0, parcial);
+            double peso = PROBABILIDAD[oculta] / total;
+            for (int i = 0; i <= PASADO; i++) {
+                resultado[i] += peso * parcial[i];
+            }
+        }
+        return resultado;
+    }
+
+    /**
+     * Recorre recursivamente las cartas que pediría el Dealer con sus reglas.
+     */
+    private void completarDealer(int duro, boolean tieneAs, double probabilidad, double[] resultado) {
+        int puntaje = puntaje(duro, tieneAs);
+        if (puntaje > PUNTAJE_MAXIMO) {
+            resultado[PASADO] += probabilidad;
+            return;
+        }
+        boolean suave = tieneAs && duro + 10 <= PUNTAJE_MAXIMO;
+        if (!reglas.debePedir(puntaje, suave)) {
+            resultado[puntaje] += probabilidad;
+            return;
+        }
+        for (int carta = 1; carta <= 10; carta++) {
+            completarDealer(duro + carta, tieneAs || carta == 1, probabilidad * PROBABILIDAD[carta], resultado);
+        }
+    }
+
+    private static int puntaje(int duro, boolean tieneAs) {
+        return tieneAs && duro + 10 <= PUNTAJE_MAXIMO ? duro + 10 : duro;
+    }
+
+    private static int indice(int puntaje, boolean suave, int visible) {
+        return ((puntaje << 1) | (suave ? 1 : 0)) * CARTAS_VISIBLES + visible - 1;
+    }
+
+    /**
+     * Decide con la tabla precalculada si el jugador debe pedir carta.
+     * Complejidad: O(1) - una lectura de arreglo.
+     *
+     * @param jugador            El jugador que toma la decisión.
+     * @param cartaVisibleDealer La carta descubierta del Dealer.
+     * @return true si debe pedir carta, false si debe plantarse.
+     */
+    @Override
+    public boolean debePedirCarta(Jugador jugador, Carta cartaVisibleDealer) {
+        int puntaje = jugador.calcularPuntaje();
+        if (puntaje >= PUNTAJE_MAXIMO) {
+            return false;
+        }
+        return pedir[indice(puntaje, jugador.esSuave(), cartaVisibleDealer.getValorNumerico())];
+    }
+
+    /**
+     * Consulta la tabla de manos duras o suaves.
+     *
+     * @param puntaje      El puntaje del jugador (4..21).
+     * @param suave        true si la mano es suave.
+     * @param valorVisible El valor de la carta visible del Dealer (1 = As, 10).
+     * @return true si conviene pedir carta.
+     */
+    public boolean debePedir(int puntaje, boolean suave, int valorVisible) {
+        return pedir[indice(puntaje, suave, valorVisible)];
+    }
+
+    /**
+     * Consulta la tabla de pares.
+     *
+     * @param valorPar     El valor de cada carta del par (1 = As, 10).
+     * @param valorVisible El valor de la carta visible del Dealer (1 = As, 10).
+     * @return true si conviene pedir carta.
+     */
+    public boolean debePedirPar(int valorPar, int valorVisible) {
+        return pedirPar[valorPar * CARTAS_VISIBLES + valorVisible - 1];
+    }
+
+    /**
+     * Muestra las tablas de estrategia (P = pedir, - = plantarse).
+     *
+     * @return Una representación en cadena de las tablas.
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Estrategia básica (").append(reglas).append(")\n");
+        sb.append("Dealer:     2 3 4 5 6 7 8 9 10 A\n");
+        for (int puntaje = 5; puntaje <= 20; puntaje++) {
+            fila(sb, String.format("Duro %2d:  ", puntaje), puntaje, false);
+        }
+        for (int puntaje = 13; puntaje <= 20; puntaje++) {
+            fila(sb, String.format("Suave %2d: ", puntaje), puntaje, true);
+        }
+        return sb.toString();
+    }
+
+    private void fila(StringBuilder sb, String titulo, int puntaje, boolean suave) {
+        sb.append(titulo);
+        for (int visible = 2; visible <= 11; visible++) {
+            int valor = visible == 11 ? 1 : visible;
+            sb.append(' ').append(debePedir(puntaje, suave, valor) ? 'P' : '-');
+            if (visible == 10) {
+                sb.append(' ');
+            }
+        }
+        sb.append('\n');
+    }
+}
@@ -0,0 +1,29 @@
+package modelo;
+
+/**
+ * Estrategia sencilla: pide carta mientras el puntaje sea menor a un umbral.
+ * Con umbral 17 imita las reglas fijas del Dealer.
+ */
+public class EstrategiaUmbral implements Estrategia {
+
+    private final int umbral;
+
+    /**
+     * Constructor de la estrategia.
+     *
+     * @param umbral Puntaje a partir del cual el jugador se planta.
+     */
+    public EstrategiaUmbral(int umbral) {
+        this.umbral = umbral;
+    }
+
+    @Override
+    public boolean debePedirCarta(Jugador jugador, Carta cartaVisibleDealer) {
+        return jugador.calcularPuntaje() < umbral;
+    }
+
+    @Override
+    public String toString() {
+        return "Umbral " + umbral;
+    }
+}
@@ -0,0 +1,80 @@
+package modelo;
+
+/**
+ * Evalúa por lotes las manos de un {@link LoteManos}: puntaje, mano suave,
+ * pasada de 21 y Blackjack, con las mismas reglas que
+ * {@link Jugador#calcularPuntaje()} y {@link Jugador#tieneBlackjack()}.
+ *
+ * {@link #crear()} usa la versión vectorial (API Vector de
+ * {@code jdk.incubator.vector}) si la JVM se arrancó con
+ * {@code --add-modules jdk.incubator.vector}; si no, la versión escalar, que
+ * es un bucle sin saltos sobre los arreglos del lote.
+ */
+public class EvaluadorManos {
+
+    private static final String CLASE_VECTORIAL = "modelo.EvaluadorManosVectorial";
+
+    EvaluadorManos() {
+    }
+
+    /**
+     * Crea el evaluador más rápido disponible en esta JVM.
+     *
+     * @return El evaluador vectorial o, sin el módulo incubado, el escalar.
+     */
+    public static EvaluadorManos crear() {
+        try {
+            return (EvaluadorManos) Class.forName(CLASE_VECTORIAL).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            // Módulo jdk.incubator.vector no disponible
+            return escalar();
+        }
+    }
+
+    /**
+     * Crea el evaluador escalar, disponible en cualquier JVM.
+     *
+     * @return El evaluador escalar.
+     */
+    public static EvaluadorManos escalar() {
+        return new EvaluadorManos();
+    }
+
+    /**
+     * Evalúa todas las manos del lote y guarda los resultados en él.
+     * Complejidad: O(n)
+     *
+     * @param lote El lote de manos.
+     */
+    public void evaluar(LoteManos lote) {
+        evaluarRango(lote, 0, lote.tamaño());
+    }
+
+    /**
+     * Versión escalar: como dos Ases a 11 siempre superan 21, una mano es
+     * suave si tiene algún As y su puntaje duro más 10 no pasa de 21.
+     */
+    static void evaluarRango(LoteManos lote, int desde, int hasta) {
+        int[] duros = lote.puntajesDuros;
+        int[] ases = lote.ases;
+        int[] cartas = lote.cartas;
+        for (int i = desde; i < hasta; i++) {
+            boolean suave = ases[i] > 0 && duros[i] <= 11;
+            int puntaje = suave ? duros[i] + 10 : duros[i];
+            lote.puntajes[i] = puntaje;
+            lote.suaves[i] = suave;
+            lote.pasadas[i] = puntaje > 21;
+            lote.blackjacks[i] = cartas[i] == 2 && puntaje == 21;
+        }
+    }
+
+    /**
+     * Describe la implementación del evaluador.
+     *
+     * @return El nombre de la implementación.
+     */
+    @Override
+    public String toString() {
+        return "EvaluadorManos [escalar]";
+    }
+}
@@ -0,0 +1,50 @@
+package modelo;
+
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Evaluador de manos con la API Vector: procesa tantas manos por
+ * instrucción como carriles de enteros tenga el registro SIMD preferido de la
+ * CPU (8 con AVX2). Las manos que no llenan un vector se evalúan con el bucle
+ * escalar.
+ *
+ * Requiere {@code --add-modules jdk.incubator.vector} al compilar y al
+ * ejecutar; {@link EvaluadorManos#crear()} lo carga solo si está disponible.
+ */
+final class EvaluadorManosVectorial extends EvaluadorManos {
+
+    private static final VectorSpecies<Integer> ESPECIE = IntVector.SPECIES_PREFERRED;
+
+    @Override
+    public void evaluar(LoteManos lote) {
+        int tamaño = lote.tamaño();
+        int limite = ESPECIE.loopBound(tamaño);
+        int i = 0;
+        for (; i < limite; i += ESPECIE.length()) {
+            IntVector duro = IntVector.fromArray(ESPECIE, lote.puntajesDuros, i);
+            IntVector ases = IntVector.fromArray(ESPECIE, lote.ases, i);
+            IntVector cartas = IntVector.fromArray(ESPECIE, lote.cartas, i);
+
+            VectorMask<Integer> suave = ases.compare(VectorOperators.GT, 0)
+                    .and(duro.compare(VectorOperators.LE, 11));
+            IntVector puntaje = duro.add(10, suave);
+            VectorMask<Integer> blackjack = cartas.compare(VectorOperators.EQ, 2)
+                    .and(puntaje.compare(VectorOperators.EQ, 21));
+
+            puntaje.intoArray(lote.puntajes, i);
+            suave.intoArray(lote.suaves, i);
+            puntaje.compare(VectorOperators.GT, 21).intoArray(lote.pasadas, i);
+            blackjack.intoArray(lote.blackjacks, i);
+        }
+        evaluarRango(lote, i, tamaño);
+    }
+
+    @Override
+    public String toString() {
+        return "EvaluadorManos [vectorial, " + ESPECIE.vectorBitSize() + " bits, "
+                + ESPECIE.length() + " carriles]";
+    }
+}
@@ -1,7 +1,8 @@
 package modelo;
 
+import estructuras.Lista;
+import estructuras.ListaArreglo;
 import estructuras.Pila;
-import estructuras.ListaEnlazada;
 
 /**
  * Representa un jugador en el juego de Blackjack.
@@ -10,11 +11,16 @@ import estructuras.ListaEnlazada;
 public class Jugador {
 
     private String nombre;
-    private ListaEnlazada<Carta> mano;
+    private Lista<Carta> mano;
     private Pila<Carta> historialCartas;
     private boolean plantado;
     private int partidasGanadas;
 
+    // Estado incremental de la mano: se actualiza en cada carta recibida
+    private int puntajeDuro;
+    private int cantidadAses;
+    private int cantidadCartas;
+
     /**
      * Constructor del jugador.
      * 
@@ -22,7 +28,7 @@ public class Jugador {
      */
     public Jugador(String nombre) {
         this.nombre = nombre;
-        this.mano = new ListaEnlazada<>();
+        this.mano = new ListaArreglo<>();
         this.historialCartas = new Pila<>();
         this.plantado = false;
         this.partidasGanadas = 0;
@@ -45,40 +51,62 @@ public class Jugador {
     public void recibirCarta(Carta carta) {
         mano.agregar(carta);
         historialCartas.apilar(carta);
+
+        puntajeDuro += carta.getValorNumerico();
+        if (carta.esAs()) {
+            cantidadAses++;
+        }
+        cantidadCartas++;
     }
 
     /**
      * Calcula el puntaje actual de la mano del jugador según las reglas del
      * Blackjack.
      * Los Ases pueden valer 1 u 11, eligiendo el valor que más beneficie al
-     * jugador.
+     * jugador. Como dos Ases a 11 siempre superan 21, basta con contar todos
+     * los Ases como 1 y sumar 10 si uno de ellos cabe como 11.
+     * Complejidad: O(1) - usa los totales mantenidos por recibirCarta()
      * 
      * @return El puntaje de la mano.
      */
     public int calcularPuntaje() {
-        int puntaje = 0;
-        int ases = 0;
-
-        // Recorrer todas las cartas en la mano
-        for (int i = 0; i < mano.tamaño(); i++) {
-            Carta carta = mano.obtenerElemento(i);
-            if (carta.esAs()) {
-                ases++;
-            } else {
-                puntaje += carta.getValorNumerico();
-            }
-        }
+        return esSuave() ? puntajeDuro + 10 : puntajeDuro;
+    }
 
-        // Optimizar el valor de los Ases
-        for (int i = 0; i < ases; i++) {
-            if (puntaje + 11 <= 21) {
-                puntaje += 11;
-            } else {
-                puntaje += 1;
-            }
-        }
+    /**
+     * Verifica si la mano es suave, es decir, si un As cuenta como 11.
+     * 
+     * @return true si la mano es suave, false en caso contrario.
+     */
+    public boolean esSuave() {
+        return cantidadAses > 0 && puntajeDuro + 10 <= 21;
+    }
+
+    /**
+     * Obtiene el puntaje duro de la mano (todos los Ases cuentan como 1).
+     * 
+     * @return El puntaje duro.
+     */
+    public int getPuntajeDuro() {
+        return puntajeDuro;
+    }
+
+    /**
+     * Obtiene el número de Ases en la mano.
+     * 
+     * @return El número de Ases.
+     */
+    public int getCantidadAses() {
+        return cantidadAses;
+    }
 
-        return puntaje;
+    /**
+     * Obtiene el número de cartas en la mano.
+     * 
+     * @return El número de cartas.
+     */
+    public int getCantidadCartas() {
+        return cantidadCartas;
     }
 
     /**
@@ -96,7 +124,7 @@ public class Jugador {
      * @return true si el jugador tiene Blackjack, false en caso contrario.
      */
     public boolean tieneBlackjack() {
-        return mano.tamaño() == 2 && calcularPuntaje() == 21;
+        return cantidadCartas == 2 && calcularPuntaje() == 21;
     }
 
     /**
@@ -117,10 +145,12 @@ public class Jugador {
 
     /**
      * Obtiene la mano actual del jugador.
+     * La mano solo debe modificarse mediante recibirCarta() y limpiarMano()
+     * para que el puntaje incremental se mantenga consistente.
      * 
      * @return La lista de cartas en la mano del jugador.
      */
-    public ListaEnlazada<Carta> getMano() {
+    public Lista<Carta> getMano() {
         return mano;
     }
 
@@ -153,9 +183,10 @@ public class Jugador {
      * Limpia la mano del jugador para una nueva ronda.
      */
     public void limpiarMano() {
-        while (!mano.estaVacia()) {
-            mano.eliminarPrimero();
-        }
+        mano.limpiar();
+        puntajeDuro = 0;
+        cantidadAses = 0;
+        cantidadCartas = 0;
         plantado = false;
     }
 
@@ -170,12 +201,13 @@ public class Jugador {
         sb.append(nombre).append(" (Puntaje: ").append(calcularPuntaje()).append(")\n");
         sb.append("Mano: ");
 
-        for (int i = 0; i < mano.tamaño(); i++) {
-            Carta carta = mano.obtenerElemento(i);
-            sb.append(carta);
-            if (i < mano.tamaño() - 1) {
+        boolean primera = true;
+        for (Carta carta : mano) {
+            if (!primera) {
                 sb.append(", ");
             }
+            sb.append(carta);
+            primera = false;
         }
 
         sb.append("\nEstado: ").append(plantado ? "Plantado" : "Jugando");
@@ -0,0 +1,40 @@
+package modelo;
+
+/**
+ * Jugador automático que toma sus decisiones mediante una {@link Estrategia}.
+ * Puede ocupar el lugar de un jugador humano en la mesa.
+ */
+public class JugadorBot extends Jugador {
+
+    private final Estrategia estrategia;
+
+    /**
+     * Constructor del bot.
+     *
+     * @param nombre     El nombre del bot.
+     * @param estrategia La estrategia con la que decide.
+     */
+    public JugadorBot(String nombre, Estrategia estrategia) {
+        super(nombre);
+        this.estrategia = estrategia;
+    }
+
+    /**
+     * Decide si el bot pide otra carta según su estrategia.
+     *
+     * @param cartaVisibleDealer La carta descubierta del Dealer.
+     * @return true si debe pedir carta, false si debe plantarse.
+     */
+    public boolean debePedirCarta(Carta cartaVisibleDealer) {
+        return !sePaso() && estrategia.debePedirCarta(this, cartaVisibleDealer);
+    }
+
+    /**
+     * Obtiene la estrategia del bot.
+     *
+     * @return La estrategia utilizada.
+     */
+    public Estrategia getEstrategia() {
+        return estrategia;
+    }
+}
@@ -0,0 +1,250 @@
+package modelo;
+
+import estructuras.Lista;
+import estructuras.Pila;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Vista de un asiento de una {@link TablaManos} con la API de
+ * {@link Jugador}, para el código que trabaja con jugadores (la partida por
+ * consola, las estrategias, el historial). Todas las operaciones leen y
+ * escriben directamente en los arreglos de la tabla, así que la vista y la
+ * tabla siempre coinciden. Una misma vista puede moverse de asiento en
+ * asiento con {@link #moverA(int)} para no crear un objeto por mano.
+ *
+ * Diferencias con Jugador: la tabla no guarda el historial de rondas
+ * anteriores, así que {@link #getHistorialCartas()} devuelve solo la mano
+ * actual, y una mano admite como mucho
+ * {@link TablaManos#MAX_CARTAS_POR_MANO} cartas.
+ */
+public class JugadorVista extends Jugador {
+
+    private final TablaManos tabla;
+    private int asiento;
+    private final ManoVista mano = new ManoVista();
+
+    /**
+     * Constructor de la vista. Se obtiene con {@link TablaManos#vista(int)}.
+     */
+    JugadorVista(TablaManos tabla, int asiento) {
+        super(null);
+        this.tabla = tabla;
+        this.asiento = asiento;
+    }
+
+    /**
+     * Mueve la vista a otro asiento de la misma tabla.
+     * Complejidad: O(1)
+     *
+     * @param asiento El nuevo número de asiento.
+     * @return Esta misma vista, para encadenar llamadas.
+     * @throws IllegalArgumentException si el asiento está fuera de la tabla.
+     */
+    public JugadorVista moverA(int asiento) {
+        tabla.validar(asiento);
+        this.asiento = asiento;
+        return this;
+    }
+
+    /**
+     * Obtiene el número de asiento de la vista.
+     *
+     * @return El asiento en la tabla.
+     */
+    public int getAsiento() {
+        return asiento;
+    }
+
+    /**
+     * Obtiene la tabla que guarda la mano.
+     *
+     * @return La tabla de manos.
+     */
+    public TablaManos getTabla() {
+        return tabla;
+    }
+
+    @Override
+    public String getNombre() {
+        return tabla.getNombre(asiento);
+    }
+
+    @Override
+    public void recibirCarta(Carta carta) {
+        tabla.recibirCarta(asiento, carta);
+    }
+
+    @Override
+    public int calcularPuntaje() {
+        return tabla.calcularPuntaje(asiento);
+    }
+
+    @Override
+    public boolean esSuave() {
+        return tabla.esSuave(asiento);
+    }
+
+    @Override
+    public int getPuntajeDuro() {
+        return tabla.getPuntajeDuro(asiento);
+    }
+
+    @Override
+    public int getCantidadAses() {
+        return tabla.getCantidadAses(asiento);
+    }
+
+    @Override
+    public int getCantidadCartas() {
+        return tabla.getCantidadCartas(asiento);
+    }
+
+    @Override
+    public boolean sePaso() {
+        return tabla.sePaso(asiento);
+    }
+
+    @Override
+    public boolean tieneBlackjack() {
+        return tabla.tieneBlackjack(asiento);
+    }
+
+    @Override
+    public void plantarse() {
+        tabla.plantarse(asiento);
+    }
+
+    @Override
+    public boolean estaPantado() {
+        return tabla.estaPlantado(asiento);
+    }
+
+    /**
+     * Obtiene la mano del asiento como lista. agregar(), eliminarPrimero() y
+     * limpiar() modifican la mano en la tabla y mantienen sus totales.
+     *
+     * @return La lista de cartas en la mano, respaldada por la tabla.
+     */
+    @Override
+    public Lista<Carta> getMano() {
+        return mano;
+    }
+
+    /**
+     * Obtiene las cartas de la mano actual, la primera en la base.
+     * Complejidad: O(n) - se construye en cada llamada.
+     *
+     * @return Una pila nueva con las cartas de la mano actual.
+     */
+    @Override
+    public Pila<Carta> getHistorialCartas() {
+        Pila<Carta> historial = new Pila<>();
+        for (Carta carta : mano) {
+            historial.apilar(carta);
+        }
+        return historial;
+    }
+
+    @Override
+    public void incrementarPartidasGanadas() {
+        tabla.incrementarPartidasGanadas(asiento);
+    }
+
+    @Override
+    public int getPartidasGanadas() {
+        return tabla.getPartidasGanadas(asiento);
+    }
+
+    @Override
+    public void limpiarMano() {
+        tabla.limpiarMano(asiento);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(getNombre()).append(" (Puntaje: ").append(calcularPuntaje()).append(")\n");
+        sb.append("Mano: ");
+
+        boolean primera = true;
+        for (Carta carta : mano) {
+            if (!primera) {
+                sb.append(", ");
+            }
+            sb.append(carta);
+            primera = false;
+        }
+
+        sb.append("\nEstado: ").append(estaPantado() ? "Plantado" : "Jugando");
+        sb.append("\nPartidas ganadas: ").append(getPartidasGanadas());
+
+        return sb.toString();
+    }
+
+    /**
+     * La mano del asiento vista como lista de cartas.
+     */
+    private class ManoVista implements Lista<Carta> {
+
+        @Override
+        public void agregar(Carta carta) {
+            tabla.recibirCarta(asiento, carta);
+        }
+
+        @Override
+        public Carta eliminarPrimero() {
+            return tabla.eliminarPrimero(asiento);
+        }
+
+        @Override
+        public Carta obtenerElemento(int indice) {
+            return tabla.obtenerCarta(asiento, indice);
+        }
+
+        @Override
+        public void limpiar() {
+            tabla.limpiarMano(asiento);
+        }
+
+        @Override
+        public boolean estaVacia() {
+            return tabla.getCantidadCartas(asiento) == 0;
+        }
+
+        @Override
+        public int tamaño() {
+            return tabla.getCantidadCartas(asiento);
+        }
+
+        @Override
+        public Iterator<Carta> iterator() {
+            return new Iterator<Carta>() {
+                private int posicion = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return posicion < tamaño();
+                }
+
+                @Override
+                public Carta next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    return obtenerElemento(posicion++);
+                }
+            };
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            for (Carta carta : this) {
+                sb.append("[").append(carta).append("]->");
+            }
+            return sb.append("null").toString();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package modelo;
+
+/**
+ * Lote de manos independientes guardado como estructura de arreglos: cada
+ * campo de las manos vive en su propio arreglo de enteros, contiguo en
+ * memoria, para que {@link EvaluadorManos} las puntúe todas de una vez.
+ *
+ * Entradas por mano: puntaje duro (Ases como 1), número de Ases y número de
+ * cartas. Salidas, tras {@link EvaluadorManos#evaluar(LoteManos)}: puntaje,
+ * mano suave, pasada de 21 y Blackjack.
+ */
+public class LoteManos {
+
+    final int[] puntajesDuros;
+    final int[] ases;
+    final int[] cartas;
+
+    final int[] puntajes;
+    final boolean[] suaves;
+    final boolean[] pasadas;
+    final boolean[] blackjacks;
+
+    private int tamaño;
+
+    /**
+     * Constructor del lote.
+     *
+     * @param capacidad Número máximo de manos del lote.
+     * @throws IllegalArgumentException si la capacidad no es positiva.
+     */
+    public LoteManos(int capacidad) {
+        if (capacidad < 1) {
+            throw new IllegalArgumentException("La capacidad debe ser positiva: " + capacidad);
+        }
+        this.puntajesDuros = new int[capacidad];
+        this.ases = new int[capacidad];
+        this.cartas = new int[capacidad];
+        this.puntajes = new int[capacidad];
+        this.suaves = new boolean[capacidad];
+        this.pasadas = new boolean[capacidad];
+        this.blackjacks = new boolean[capacidad];
+    }
+
+    /**
+     * Agrega una mano a partir de sus totales.
+     * Complejidad: O(1)
+     *
+     * @param puntajeDuro     Puntaje con todos los Ases como 1.
+     * @param cantidadAses    Número de Ases de la mano.
+     * @param cantidadCartas  Número de cartas de la mano.
+     * @return El índice de la mano en el lote.
+     * @throws IllegalArgumentException si el lote está lleno o los datos son
+     *                                  negativos.
+     */
+    public int agregar(int puntajeDuro, int cantidadAses, int cantidadCartas) {
+        if (tamaño == puntajesDuros.length) {
+            throw new IllegalArgumentException("El lote está lleno: " + tamaño + " manos");
+        }
+        if (puntajeDuro < 0 || cantidadAses < 0 || cantidadCartas < 0) {
+            throw new IllegalArgumentException(String.format("Mano no válida: duro %d, ases %d, cartas %d",
+                    puntajeDuro, cantidadAses, cantidadCartas));
+        }
+        puntajesDuros[tamaño] = puntajeDuro;
+        ases[tamaño] = cantidadAses;
+        cartas[tamaño] = cantidadCartas;
+        return tamaño++;
+    }
+
+    /**
+     * Agrega la mano actual de un jugador.
+     * Complejidad: O(1) - usa los totales incrementales del jugador.
+     *
+     * @param jugador El jugador cuya mano se agrega.
+     * @return El índice de la mano en el lote.
+     */
+    public int agregar(Jugador jugador) {
+        return agregar(jugador.getPuntajeDuro(), jugador.getCantidadAses(), jugador.getCantidadCartas());
+    }
+
+    /**
+     * Vacía el lote sin liberar sus arreglos.
+     */
+    public void limpiar() {
+        tamaño = 0;
+    }
+
+    public int tamaño() {
+        return tamaño;
+    }
+
+    public int capacidad() {
+        return puntajesDuros.length;
+    }
+
+    /**
+     * Obtiene el puntaje evaluado de una mano.
+     *
+     * @param indice El índice de la mano.
+     * @return El puntaje, igual al de {@link Jugador#calcularPuntaje()}.
+     */
+    public int getPuntaje(int indice) {
+        return puntajes[validar(indice)];
+    }
+
+    public boolean esSuave(int indice) {
+        return suaves[validar(indice)];
+    }
+
+    public boolean sePaso(int indice) {
+        return pasadas[validar(indice)];
+    }
+
+    public boolean tieneBlackjack(int indice) {
+        return blackjacks[validar(indice)];
+    }
+
+    private int validar(int indice) {
+        if (indice < 0 || indice >= tamaño) {
+            throw new IllegalArgumentException("Índice " + indice + " fuera de rango [0," + tamaño + ")");
+        }
+        return indice;
+    }
+
+    @Override
+    public String toString() {
+        return "LoteManos [" + tamaño + "/" + capacidad() + " manos]";
+    }
+}
@@ -0,0 +1,47 @@
+package modelo;
+
+/**
+ * Fuente de cartas de la que se reparte en una mesa.
+ * La implementan la {@link Baraja} de 52 cartas y el {@link Zapato} de
+ * varias barajas, de modo que el Dealer y el juego pueden usar cualquiera.
+ */
+public interface Mazo {
+
+    /**
+     * Roba la carta superior del mazo.
+     *
+     * @return La carta robada o null si el mazo está vacío.
+     */
+    Carta robarCarta();
+
+    /**
+     * Verifica si el mazo está vacío.
+     *
+     * @return true si no quedan cartas, false en caso contrario.
+     */
+    boolean estaVacia();
+
+    /**
+     * Devuelve el número de cartas restantes en el mazo.
+     *
+     * @return El número de cartas que quedan por repartir.
+     */
+    int cartasRestantes();
+
+    /**
+     * Cuenta las cartas que quedan por repartir según su valor numérico.
+     * Las figuras cuentan como 10 y el As como 1.
+     *
+     * @return Arreglo de 11 posiciones donde la posición v (1..10) es el número
+     *         de cartas restantes con valor v; la posición 0 no se usa.
+     */
+    int[] contarValores();
+
+    /**
+     * Suscribe un observador a las cartas que se reparten de este mazo.
+     *
+     * @param observador El observador a notificar.
+     * @throws IllegalArgumentException si el observador es null.
+     */
+    void agregarObservador(ObservadorMazo observador);
+}
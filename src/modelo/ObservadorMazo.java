@@ -0,0 +1,24 @@
+package modelo;
+
+/**
+ * Recibe los eventos de un {@link Mazo}: cada carta repartida y cada vez que
+ * las cartas repartidas vuelven al mazo. Lo usa, por ejemplo, el
+ * {@link ContadorCartas} para llevar la cuenta sin volver a recorrer las
+ * cartas ya jugadas.
+ *
+ * Los métodos se llaman desde el hilo que reparte y deben ser rápidos.
+ */
+public interface ObservadorMazo {
+
+    /**
+     * Se llama cada vez que se roba una carta del mazo.
+     *
+     * @param carta La carta robada.
+     */
+    void cartaRobada(Carta carta);
+
+    /**
+     * Se llama cuando todas las cartas repartidas vuelven al mazo y se mezcla.
+     */
+    void mazoMezclado();
+}
@@ -0,0 +1,207 @@
+package modelo;
+
+import estructuras.ColaCircular;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.random.RandomGenerator;
+
+/**
+ * Etapa productora de zapatos ya mezclados.
+ *
+ * Un hilo propio mantiene llena una cola acotada con órdenes completos de
+ * cartas (arreglos de códigos mezclados de antemano con Fisher-Yates). Un
+ * {@link Zapato} construido con este productor toma el siguiente orden al
+ * alcanzar la carta de corte y reparte de él sin sortear nada, así que la mesa
+ * cambia de zapato al instante. Si la cola estuviera vacía, el zapato no espera:
+ * vuelve a su mezcla perezosa y se cuenta un fallo.
+ *
+ * Los zapatos devuelven su orden anterior para reutilizarlo, de modo que en
+ * régimen estable el productor no crea arreglos. Se puede compartir entre
+ * todas las mesas de un servidor. El hilo productor arranca con
+ * {@link #iniciar()}; hasta entonces los zapatos mezclan por su cuenta.
+ */
+public class ProductorZapatos {
+
+    public static final int CAPACIDAD_POR_DEFECTO = 64;
+
+    private final int numeroBarajas;
+    private final int totalCartas;
+    private final RandomGenerator random;
+    // Órdenes listos para repartir y arreglos devueltos para volver a mezclar
+    private final ColaCircular<byte[]> listos;
+    private final ColaCircular<byte[]> libres;
+    // Hilo productor, creado en iniciar()
+    private volatile Thread hilo;
+    private final LongAdder entregados = new LongAdder();
+    private final LongAdder fallos = new LongAdder();
+    private volatile boolean activo = true;
+
+    /**
+     * Constructor del productor con la capacidad por defecto.
+     *
+     * @param numeroBarajas Número de barajas de los zapatos (1 a 8).
+     */
+    public ProductorZapatos(int numeroBarajas) {
+        this(numeroBarajas, CAPACIDAD_POR_DEFECTO, new SplittableRandom());
+    }
+
+    /**
+     * Constructor del productor. El hilo productor no arranca hasta
+     * {@link #iniciar()}.
+     *
+     * @param numeroBarajas Número de barajas de los zapatos (1 a 8).
+     * @param capacidad     Número máximo de zapatos mezclados en espera.
+     * @param random        El generador de la mezcla; solo lo usa el hilo
+     *                      productor.
+     * @throws IllegalArgumentException si algún parámetro no es válido.
+     */
+    public ProductorZapatos(int numeroBarajas, int capacidad, RandomGenerator random) {
+        Zapato.validarConfiguracion(numeroBarajas, 1.0);
+        if (random == null) {
+            throw new IllegalArgumentException("El generador aleatorio no puede ser null");
+        }
+        this.numeroBarajas = numeroBarajas;
+        this.totalCartas = numeroBarajas * Carta.TOTAL_CARTAS;
+        this.random = random;
+        // Varias mesas toman y devuelven a la vez
+        this.listos = ColaCircular.variosProductores(capacidad);
+        this.libres = ColaCircular.variosProductores(capacidad);
+    }
+
+    /**
+     * Arranca el hilo productor.
+     *
+     * @throws IllegalStateException si ya se inició o se cerró.
+     */
+    public synchronized void iniciar() {
+        if (hilo != null || !activo) {
+            throw new IllegalStateException("El productor de zapatos ya se inició o está cerrado");
+        }
+        Thread productor = new Thread(this::producir, "productor-zapatos");
+        productor.setDaemon(true);
+        hilo = productor;
+        productor.start();
+    }
+
+    /**
+     * Bucle del hilo productor: mezcla un orden completo y espera dormido
+     * mientras la cola de listos esté llena.
+     */
+    private void producir() {
+        while (activo) {
+            byte[] orden = libres.desencolar();
+            if (orden == null) {
+                orden = new byte[totalCartas];
+                for (int i = 0; i < totalCartas; i++) {
+                    orden[i] = (byte) (i % Carta.TOTAL_CARTAS);
+                }
+            }
+            // Un arreglo devuelto ya contiene todas las cartas del zapato
+            for (int i = totalCartas - 1; i > 0; i--) {
+                int j = random.nextInt(i + 1);
+                byte temp = orden[i];
+                orden[i] = orden[j];
+                orden[j] = temp;
+            }
+            while (!listos.encolar(orden)) {
+                if (!activo) {
+                    return;
+                }
+                LockSupport.park(this);
+            }
+        }
+    }
+
+    /**
+     * Toma el siguiente orden mezclado sin esperar.
+     * Complejidad: O(1)
+     *
+     * @return Los códigos de carta de un zapato completo ya mezclado, o null
+     *         si no hay ninguno listo.
+     */
+    byte[] tomar() {
+        byte[] orden = listos.desencolar();
+        if (orden == null) {
+            fallos.increment();
+            return null;
+        }
+        entregados.increment();
+        LockSupport.unpark(hilo);
+        return orden;
+    }
+
+    /**
+     * Devuelve el orden de un zapato retirado para volver a mezclarlo. Si ya
+     * hay suficientes arreglos libres se descarta.
+     *
+     * @param orden Los códigos de carta de un zapato completo.
+     */
+    void devolver(byte[] orden) {
+        if (orden.length == totalCartas) {
+            libres.encolar(orden);
+        }
+    }
+
+    /**
+     * Detiene el hilo productor. Los zapatos que lo usan siguen funcionando
+     * con su mezcla perezosa.
+     */
+    public synchronized void cerrar() {
+        activo = false;
+        Thread productor = hilo;
+        if (productor != null) {
+            LockSupport.unpark(productor);
+            try {
+                productor.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        listos.vaciar();
+    }
+
+    /**
+     * Obtiene el número de barajas de los zapatos producidos.
+     *
+     * @return El número de barajas.
+     */
+    public int getNumeroBarajas() {
+        return numeroBarajas;
+    }
+
+    /**
+     * Obtiene cuántos zapatos mezclados se han entregado a las mesas.
+     *
+     * @return El número de zapatos entregados.
+     */
+    public long getEntregados() {
+        return entregados.sum();
+    }
+
+    /**
+     * Obtiene cuántas veces una mesa encontró la cola vacía y mezcló por su
+     * cuenta.
+     *
+     * @return El número de fallos.
+     */
+    public long getFallos() {
+        return fallos.sum();
+    }
+
+    /**
+     * Obtiene el número aproximado de zapatos mezclados en espera.
+     *
+     * @return Los zapatos listos en la cola.
+     */
+    public int getListos() {
+        return listos.tamaño();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("ProductorZapatos [%d barajas, %d listos, %d entregados, %d fallos]",
+                numeroBarajas, getListos(), getEntregados(), getFallos());
+    }
+}
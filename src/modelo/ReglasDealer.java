@@ -0,0 +1,81 @@
+package modelo;
+
+/**
+ * Reglas de la casa para el Dealer, precalculadas en una tabla de decisión.
+ * La tabla se indexa por (puntaje, mano suave) y se llena una sola vez al
+ * construir las reglas, así que cada decisión es una lectura de arreglo.
+ */
+public final class ReglasDealer {
+
+    /** Regla estándar del juego: el Dealer se planta en 17, incluso suave. */
+    public static final ReglasDealer PLANTARSE_EN_17_SUAVE = new ReglasDealer(17, false);
+
+    /** Variante de muchos casinos: el Dealer pide carta con 17 suave. */
+    public static final ReglasDealer PEDIR_EN_17_SUAVE = new ReglasDealer(17, true);
+
+    // Puntajes posibles de una mano del Dealer: 0..31
+    private static final int PUNTAJE_MAXIMO = 31;
+
+    private final int umbral;
+    private final boolean pedirEnSuave17;
+    private final boolean[] pedir;
+
+    /**
+     * Constructor de las reglas.
+     *
+     * @param umbral         Puntaje a partir del cual el Dealer se planta.
+     * @param pedirEnSuave17 true si el Dealer pide carta con un 17 suave.
+     */
+    public ReglasDealer(int umbral, boolean pedirEnSuave17) {
+        if (umbral < 2 || umbral > 21) {
+            throw new IllegalArgumentException("Umbral del Dealer fuera de rango [2,21]: " + umbral);
+        }
+        this.umbral = umbral;
+        this.pedirEnSuave17 = pedirEnSuave17;
+        this.pedir = new boolean[(PUNTAJE_MAXIMO + 1) * 2];
+
+        for (int puntaje = 0; puntaje <= PUNTAJE_MAXIMO; puntaje++) {
+            pedir[indice(puntaje, false)] = puntaje < umbral;
+            pedir[indice(puntaje, true)] = puntaje < umbral || (pedirEnSuave17 && puntaje == 17);
+        }
+    }
+
+    private static int indice(int puntaje, boolean suave) {
+        return (puntaje << 1) | (suave ? 1 : 0);
+    }
+
+    /**
+     * Decide si el Dealer debe pedir carta.
+     * Complejidad: O(1) - una lectura de la tabla precalculada.
+     *
+     * @param puntaje El puntaje actual de la mano.
+     * @param suave   true si un As cuenta como 11.
+     * @return true si debe pedir carta, false si debe plantarse.
+     */
+    public boolean debePedir(int puntaje, boolean suave) {
+        return pedir[(puntaje << 1) | (suave ? 1 : 0)];
+    }
+
+    /**
+     * Obtiene el puntaje a partir del cual el Dealer se planta.
+     *
+     * @return El umbral de las reglas.
+     */
+    public int getUmbral() {
+        return umbral;
+    }
+
+    /**
+     * Indica si el Dealer pide carta con 17 suave.
+     *
+     * @return true si pide con 17 suave.
+     */
+    public boolean pideEnSuave17() {
+        return pedirEnSuave17;
+    }
+
+    @Override
+    public String toString() {
+        return "Dealer " + (pedirEnSuave17 ? "pide" : "se planta") + " con " + umbral + " suave";
+    }
+}
@@ -0,0 +1,85 @@
+package modelo;
+
+/**
+ * Sistemas de conteo de cartas. Cada uno asigna un peso entero a cada valor
+ * de carta (A, 2..9, 10/figuras); el conteo corrido es la suma de los pesos
+ * de las cartas vistas.
+ *
+ * Los sistemas con medios puntos (Wong Halves) guardan sus pesos
+ * multiplicados por {@link #getDivisor()} para trabajar solo con enteros.
+ */
+public enum SistemaConteo {
+
+    //                                    A  2  3  4  5  6  7  8  9  10
+    HI_LO("Hi-Lo", 1, new int[]          {-1, 1, 1, 1, 1, 1, 0, 0, 0, -1}),
+    KO("KO", 1, new int[]                {-1, 1, 1, 1, 1, 1, 1, 0, 0, -1}),
+    HI_OPT_I("Hi-Opt I", 1, new int[]    { 0, 0, 1, 1, 1, 1, 0, 0, 0, -1}),
+    HI_OPT_II("Hi-Opt II", 1, new int[]  { 0, 1, 1, 2, 2, 1, 1, 0, 0, -2}),
+    OMEGA_II("Omega II", 1, new int[]    { 0, 1, 1, 2, 2, 2, 1, 0, -1, -2}),
+    ZEN("Zen", 1, new int[]              {-1, 1, 1, 2, 2, 2, 1, 0, 0, -2}),
+    WONG_HALVES("Wong Halves", 2, new int[] {-2, 1, 2, 2, 3, 2, 1, 0, -1, -2});
+
+    private final String nombre;
+    private final int divisor;
+    // pesos[valor] para valor 1..10; la posición 0 no se usa
+    private final int[] pesos;
+    private final int sumaPorBaraja;
+
+    SistemaConteo(String nombre, int divisor, int[] pesosPorValor) {
+        this.nombre = nombre;
+        this.divisor = divisor;
+        this.pesos = new int[11];
+        int suma = 0;
+        for (int valor = 1; valor <= 10; valor++) {
+            pesos[valor] = pesosPorValor[valor - 1];
+            // Cuatro cartas de cada valor por baraja, dieciséis de valor 10
+            suma += pesos[valor] * (valor == 10 ? 16 : 4);
+        }
+        this.sumaPorBaraja = suma;
+    }
+
+    /**
+     * Obtiene el peso de un valor de carta, multiplicado por el divisor.
+     *
+     * @param valor El valor de la carta (1 = As, 2..10).
+     * @return El peso entero del valor.
+     */
+    public int peso(int valor) {
+        return pesos[valor];
+    }
+
+    /**
+     * Indica si el sistema es balanceado (una baraja completa suma 0).
+     *
+     * @return true si es balanceado.
+     */
+    public boolean esBalanceado() {
+        return sumaPorBaraja == 0;
+    }
+
+    /**
+     * Conteo corrido inicial, ya multiplicado por el divisor. Los sistemas
+     * balanceados empiezan en 0; los no balanceados en
+     * suma * (1 - barajas), de modo que un zapato completo termina en la
+     * suma de una baraja (por ejemplo 4 - 4 * barajas en KO).
+     *
+     * @param numeroBarajas El número de barajas del mazo.
+     * @return El conteo inicial entero.
+     */
+    public int conteoInicial(int numeroBarajas) {
+        return sumaPorBaraja * (1 - numeroBarajas);
+    }
+
+    public int getDivisor() {
+        return divisor;
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    @Override
+    public String toString() {
+        return nombre;
+    }
+}
@@ -0,0 +1,347 @@
+package modelo;
+
+/**
+ * Almacén compacto de las manos de muchos asientos como estructura de
+ * arreglos: los códigos de carta, los totales, las banderas y las victorias
+ * de todos los asientos viven en arreglos primitivos paralelos indexados por
+ * el número de asiento, en lugar de un objeto {@link Jugador} con su lista,
+ * su pila y su nombre por asiento. Un millón de manos ocupan unos pocos
+ * arreglos contiguos, sin nodos que recorrer ni basura por ronda.
+ *
+ * Las reglas son las de {@link Jugador}. Para el código que trabaja con
+ * jugadores, {@link #vista(int)} devuelve un {@link JugadorVista} que expone
+ * la API de Jugador sobre un asiento; {@link #cargarLote(LoteManos)} pasa las
+ * manos a un {@link EvaluadorManos} para puntuarlas por lotes.
+ *
+ * No es segura para hilos: cada hilo debe trabajar con su propia tabla.
+ */
+public class TablaManos {
+
+    /**
+     * Cartas máximas por mano: con un puntaje duro de 21 caben como mucho 21
+     * cartas (todas Ases), y una más ya se pasa.
+     */
+    public static final int MAX_CARTAS_POR_MANO = 22;
+
+    private final int capacidad;
+    // Cartas del asiento s en [s * MAX_CARTAS_POR_MANO, s * MAX_CARTAS_POR_MANO + cantidad)
+    private final byte[] cartas;
+    private final byte[] cantidadesCartas;
+    private final byte[] cantidadesAses;
+    private final short[] puntajesDuros;
+    private final boolean[] plantados;
+    private final int[] partidasGanadas;
+    private final String[] nombres;
+
+    /**
+     * Constructor de la tabla con todas las manos vacías.
+     *
+     * @param capacidad Número de asientos.
+     * @throws IllegalArgumentException si la capacidad no es positiva o es
+     *                                  demasiado grande.
+     */
+    public TablaManos(int capacidad) {
+        if (capacidad < 1 || capacidad > Integer.MAX_VALUE / MAX_CARTAS_POR_MANO) {
+            throw new IllegalArgumentException("Capacidad de asientos no válida: " + capacidad);
+        }
+        this.capacidad = capacidad;
+        this.cartas = new byte[capacidad * MAX_CARTAS_POR_MANO];
+        this.cantidadesCartas = new byte[capacidad];
+        this.cantidadesAses = new byte[capacidad];
+        this.puntajesDuros = new short[capacidad];
+        this.plantados = new boolean[capacidad];
+        this.partidasGanadas = new int[capacidad];
+        this.nombres = new String[capacidad];
+    }
+
+    /**
+     * Agrega una carta a la mano de un asiento.
+     * Complejidad: O(1)
+     *
+     * @param asiento El número de asiento.
+     * @param carta   La carta a agregar.
+     * @throws IllegalArgumentException si la carta es null o la mano ya
+     *                                  tiene {@link #MAX_CARTAS_POR_MANO} cartas.
+     */
+    public void recibirCarta(int asiento, Carta carta) {
+        validar(asiento);
+        if (carta == null) {
+            throw new IllegalArgumentException("La carta no puede ser null");
+        }
+        int cantidad = cantidadesCartas[asiento];
+        if (cantidad == MAX_CARTAS_POR_MANO) {
+            throw new IllegalArgumentException("La mano del asiento " + asiento + " ya tiene "
+                    + MAX_CARTAS_POR_MANO + " cartas");
+        }
+        cartas[asiento * MAX_CARTAS_POR_MANO + cantidad] = (byte) carta.getCodigo();
+        cantidadesCartas[asiento] = (byte) (cantidad + 1);
+        puntajesDuros[asiento] = (short) (puntajesDuros[asiento] + carta.getValorNumerico());
+        if (carta.esAs()) {
+            cantidadesAses[asiento]++;
+        }
+    }
+
+    /**
+     * Quita la primera carta de la mano de un asiento: las demás cartas se
+     * desplazan una posición y el puntaje duro y los ases dejan de contarla.
+     * Complejidad: O(n) con n las cartas de la mano (como mucho
+     * {@link #MAX_CARTAS_POR_MANO}).
+     *
+     * @param asiento El número de asiento.
+     * @return La carta quitada, o null si la mano está vacía.
+     */
+    public Carta eliminarPrimero(int asiento) {
+        validar(asiento);
+        int cantidad = cantidadesCartas[asiento];
+        if (cantidad == 0) {
+            return null;
+        }
+        int base = asiento * MAX_CARTAS_POR_MANO;
+        Carta carta = Carta.obtener(cartas[base]);
+        System.arraycopy(cartas, base + 1, cartas, base, cantidad - 1);
+        cantidadesCartas[asiento] = (byte) (cantidad - 1);
+        puntajesDuros[asiento] = (short) (puntajesDuros[asiento] - carta.getValorNumerico());
+        if (carta.esAs()) {
+            cantidadesAses[asiento]--;
+        }
+        return carta;
+    }
+
+    /**
+     * Obtiene una carta de la mano de un asiento.
+     *
+     * @param asiento El número de asiento.
+     * @param indice  Posición de la carta (0 es la primera recibida).
+     * @return La carta en esa posición.
+     * @throws IndexOutOfBoundsException si el índice está fuera de la mano.
+     */
+    public Carta obtenerCarta(int asiento, int indice) {
+        validar(asiento);
+        if (indice < 0 || indice >= cantidadesCartas[asiento]) {
+            throw new IndexOutOfBoundsException("Índice " + indice + " fuera de la mano de "
+                    + cantidadesCartas[asiento] + " cartas");
+        }
+        return Carta.obtener(cartas[asiento * MAX_CARTAS_POR_MANO + indice]);
+    }
+
+    /**
+     * Calcula el puntaje de la mano de un asiento, como
+     * {@link Jugador#calcularPuntaje()}.
+     * Complejidad: O(1)
+     *
+     * @param asiento El número de asiento.
+     * @return El puntaje de la mano.
+     */
+    public int calcularPuntaje(int asiento) {
+        return esSuave(asiento) ? puntajesDuros[asiento] + 10 : puntajesDuros[asiento];
+    }
+
+    /**
+     * Indica si la mano de un asiento es suave (un As cuenta como 11).
+     * Complejidad: O(1)
+     *
+     * @param asiento El número de asiento.
+     * @return true si la mano es suave.
+     */
+    public boolean esSuave(int asiento) {
+        validar(asiento);
+        return cantidadesAses[asiento] > 0 && puntajesDuros[asiento] + 10 <= 21;
+    }
+
+    /**
+     * Indica si la mano de un asiento supera 21.
+     *
+     * @param asiento El número de asiento.
+     * @return true si el asiento se pasó.
+     */
+    public boolean sePaso(int asiento) {
+        return calcularPuntaje(asiento) > 21;
+    }
+
+    /**
+     * Indica si la mano de un asiento es Blackjack (21 con dos cartas).
+     *
+     * @param asiento El número de asiento.
+     * @return true si el asiento tiene Blackjack.
+     */
+    public boolean tieneBlackjack(int asiento) {
+        return calcularPuntaje(asiento) == 21 && cantidadesCartas[asiento] == 2;
+    }
+
+    /**
+     * Obtiene el puntaje de la mano de un asiento contando los Ases como 1.
+     *
+     * @param asiento El número de asiento.
+     * @return El puntaje duro.
+     */
+    public int getPuntajeDuro(int asiento) {
+        validar(asiento);
+        return puntajesDuros[asiento];
+    }
+
+    /**
+     * Obtiene el número de Ases en la mano de un asiento.
+     *
+     * @param asiento El número de asiento.
+     * @return La cantidad de Ases.
+     */
+    public int getCantidadAses(int asiento) {
+        validar(asiento);
+        return cantidadesAses[asiento];
+    }
+
+    /**
+     * Obtiene el número de cartas en la mano de un asiento.
+     *
+     * @param asiento El número de asiento.
+     * @return La cantidad de cartas.
+     */
+    public int getCantidadCartas(int asiento) {
+        validar(asiento);
+        return cantidadesCartas[asiento];
+    }
+
+    /**
+     * Marca el asiento como plantado hasta la próxima limpieza de su mano.
+     *
+     * @param asiento El número de asiento.
+     */
+    public void plantarse(int asiento) {
+        validar(asiento);
+        plantados[asiento] = true;
+    }
+
+    /**
+     * Indica si el asiento se plantó en la ronda actual.
+     *
+     * @param asiento El número de asiento.
+     * @return true si el asiento está plantado.
+     */
+    public boolean estaPlantado(int asiento) {
+        validar(asiento);
+        return plantados[asiento];
+    }
+
+    /**
+     * Suma una partida ganada al asiento. Las victorias no se borran al
+     * limpiar la mano.
+     *
+     * @param asiento El número de asiento.
+     */
+    public void incrementarPartidasGanadas(int asiento) {
+        validar(asiento);
+        partidasGanadas[asiento]++;
+    }
+
+    /**
+     * Obtiene las partidas ganadas por un asiento.
+     *
+     * @param asiento El número de asiento.
+     * @return El número de partidas ganadas.
+     */
+    public int getPartidasGanadas(int asiento) {
+        validar(asiento);
+        return partidasGanadas[asiento];
+    }
+
+    /**
+     * Obtiene el nombre de un asiento.
+     *
+     * @param asiento El número de asiento.
+     * @return El nombre asignado o "Asiento N" si no tiene.
+     */
+    public String getNombre(int asiento) {
+        validar(asiento);
+        return nombres[asiento] != null ? nombres[asiento] : "Asiento " + (asiento + 1);
+    }
+
+    /**
+     * Asigna un nombre a un asiento. Los asientos sin nombre no guardan
+     * ninguna cadena.
+     *
+     * @param asiento El número de asiento.
+     * @param nombre  El nombre del asiento.
+     */
+    public void setNombre(int asiento, String nombre) {
+        validar(asiento);
+        nombres[asiento] = nombre;
+    }
+
+    /**
+     * Limpia la mano de un asiento para una nueva ronda.
+     * Complejidad: O(1) - las cartas anteriores quedan fuera de la cantidad.
+     *
+     * @param asiento El número de asiento.
+     */
+    public void limpiarMano(int asiento) {
+        validar(asiento);
+        cantidadesCartas[asiento] = 0;
+        cantidadesAses[asiento] = 0;
+        puntajesDuros[asiento] = 0;
+        plantados[asiento] = false;
+    }
+
+    /**
+     * Limpia las manos de todos los asientos.
+     * Complejidad: O(n) sobre arreglos contiguos.
+     */
+    public void limpiarManos() {
+        for (int asiento = 0; asiento < capacidad; asiento++) {
+            cantidadesCartas[asiento] = 0;
+            cantidadesAses[asiento] = 0;
+            puntajesDuros[asiento] = 0;
+            plantados[asiento] = false;
+        }
+    }
+
+    /**
+     * Reemplaza el contenido de un lote con las manos de todos los asientos,
+     * en orden de asiento, para evaluarlas con un {@link EvaluadorManos}.
+     *
+     * @param lote Un lote con capacidad para todos los asientos.
+     * @throws IllegalArgumentException si el lote es demasiado pequeño.
+     */
+    public void cargarLote(LoteManos lote) {
+        if (lote.capacidad() < capacidad) {
+            throw new IllegalArgumentException("El lote admite " + lote.capacidad() + " manos y la tabla tiene "
+                    + capacidad + " asientos");
+        }
+        lote.limpiar();
+        for (int asiento = 0; asiento < capacidad; asiento++) {
+            lote.agregar(puntajesDuros[asiento], cantidadesAses[asiento], cantidadesCartas[asiento]);
+        }
+    }
+
+    /**
+     * Crea una vista de Jugador sobre un asiento. La tabla no guarda las
+     * vistas: para recorrer muchos asientos se reutiliza una sola con
+     * {@link JugadorVista#moverA(int)}.
+     *
+     * @param asiento El número de asiento.
+     * @return Una vista nueva del asiento.
+     */
+    public JugadorVista vista(int asiento) {
+        validar(asiento);
+        return new JugadorVista(this, asiento);
+    }
+
+    /**
+     * Obtiene el número de asientos de la tabla.
+     *
+     * @return La capacidad fijada al construirla.
+     */
+    public int capacidad() {
+        return capacidad;
+    }
+
+    void validar(int asiento) {
+        if (asiento < 0 || asiento >= capacidad) {
+            throw new IllegalArgumentException("Asiento " + asiento + " fuera de rango [0," + capacidad + ")");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TablaManos [" + capacidad + " asientos]";
+    }
+}
@@ -0,0 +1,270 @@
+package modelo;
+
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+/**
+ * Zapato (shoe) de varias barajas como en las mesas reales de casino.
+ * Las cartas viven en un arreglo de códigos (byte) que se llena una sola vez;
+ * repartir solo avanza un cursor, por lo que una ronda no crea objetos. La
+ * mezcla es perezosa: cada robarCarta() hace un paso de Fisher-Yates sobre las
+ * cartas restantes, así que solo se sortean las que realmente se reparten
+ * antes de la carta de corte. Se vuelve a mezclar únicamente cuando el cursor
+ * alcanza la carta de corte; con un {@link ProductorZapatos} el nuevo orden
+ * llega ya mezclado desde otro hilo y repartir no sortea nada.
+ */
+public class Zapato implements Mazo {
+
+    public static final int MIN_BARAJAS = 1;
+    public static final int MAX_BARAJAS = 8;
+
+    // Códigos de carta; las restantes ocupan [cursor, cartas.length)
+    private byte[] cartas;
+    private final int cartaCorte;
+    private final double penetracion;
+    private final RandomGenerator random;
+    private final ProductorZapatos productor;
+    private int cursor;
+    // El orden actual vino mezclado del productor: se reparte tal cual
+    private boolean premezclado;
+    // Arreglo de solo lectura: se reemplaza al suscribir, casi nunca
+    private ObservadorMazo[] observadores = new ObservadorMazo[0];
+
+    /**
+     * Constructor del zapato. Las cartas quedan mezcladas y listas para repartir.
+     *
+     * @param numeroBarajas Número de barajas de 52 cartas (1 a 8).
+     * @param penetracion   Fracción del zapato que se reparte antes de la carta
+     *                      de corte (mayor que 0 y como máximo 1).
+     * @throws IllegalArgumentException si algún parámetro está fuera de rango.
+     */
+    public Zapato(int numeroBarajas, double penetracion) {
+        this(numeroBarajas, penetracion, new SplittableRandom());
+    }
+
+    /**
+     * Constructor del zapato con un generador propio para mezclar. Cada hilo
+     * debe usar su propio generador, por ejemplo uno obtenido con
+     * {@code split()} de un generador maestro sembrado.
+     *
+     * @param numeroBarajas Número de barajas de 52 cartas (1 a 8).
+     * @param penetracion   Fracción del zapato que se reparte antes de la carta
+     *                      de corte (mayor que 0 y como máximo 1).
+     * @param random        El generador de números aleatorios de la mezcla.
+     * @throws IllegalArgumentException si algún parámetro está fuera de rango.
+     */
+    public Zapato(int numeroBarajas, double penetracion, RandomGenerator random) {
+        this(numeroBarajas, penetracion, random, null);
+    }
+
+    /**
+     * Constructor del zapato que toma sus órdenes ya mezclados de un
+     * productor en segundo plano, de modo que volver a mezclar no cuesta nada
+     * en el hilo de la mesa.
+     *
+     * @param numeroBarajas Número de barajas de 52 cartas (1 a 8).
+     * @param penetracion   Fracción del zapato que se reparte antes de la carta
+     *                      de corte (mayor que 0 y como máximo 1).
+     * @param productor     El productor de zapatos mezclados, con el mismo
+     *                      número de barajas.
+     * @throws IllegalArgumentException si algún parámetro no es válido.
+     */
+    public Zapato(int numeroBarajas, double penetracion, ProductorZapatos productor) {
+        this(numeroBarajas, penetracion, new SplittableRandom(), validarProductor(productor, numeroBarajas));
+    }
+
+    private Zapato(int numeroBarajas, double penetracion, RandomGenerator random, ProductorZapatos productor) {
+        validarConfiguracion(numeroBarajas, penetracion);
+        if (random == null) {
+            throw new IllegalArgumentException("El generador aleatorio no puede ser null");
+        }
+        this.productor = productor;
+
+        this.cartas = new byte[numeroBarajas * Carta.TOTAL_CARTAS];
+        this.penetracion = penetracion;
+        this.cartaCorte = Math.max(1, (int) (cartas.length * penetracion));
+        this.random = random;
+
+        for (int i = 0; i < cartas.length; i++) {
+            cartas[i] = (byte) (i % Carta.TOTAL_CARTAS);
+        }
+        // Aún no hay observadores a los que avisar
+        reiniciarOrden();
+    }
+
+    /**
+     * Valida la configuración de un zapato sin construirlo.
+     *
+     * @param numeroBarajas Número de barajas de 52 cartas (1 a 8).
+     * @param penetracion   Fracción del zapato repartida antes del corte.
+     * @throws IllegalArgumentException si algún parámetro está fuera de rango.
+     */
+    public static void validarConfiguracion(int numeroBarajas, double penetracion) {
+        if (numeroBarajas < MIN_BARAJAS || numeroBarajas > MAX_BARAJAS) {
+            throw new IllegalArgumentException(String.format(
+                    "Número de barajas %d fuera de rango [%d,%d]", numeroBarajas, MIN_BARAJAS, MAX_BARAJAS));
+        }
+        if (!(penetracion > 0.0 && penetracion <= 1.0)) {
+            throw new IllegalArgumentException("La penetración debe estar en (0,1]: " + penetracion);
+        }
+    }
+
+    private static ProductorZapatos validarProductor(ProductorZapatos productor, int numeroBarajas) {
+        if (productor == null) {
+            throw new IllegalArgumentException("El productor de zapatos no puede ser null");
+        }
+        if (productor.getNumeroBarajas() != numeroBarajas) {
+            throw new IllegalArgumentException(String.format("El productor entrega zapatos de %d barajas, no de %d",
+                    productor.getNumeroBarajas(), numeroBarajas));
+        }
+        return productor;
+    }
+
+    /**
+     * Mezcla todas las cartas del zapato y coloca el cursor al inicio.
+     * Complejidad: O(1) - devolver el cursor al inicio vuelve a poner todas
+     * las cartas en juego y el orden se sortea carta a carta en robarCarta().
+     * Con un productor, se cambia el arreglo por el siguiente orden ya
+     * mezclado y se le devuelve el anterior.
+     */
+    public void mezclar() {
+        reiniciarOrden();
+        for (ObservadorMazo observador : observadores) {
+            observador.mazoMezclado();
+        }
+    }
+
+    /**
+     * Devuelve el cursor al inicio o, con un productor, toma el siguiente
+     * orden ya mezclado. Es la parte de mezclar() que usa el constructor, que
+     * no debe llamar a métodos que una subclase pueda redefinir.
+     */
+    private void reiniciarOrden() {
+        cursor = 0;
+        premezclado = false;
+        if (productor != null) {
+            byte[] orden = productor.tomar();
+            if (orden != null) {
+                productor.devolver(cartas);
+                cartas = orden;
+                premezclado = true;
+            }
+        }
+    }
+
+    /**
+     * Prepara el zapato para una nueva ronda: si ya se alcanzó la carta de
+     * corte, se mezcla de nuevo.
+     *
+     * @return true si se mezcló el zapato, false si se sigue repartiendo.
+     */
+    public boolean prepararRonda() {
+        if (alcanzoCorte()) {
+            mezclar();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Verifica si el cursor ya pasó la carta de corte.
+     *
+     * @return true si hay que mezclar antes de la próxima ronda.
+     */
+    public boolean alcanzoCorte() {
+        return cursor >= cartaCorte;
+    }
+
+    /**
+     * Roba la siguiente carta del zapato: elige una al azar entre las
+     * restantes y la intercambia con la posición del cursor (un paso de
+     * Fisher-Yates). Si el orden vino mezclado del productor, solo avanza el
+     * cursor.
+     * Complejidad: O(1) - un número aleatorio y un intercambio, sin crear objetos.
+     * Si el zapato se agota en mitad de una ronda (penetración muy alta), se
+     * mezcla de inmediato para no dejar la ronda sin cartas.
+     *
+     * @return La carta robada.
+     */
+    @Override
+    public Carta robarCarta() {
+        if (cursor == cartas.length) {
+            mezclar();
+        }
+        if (!premezclado) {
+            int j = cursor + random.nextInt(cartas.length - cursor);
+            byte temp = cartas[j];
+            cartas[j] = cartas[cursor];
+            cartas[cursor] = temp;
+        }
+        Carta carta = Carta.obtener(cartas[cursor++]);
+        for (ObservadorMazo observador : observadores) {
+            observador.cartaRobada(carta);
+        }
+        return carta;
+    }
+
+    /**
+     * El zapato nunca queda vacío: al agotarse se vuelve a mezclar.
+     *
+     * @return siempre false.
+     */
+    @Override
+    public boolean estaVacia() {
+        return false;
+    }
+
+    @Override
+    public int cartasRestantes() {
+        return cartas.length - cursor;
+    }
+
+    @Override
+    public int[] contarValores() {
+        int[] conteo = new int[11];
+        for (int i = cursor; i < cartas.length; i++) {
+            conteo[Carta.obtener(cartas[i]).getValorNumerico()]++;
+        }
+        return conteo;
+    }
+
+    @Override
+    public void agregarObservador(ObservadorMazo observador) {
+        if (observador == null) {
+            throw new IllegalArgumentException("El observador no puede ser null");
+        }
+        ObservadorMazo[] nuevos = new ObservadorMazo[observadores.length + 1];
+        System.arraycopy(observadores, 0, nuevos, 0, observadores.length);
+        nuevos[observadores.length] = observador;
+        observadores = nuevos;
+    }
+
+    /**
+     * Obtiene el número de barajas del zapato.
+     *
+     * @return El número de barajas.
+     */
+    public int getNumeroBarajas() {
+        return cartas.length / Carta.TOTAL_CARTAS;
+    }
+
+    /**
+     * Obtiene la penetración configurada.
+     *
+     * @return La fracción del zapato que se reparte antes de mezclar.
+     */
+    public double getPenetracion() {
+        return penetracion;
+    }
+
+    /**
+     * Muestra el estado actual del zapato.
+     *
+     * @return Una representación en cadena del zapato.
+     */
+    @Override
+    public String toString() {
+        return String.format("Zapato [%d barajas, %d/%d cartas restantes, corte en %d]",
+                getNumeroBarajas(), cartasRestantes(), cartas.length, cartaCorte);
+    }
+}
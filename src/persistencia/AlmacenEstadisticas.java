@@ -0,0 +1,568 @@
+package persistencia;
+
+import estructuras.ListaArreglo;
+import estructuras.TablaHashAbierta;
+import juego.ResultadoRonda;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+/**
+ * Almacén persistente de estadísticas de jugadores (victorias, derrotas,
+ * empates y saldo) con registro de escritura anticipada (WAL) e instantáneas.
+ *
+ * Cada actualización se aplica en memoria y se anexa a un lote; un hilo
+ * escritor vuelca el lote completo al WAL con un único {@code force} (commit
+ * en grupo), de modo que miles de mesas actualizando a la vez comparten cada
+ * sincronización con el disco. {@link #esperarDurable(long)} permite esperar
+ * a que una actualización concreta sea durable.
+ *
+ * Cada cierto número de registros el escritor guarda una instantánea
+ * compacta de todos los jugadores y empieza un WAL nuevo, así que al
+ * arrancar solo se lee la instantánea y el WAL posterior a ella:
+ *
+ * <pre>
+ *   estadisticas.snap          instantánea (generación, jugadores, CRC32)
+ *   estadisticas-000042.wal    registros posteriores a la instantánea 42
+ * </pre>
+ *
+ * Cada registro del WAL lleva su longitud y su CRC32; al recuperar se
+ * descarta el final cortado por una caída. Se puede usar desde varios hilos.
+ */
+public class AlmacenEstadisticas {
+
+    public static final int REGISTROS_POR_INSTANTANEA_POR_DEFECTO = 100_000;
+
+    private static final String INSTANTANEA = "estadisticas.snap";
+    private static final int MAGIA = 0x424A4553; // "BJES"
+    private static final int VERSION = 1;
+    private static final int CABECERA_REGISTRO = 8;
+    // Tipos de registro: el ordinal de un ResultadoRonda o un ajuste de saldo
+    private static final byte TIPO_AJUSTE = 127;
+    private static final int MAX_BYTES_NOMBRE = 255;
+    private static final int TAMAÑO_LOTE_INICIAL = 64 * 1024;
+    private static final ResultadoRonda[] RESULTADOS = ResultadoRonda.values();
+
+    private final Path directorio;
+    private final int registrosPorInstantanea;
+
+    private final ReentrantLock cerrojo = new ReentrantLock();
+    private final Condition hayDatos = cerrojo.newCondition();
+    private final Condition confirmado = cerrojo.newCondition();
+
+    // Estado protegido por el cerrojo
+    private final TablaHashAbierta<String, EstadisticasJugador> jugadores = new TablaHashAbierta<>();
+    private final ListaArreglo<EstadisticasJugador> ordenJugadores = new ListaArreglo<>();
+    private final CRC32 crc = new CRC32();
+    private ByteBuffer lote = ByteBuffer.allocate(TAMAÑO_LOTE_INICIAL);
+    private ByteBuffer reserva = ByteBuffer.allocate(TAMAÑO_LOTE_INICIAL);
+    private long secuencia;
+    private long secuenciaDurable;
+    private int registrosDesdeInstantanea;
+    private long commits;
+    private boolean cerrado;
+    private IOException error;
+
+    // Solo los usa el hilo escritor (y el constructor antes de arrancarlo)
+    private FileChannel wal;
+    private volatile long generacion;
+
+    private final Thread escritor;
+
+    /**
+     * Constructor con una instantánea cada 100.000 registros.
+     *
+     * @param directorio El directorio del almacén (se crea si no existe).
+     * @throws IOException si no se puede recuperar el estado guardado.
+     */
+    public AlmacenEstadisticas(Path directorio) throws IOException {
+        this(directorio, REGISTROS_POR_INSTANTANEA_POR_DEFECTO);
+    }
+
+    /**
+     * Constructor del almacén. Recupera la última instantánea y los registros
+     * posteriores antes de devolver el control.
+     *
+     * @param directorio              El directorio del almacén (se crea si no existe).
+     * @param registrosPorInstantanea Registros del WAL entre instantáneas.
+     * @throws IOException si no se puede recuperar el estado guardado.
+     */
+    public AlmacenEstadisticas(Path directorio, int registrosPorInstantanea) throws IOException {
+        if (registrosPorInstantanea < 1) {
+            throw new IllegalArgumentException("Los registros por instantánea deben ser positivos: "
+                    + registrosPorInstantanea);
+        }
+        this.directorio = directorio;
+        this.registrosPorInstantanea = registrosPorInstantanea;
+        Files.createDirectories(directorio);
+        recuperar();
+
+        escritor = new Thread(this::escribirLotes, "almacen-estadisticas");
+        escritor.setDaemon(true);
+        escritor.start();
+    }
+
+    /**
+     * Registra el resultado de una mano de un jugador (apuesta de una unidad).
+     * No espera al disco: la actualización será durable en el próximo commit.
+     * Complejidad: O(1) en promedio.
+     *
+     * @param nombre    El nombre del jugador.
+     * @param resultado El resultado de la mano.
+     * @return La secuencia de la actualización, para {@link #esperarDurable(long)}.
+     */
+    public long registrar(String nombre, ResultadoRonda resultado) {
+        if (resultado == null) {
+            throw new IllegalArgumentException("El resultado no puede ser null");
+        }
+        cerrojo.lock();
+        try {
+            EstadisticasJugador jugador = jugadorParaEscribir(nombre);
+            jugador.aplicar(resultado);
+            return anexar((byte) resultado.ordinal(), resultado.getPagoMedias(), jugador);
+        } finally {
+            cerrojo.unlock();
+        }
+    }
+
+    /**
+     * Suma (o resta) saldo a un jugador, por ejemplo por un depósito.
+     *
+     * @param nombre El nombre del jugador.
+     * @param medias El ajuste en medias unidades de apuesta.
+     * @return La secuencia de la actualización, para {@link #esperarDurable(long)}.
+     */
+    public long ajustarSaldo(String nombre, long medias) {
+        cerrojo.lock();
+        try {
+            EstadisticasJugador jugador = jugadorParaEscribir(nombre);
+            jugador.ajustarSaldo(medias);
+            return anexar(TIPO_AJUSTE, medias, jugador);
+        } finally {
+            cerrojo.unlock();
+        }
+    }
+
+    private EstadisticasJugador jugadorParaEscribir(String nombre) {
+        if (nombre == null) {
+            throw new IllegalArgumentException("El nombre del jugador no puede ser null");
+        }
+        if (error != null) {
+            throw new UncheckedIOException("El almacén de estadísticas dejó de escribir", error);
+        }
+        if (cerrado) {
+            throw new IllegalStateException("El almacén de estadísticas está cerrado");
+        }
+        EstadisticasJugador jugador = jugadores.obtener(nombre);
+        if (jugador == null) {
+            jugador = new EstadisticasJugador(nombre);
+            if (jugador.nombreCodificado.length > MAX_BYTES_NOMBRE) {
+                throw new IllegalArgumentException("Nombre de jugador demasiado largo: " + nombre);
+            }
+            jugadores.insertar(nombre, jugador);
+            ordenJugadores.agregar(jugador);
+        }
+        return jugador;
+    }
+
+    /**
+     * Anexa un registro al lote en curso y avisa al escritor.
+     * Formato: longitud, CRC32 y contenido (tipo, valor, nombre).
+     */
+    private long anexar(byte tipo, long valor, EstadisticasJugador jugador) {
+        int longitud = 1 + Long.BYTES + 1 + jugador.nombreCodificado.length;
+        if (lote.remaining() < CABECERA_REGISTRO + longitud) {
+            ByteBuffer mayor = ByteBuffer.allocate(Math.max(lote.capacity() * 2, CABECERA_REGISTRO + longitud));
+            lote.flip();
+            mayor.put(lote);
+            lote = mayor;
+        }
+        int inicio = lote.position();
+        lote.putInt(longitud);
+        lote.putInt(0);
+        lote.put(tipo);
+        lote.putLong(valor);
+        lote.put((byte) jugador.nombreCodificado.length);
+        lote.put(jugador.nombreCodificado);
+        crc.reset();
+        crc.update(lote.array(), inicio + CABECERA_REGISTRO, longitud);
+        lote.putInt(inicio + Integer.BYTES, (int) crc.getValue());
+
+        registrosDesdeInstantanea++;
+        secuencia++;
+        hayDatos.signal();
+        return secuencia;
+    }
+
+    /**
+     * Bucle del hilo escritor: toma el lote acumulado, lo escribe con un solo
+     * force y, cuando toca, guarda una instantánea y empieza un WAL nuevo.
+     */
+    private void escribirLotes() {
+        while (true) {
+            ByteBuffer aEscribir;
+            long hasta;
+            EstadisticasJugador[] instantanea = null;
+            boolean terminar;
+
+            cerrojo.lock();
+            try {
+                while (lote.position() == 0 && !cerrado) {
+                    hayDatos.awaitUninterruptibly();
+                }
+                aEscribir = lote;
+                lote = reserva;
+                reserva = null;
+                hasta = secuencia;
+                terminar = cerrado;
+                // Al cerrar se guarda una instantánea para que el próximo arranque sea inmediato
+                if (registrosDesdeInstantanea >= registrosPorInstantanea
+                        || (terminar && registrosDesdeInstantanea > 0)) {
+                    instantanea = copiarJugadores();
+                    registrosDesdeInstantanea = 0;
+                }
+            } finally {
+                cerrojo.unlock();
+            }
+
+            IOException fallo = null;
+            try {
+                aEscribir.flip();
+                while (aEscribir.hasRemaining()) {
+                    wal.write(aEscribir);
+                }
+                wal.force(false);
+                if (instantanea != null) {
+                    rotar(instantanea);
+                }
+                if (terminar) {
+                    wal.close();
+                }
+            } catch (IOException e) {
+                fallo = e;
+            }
+
+            cerrojo.lock();
+            try {
+                aEscribir.clear();
+                reserva = aEscribir;
+                if (fallo != null) {
+                    error = fallo;
+                } else {
+                    secuenciaDurable = hasta;
+                    commits++;
+                }
+                confirmado.signalAll();
+                if (terminar || fallo != null) {
+                    return;
+                }
+            } finally {
+                cerrojo.unlock();
+            }
+        }
+    }
+
+    private EstadisticasJugador[] copiarJugadores() {
+        EstadisticasJugador[] copia = new EstadisticasJugador[ordenJugadores.tamaño()];
+        for (int i = 0; i < copia.length; i++) {
+            copia[i] = ordenJugadores.obtenerElemento(i).copiar();
+        }
+        return copia;
+    }
+
+    /**
+     * Empieza el WAL de la generación siguiente, guarda la instantánea que lo
+     * precede y borra los WAL anteriores. Si el proceso cae a mitad, la
+     * recuperación vuelve a aplicar los WAL que sigan en el directorio.
+     */
+    private void rotar(EstadisticasJugador[] instantanea) throws IOException {
+        FileChannel anterior = wal;
+        generacion++;
+        wal = abrirWal(generacion);
+        anterior.close();
+        guardarInstantanea(instantanea, generacion);
+        borrarWalAnteriores(generacion);
+    }
+
+    private void guardarInstantanea(EstadisticasJugador[] instantanea, long generacion) throws IOException {
+        int tamaño = Integer.BYTES * 3 + Long.BYTES + Integer.BYTES;
+        for (EstadisticasJugador jugador : instantanea) {
+            tamaño += 1 + jugador.nombreCodificado.length + Long.BYTES * 5;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(tamaño);
+        buffer.putInt(MAGIA);
+        buffer.putInt(VERSION);
+        buffer.putLong(generacion);
+        buffer.putInt(instantanea.length);
+        for (EstadisticasJugador jugador : instantanea) {
+            buffer.put((byte) jugador.nombreCodificado.length);
+            buffer.put(jugador.nombreCodificado);
+            buffer.putLong(jugador.getVictorias());
+            buffer.putLong(jugador.getBlackjacks());
+            buffer.putLong(jugador.getDerrotas());
+            buffer.putLong(jugador.getEmpates());
+            buffer.putLong(jugador.getSaldoMedias());
+        }
+        CRC32 crcInstantanea = new CRC32();
+        crcInstantanea.update(buffer.array(), 0, buffer.position());
+        buffer.putInt((int) crcInstantanea.getValue());
+        buffer.flip();
+
+        // Se escribe aparte y se renombra: la instantánea anterior sigue válida hasta el final
+        Path temporal = directorio.resolve(INSTANTANEA + ".tmp");
+        try (FileChannel canal = FileChannel.open(temporal, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                canal.write(buffer);
+            }
+            canal.force(true);
+        }
+        Files.move(temporal, directorio.resolve(INSTANTANEA), StandardCopyOption.ATOMIC_MOVE,
+                StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * Carga la instantánea y vuelve a aplicar los WAL posteriores.
+     */
+    private void recuperar() throws IOException {
+        Path rutaInstantanea = directorio.resolve(INSTANTANEA);
+        generacion = 0;
+        if (Files.exists(rutaInstantanea)) {
+            generacion = cargarInstantanea(rutaInstantanea);
+        }
+        borrarWalAnteriores(generacion);
+
+        long ultima = generacion;
+        while (Files.exists(rutaWal(ultima + 1))) {
+            ultima++;
+        }
+        for (long g = generacion; g <= ultima; g++) {
+            if (Files.exists(rutaWal(g))) {
+                registrosDesdeInstantanea += aplicarWal(rutaWal(g));
+            }
+        }
+        generacion = ultima;
+        wal = abrirWal(generacion);
+    }
+
+    private long cargarInstantanea(Path ruta) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(ruta));
+        int finDatos = buffer.limit() - Integer.BYTES;
+        CRC32 crcInstantanea = new CRC32();
+        if (finDatos < Integer.BYTES * 3 + Long.BYTES) {
+            throw new IOException("Instantánea incompleta: " + ruta);
+        }
+        crcInstantanea.update(buffer.array(), 0, finDatos);
+        if (buffer.getInt(0) != MAGIA || buffer.getInt(Integer.BYTES) != VERSION
+                || buffer.getInt(finDatos) != (int) crcInstantanea.getValue()) {
+            throw new IOException("La instantánea " + ruta + " no es válida");
+        }
+
+        buffer.position(Integer.BYTES * 2);
+        long generacionGuardada = buffer.getLong();
+        int total = buffer.getInt();
+        for (int i = 0; i < total; i++) {
+            byte[] nombre = new byte[buffer.get() & 0xFF];
+            buffer.get(nombre);
+            EstadisticasJugador jugador = new EstadisticasJugador(new String(nombre, StandardCharsets.UTF_8));
+            jugador.restaurar(buffer.getLong(), buffer.getLong(), buffer.getLong(), buffer.getLong(),
+                    buffer.getLong());
+            jugadores.insertar(jugador.getNombre(), jugador);
+            ordenJugadores.agregar(jugador);
+        }
+        return generacionGuardada;
+    }
+
+    /**
+     * Aplica los registros válidos de un WAL y recorta el final cortado.
+     *
+     * @return El número de registros aplicados.
+     */
+    private int aplicarWal(Path ruta) throws IOException {
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(ruta));
+        int aplicados = 0;
+        int posicion = 0;
+        while (buffer.limit() - posicion >= CABECERA_REGISTRO) {
+            int longitud = buffer.getInt(posicion);
+            int inicio = posicion + CABECERA_REGISTRO;
+            if (longitud < 1 + Long.BYTES + 1 || longitud > buffer.limit() - inicio) {
+                break;
+            }
+            crc.reset();
+            crc.update(buffer.array(), inicio, longitud);
+            if ((int) crc.getValue() != buffer.getInt(posicion + Integer.BYTES)) {
+                break;
+            }
+
+            buffer.position(inicio);
+            byte tipo = buffer.get();
+            long valor = buffer.getLong();
+            byte[] nombre = new byte[buffer.get() & 0xFF];
+            buffer.get(nombre);
+            EstadisticasJugador jugador = jugadorParaEscribir(new String(nombre, StandardCharsets.UTF_8));
+            if (tipo == TIPO_AJUSTE) {
+                jugador.ajustarSaldo(valor);
+            } else {
+                jugador.aplicar(RESULTADOS[tipo]);
+            }
+            aplicados++;
+            posicion = inicio + longitud;
+        }
+
+        if (posicion < buffer.limit()) {
+            try (FileChannel canal = FileChannel.open(ruta, StandardOpenOption.WRITE)) {
+                canal.truncate(posicion);
+                canal.force(true);
+            }
+        }
+        return aplicados;
+    }
+
+    private FileChannel abrirWal(long generacion) throws IOException {
+        FileChannel canal = FileChannel.open(rutaWal(generacion), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE);
+        canal.position(canal.size());
+        return canal;
+    }
+
+    private void borrarWalAnteriores(long generacion) throws IOException {
+        for (long g = generacion - 1; g >= 0 && Files.deleteIfExists(rutaWal(g)); g--) {
+            // Se borra hacia atrás hasta el primero que ya no existe
+        }
+    }
+
+    private Path rutaWal(long generacion) {
+        return directorio.resolve(String.format("estadisticas-%06d.wal", generacion));
+    }
+
+    /**
+     * Espera a que una actualización esté escrita y sincronizada en disco.
+     *
+     * @param secuencia La secuencia devuelta al registrarla.
+     * @throws IOException si el escritor falló antes de confirmarla.
+     */
+    public void esperarDurable(long secuencia) throws IOException {
+        cerrojo.lock();
+        try {
+            while (secuenciaDurable < secuencia && error == null) {
+                confirmado.awaitUninterruptibly();
+            }
+            if (secuenciaDurable < secuencia) {
+                throw error;
+            }
+        } finally {
+            cerrojo.unlock();
+        }
+    }
+
+    /**
+     * Espera a que todas las actualizaciones registradas hasta ahora sean
+     * durables.
+     *
+     * @throws IOException si el escritor falló.
+     */
+    public void sincronizar() throws IOException {
+        long ultima;
+        cerrojo.lock();
+        try {
+            ultima = secuencia;
+        } finally {
+            cerrojo.unlock();
+        }
+        esperarDurable(ultima);
+    }
+
+    /**
+     * Obtiene las estadísticas de un jugador.
+     * Complejidad: O(1) en promedio.
+     *
+     * @param nombre El nombre del jugador.
+     * @return Una copia de sus estadísticas o null si no tiene registros.
+     */
+    public EstadisticasJugador obtener(String nombre) {
+        cerrojo.lock();
+        try {
+            EstadisticasJugador jugador = jugadores.obtener(nombre);
+            return jugador != null ? jugador.copiar() : null;
+        } finally {
+            cerrojo.unlock();
+        }
+    }
+
+    /**
+     * Escribe lo pendiente, guarda una instantánea final y detiene el escritor.
+     *
+     * @throws IOException si falló la última escritura.
+     */
+    public void cerrar() throws IOException {
+        cerrojo.lock();
+        try {
+            cerrado = true;
+            hayDatos.signal();
+        } finally {
+            cerrojo.unlock();
+        }
+        try {
+            escritor.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        cerrojo.lock();
+        try {
+            if (error != null) {
+                throw error;
+            }
+        } finally {
+            cerrojo.unlock();
+        }
+    }
+
+    /**
+     * Obtiene el número de commits (sincronizaciones del WAL) hechos.
+     *
+     * @return Los commits; con mucha carga, muy inferior a las actualizaciones.
+     */
+    public long getCommits() {
+        cerrojo.lock();
+        try {
+            return commits;
+        } finally {
+            cerrojo.unlock();
+        }
+    }
+
+    /**
+     * Obtiene el número de actualizaciones registradas desde el arranque.
+     *
+     * @return Las actualizaciones.
+     */
+    public long getActualizaciones() {
+        cerrojo.lock();
+        try {
+            return secuencia;
+        } finally {
+            cerrojo.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        cerrojo.lock();
+        try {
+            return String.format("AlmacenEstadisticas [%s, %,d jugadores, %,d actualizaciones, %,d commits, generación %d]",
+                    directorio, ordenJugadores.tamaño(), secuencia, commits, generacion);
+        } finally {
+            cerrojo.unlock();
+        }
+    }
+}
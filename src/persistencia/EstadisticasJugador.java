@@ -0,0 +1,117 @@
+package persistencia;
+
+import juego.ResultadoRonda;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Estadísticas acumuladas de un jugador en el {@link AlmacenEstadisticas}:
+ * victorias, derrotas, empates y saldo. El saldo se lleva en medias unidades
+ * de apuesta, como {@link ResultadoRonda#getPagoMedias()}, para acumularlo
+ * con aritmética entera.
+ */
+public final class EstadisticasJugador {
+
+    private final String nombre;
+    // Nombre ya codificado, para escribir el registro sin crear objetos
+    final byte[] nombreCodificado;
+    private long victorias;
+    private long blackjacks;
+    private long derrotas;
+    private long empates;
+    private long saldoMedias;
+
+    EstadisticasJugador(String nombre) {
+        this(nombre, nombre.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private EstadisticasJugador(String nombre, byte[] nombreCodificado) {
+        this.nombre = nombre;
+        this.nombreCodificado = nombreCodificado;
+    }
+
+    /**
+     * Aplica el resultado de una mano jugada con una apuesta de una unidad.
+     */
+    void aplicar(ResultadoRonda resultado) {
+        saldoMedias += resultado.getPagoMedias();
+        switch (resultado) {
+            case BLACKJACK:
+                blackjacks++;
+                victorias++;
+                break;
+            case VICTORIA:
+                victorias++;
+                break;
+            case DERROTA:
+                derrotas++;
+                break;
+            default:
+                empates++;
+        }
+    }
+
+    void ajustarSaldo(long medias) {
+        saldoMedias += medias;
+    }
+
+    void restaurar(long victorias, long blackjacks, long derrotas, long empates, long saldoMedias) {
+        this.victorias = victorias;
+        this.blackjacks = blackjacks;
+        this.derrotas = derrotas;
+        this.empates = empates;
+        this.saldoMedias = saldoMedias;
+    }
+
+    /**
+     * Crea una copia independiente, para entregarla fuera del almacén.
+     */
+    EstadisticasJugador copiar() {
+        EstadisticasJugador copia = new EstadisticasJugador(nombre, nombreCodificado);
+        copia.restaurar(victorias, blackjacks, derrotas, empates, saldoMedias);
+        return copia;
+    }
+
+    public String getNombre() {
+        return nombre;
+    }
+
+    public long getVictorias() {
+        return victorias;
+    }
+
+    public long getBlackjacks() {
+        return blackjacks;
+    }
+
+    public long getDerrotas() {
+        return derrotas;
+    }
+
+    public long getEmpates() {
+        return empates;
+    }
+
+    public long getManos() {
+        return victorias + derrotas + empates;
+    }
+
+    public long getSaldoMedias() {
+        return saldoMedias;
+    }
+
+    /**
+     * Obtiene el saldo acumulado.
+     *
+     * @return El saldo en unidades de apuesta (un Blackjack suma 1.5).
+     */
+    public double getSaldo() {
+        return saldoMedias / 2.0;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %,d manos, %,d victorias (%,d Blackjack), %,d derrotas, %,d empates, saldo %+,.1f",
+                nombre, getManos(), victorias, blackjacks, derrotas, empates, getSaldo());
+    }
+}
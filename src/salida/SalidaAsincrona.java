@@ -0,0 +1,199 @@
+package salida;
+
+import estructuras.ColaCircular;
+import estructuras.PilaConcurrente;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Salida que entrega los mensajes a un hilo escritor en segundo plano.
+ *
+ * Los hilos del juego solo encolan cada mensaje en una {@link ColaCircular}
+ * de varios productores y siguen jugando; el hilo escritor los pasa en orden
+ * a la salida de destino (por ejemplo un {@link SalidaBuffer}) y la vacía
+ * cuando la cola queda vacía. Si la cola se llena, quien escribe espera a que
+ * haya espacio: no se pierden mensajes.
+ *
+ * Se puede usar desde varios hilos a la vez; los mensajes de un mismo hilo
+ * conservan su orden. Los hilos que esperan (cola llena o vaciar()) se
+ * duermen y el escritor los despierta al publicar su avance, sin esperas
+ * activas.
+ */
+public class SalidaAsincrona implements SalidaJuego {
+
+    private static final int CAPACIDAD_POR_DEFECTO = 4096;
+    private static final String SALTO_LINEA = System.lineSeparator();
+
+    // Espera del escritor cuando no hay mensajes, en nanosegundos; también es
+    // la espera máxima de un hilo dormido antes de volver a comprobar
+    private static final long ESPERA_INACTIVO = 1_000_000;
+    // Mensajes escritos entre publicaciones del avance mientras la cola no se vacía
+    private static final int LOTE_PUBLICACION = 64;
+
+    private final SalidaJuego destino;
+    private final ColaCircular<String> cola;
+    private final Thread escritor;
+    private final AtomicLong encolados = new AtomicLong();
+    // Hilos dormidos hasta el siguiente avance del escritor
+    private final PilaConcurrente<Thread> esperando = new PilaConcurrente<>();
+    private volatile long escritos;
+    private volatile boolean activa = true;
+
+    /**
+     * Constructor con la capacidad por defecto.
+     *
+     * @param destino La salida donde escribe el hilo de fondo.
+     */
+    public SalidaAsincrona(SalidaJuego destino) {
+        this(destino, CAPACIDAD_POR_DEFECTO);
+    }
+
+    /**
+     * Constructor de la salida.
+     *
+     * @param destino   La salida donde escribe el hilo de fondo. Solo la usa
+     *                  ese hilo, así que no necesita ser segura para hilos.
+     * @param capacidad Número máximo de mensajes pendientes.
+     */
+    public SalidaAsincrona(SalidaJuego destino, int capacidad) {
+        if (destino == null) {
+            throw new IllegalArgumentException("El destino no puede ser null");
+        }
+        this.destino = destino;
+        this.cola = ColaCircular.variosProductores(capacidad);
+        this.escritor = new Thread(this::escribirPendientes, "salida-asincrona");
+        this.escritor.setDaemon(true);
+        this.escritor.start();
+    }
+
+    @Override
+    public void imprimir(String texto) {
+        encolar(texto);
+    }
+
+    @Override
+    public void imprimirLinea(String texto) {
+        encolar(texto + SALTO_LINEA);
+    }
+
+    private void encolar(String texto) {
+        // Se cuenta antes de mirar activa: el escritor no termina mientras
+        // falte escribir algún mensaje contado, así que ninguno se pierde
+        encolados.incrementAndGet();
+        if (!activa) {
+            encolados.decrementAndGet();
+            throw new IllegalStateException("La salida asíncrona está cerrada");
+        }
+        while (!cola.encolar(texto)) {
+            if (!escritor.isAlive()) {
+                encolados.decrementAndGet();
+                throw new IllegalStateException("El hilo escritor de la salida asíncrona terminó");
+            }
+            // Cola llena: se registra, vuelve a intentar (por si el escritor
+            // liberó espacio entre medias) y se duerme hasta que lo libere
+            esperando.apilar(Thread.currentThread());
+            LockSupport.unpark(escritor);
+            if (cola.encolar(texto)) {
+                return;
+            }
+            LockSupport.parkNanos(this, ESPERA_INACTIVO);
+        }
+    }
+
+    /**
+     * Espera a que el hilo escritor haya escrito y vaciado todo lo encolado
+     * hasta ahora.
+     */
+    @Override
+    public void vaciar() {
+        long objetivo = encolados.get();
+        while (escritos < objetivo && escritor.isAlive()) {
+            // Se registra antes de volver a mirar: si el escritor publica
+            // entre medias, la nueva comprobación ya ve su avance
+            esperando.apilar(Thread.currentThread());
+            LockSupport.unpark(escritor);
+            if (escritos >= objetivo) {
+                return;
+            }
+            LockSupport.parkNanos(this, ESPERA_INACTIVO);
+        }
+    }
+
+    /**
+     * Escribe lo pendiente, detiene el hilo escritor y cierra el destino.
+     * Los mensajes de los hilos que ya pasaron la comprobación de activa
+     * también se escriben: el escritor sigue hasta haber escrito todos los
+     * mensajes contados.
+     */
+    @Override
+    public void cerrar() {
+        vaciar();
+        activa = false;
+        LockSupport.unpark(escritor);
+        try {
+            escritor.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Bucle del hilo escritor. Publica su avance y despierta a quienes
+     * esperan cada vez que la cola se vacía y, si hay alguien esperando, cada
+     * {@link #LOTE_PUBLICACION} mensajes, para que vaciar() no dependa de que
+     * los productores dejen de escribir.
+     */
+    private void escribirPendientes() {
+        long escritosLocal = 0;
+        try {
+            while (true) {
+                String texto = cola.desencolar();
+                if (texto != null) {
+                    destino.imprimir(texto);
+                    escritosLocal++;
+                    if (escritosLocal % LOTE_PUBLICACION == 0 && !esperando.estaVacia()) {
+                        publicar(escritosLocal);
+                    }
+                    continue;
+                }
+
+                // Cola vacía: se vacía el destino y se publica el avance
+                publicar(escritosLocal);
+                if (!activa && escritosLocal == encolados.get()) {
+                    destino.cerrar();
+                    return;
+                }
+                LockSupport.parkNanos(this, ESPERA_INACTIVO);
+            }
+        } finally {
+            despertarEsperando();
+        }
+    }
+
+    /**
+     * Vacía el destino, publica los mensajes escritos y despierta a los
+     * hilos que esperan.
+     */
+    private void publicar(long escritosLocal) {
+        destino.vaciar();
+        escritos = escritosLocal;
+        despertarEsperando();
+    }
+
+    private void despertarEsperando() {
+        Thread hilo;
+        while ((hilo = esperando.desapilar()) != null) {
+            LockSupport.unpark(hilo);
+        }
+    }
+
+    /**
+     * Obtiene el número de mensajes pendientes de escribir.
+     *
+     * @return Los mensajes en la cola.
+     */
+    public int pendientes() {
+        return cola.tamaño();
+    }
+}
@@ -0,0 +1,72 @@
+package salida;
+
+import java.io.PrintStream;
+
+/**
+ * Salida que acumula los mensajes en memoria y los escribe por lotes.
+ * El texto se envía al destino cuando el búfer supera su capacidad o al
+ * llamar a {@link #vaciar()}, así que muchos mensajes cuestan una sola
+ * escritura. Quien lee del jugador debe vaciar antes de esperar su respuesta.
+ *
+ * No es segura para hilos.
+ */
+public class SalidaBuffer implements SalidaJuego {
+
+    private static final int CAPACIDAD_POR_DEFECTO = 8 * 1024;
+
+    private final PrintStream destino;
+    private final StringBuilder buffer;
+    private final int capacidad;
+
+    /**
+     * Constructor con la capacidad por defecto (8 KB de texto).
+     *
+     * @param destino El flujo donde se escriben los lotes.
+     */
+    public SalidaBuffer(PrintStream destino) {
+        this(destino, CAPACIDAD_POR_DEFECTO);
+    }
+
+    /**
+     * Constructor de la salida.
+     *
+     * @param destino   El flujo donde se escriben los lotes.
+     * @param capacidad Número de caracteres acumulados antes de escribir.
+     */
+    public SalidaBuffer(PrintStream destino, int capacidad) {
+        if (destino == null) {
+            throw new IllegalArgumentException("El destino no puede ser null");
+        }
+        if (capacidad < 1) {
+            throw new IllegalArgumentException("La capacidad debe ser positiva: " + capacidad);
+        }
+        this.destino = destino;
+        this.capacidad = capacidad;
+        this.buffer = new StringBuilder(capacidad + 256);
+    }
+
+    @Override
+    public void imprimir(String texto) {
+        buffer.append(texto);
+        if (buffer.length() >= capacidad) {
+            vaciar();
+        }
+    }
+
+    @Override
+    public void imprimirLinea(String texto) {
+        buffer.append(texto).append(System.lineSeparator());
+        if (buffer.length() >= capacidad) {
+            vaciar();
+        }
+    }
+
+    @Override
+    public void vaciar() {
+        if (buffer.length() > 0) {
+            destino.append(buffer);
+            buffer.setLength(0);
+        }
+        destino.flush();
+    }
+}
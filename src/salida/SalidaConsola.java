@@ -0,0 +1,42 @@
+package salida;
+
+import java.io.PrintStream;
+
+/**
+ * Salida directa a un flujo de texto, por defecto la consola estándar.
+ * Cada mensaje se escribe en el momento.
+ */
+public class SalidaConsola implements SalidaJuego {
+
+    /** Salida compartida sobre {@code System.out}. */
+    public static final SalidaConsola ESTANDAR = new SalidaConsola(System.out);
+
+    private final PrintStream destino;
+
+    /**
+     * Constructor de la salida.
+     *
+     * @param destino El flujo donde se escribe.
+     */
+    public SalidaConsola(PrintStream destino) {
+        if (destino == null) {
+            throw new IllegalArgumentException("El destino no puede ser null");
+        }
+        this.destino = destino;
+    }
+
+    @Override
+    public void imprimir(String texto) {
+        destino.print(texto);
+    }
+
+    @Override
+    public void imprimirLinea(String texto) {
+        destino.println(texto);
+    }
+
+    @Override
+    public void vaciar() {
+        destino.flush();
+    }
+}
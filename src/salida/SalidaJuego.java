@@ -0,0 +1,50 @@
+package salida;
+
+/**
+ * Destino de los mensajes del juego: turnos, cartas, decisiones y resultados.
+ *
+ * Separa la lógica del juego de la consola para elegir, según el uso, entre
+ * escribir en pantalla ({@link SalidaConsola}), acumular y escribir por lotes
+ * ({@link SalidaBuffer}), escribir desde un hilo propio
+ * ({@link SalidaAsincrona}) o descartar todo ({@link SalidaNula}).
+ */
+public interface SalidaJuego {
+
+    /**
+     * Escribe un texto sin salto de línea.
+     *
+     * @param texto El texto a escribir.
+     */
+    void imprimir(String texto);
+
+    /**
+     * Escribe un texto seguido de un salto de línea.
+     *
+     * @param texto El texto a escribir.
+     */
+    void imprimirLinea(String texto);
+
+    /**
+     * Indica si la salida descarta todo lo que recibe. Quien escribe puede
+     * consultarlo para no construir mensajes que nadie va a leer.
+     *
+     * @return true si los mensajes se descartan; por defecto false.
+     */
+    default boolean descarta() {
+        return false;
+    }
+
+    /**
+     * Garantiza que todo lo escrito hasta ahora llegó a su destino.
+     * Las salidas sin búfer no hacen nada.
+     */
+    default void vaciar() {
+    }
+
+    /**
+     * Vacía la salida y libera sus recursos.
+     */
+    default void cerrar() {
+        vaciar();
+    }
+}
@@ -0,0 +1,29 @@
+package salida;
+
+/**
+ * Salida silenciosa: descarta todos los mensajes. Para simulaciones y
+ * pruebas de rendimiento donde la consola sería el cuello de botella.
+ */
+public final class SalidaNula implements SalidaJuego {
+
+    /** Única instancia: no guarda estado. */
+    public static final SalidaNula INSTANCIA = new SalidaNula();
+
+    private SalidaNula() {
+    }
+
+    @Override
+    public boolean descarta() {
+        return true;
+    }
+
+    @Override
+    public void imprimir(String texto) {
+        // Se descarta
+    }
+
+    @Override
+    public void imprimirLinea(String texto) {
+        // Se descarta
+    }
+}
@@ -0,0 +1,150 @@
+package servidor;
+
+import juego.Consola;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Consola de una mesa sobre una conexión TCP con protocolo de líneas de texto.
+ *
+ * La salida se acumula en un búfer y se envía de una vez justo antes de
+ * esperar la siguiente línea del jugador, así que cada respuesta viaja en un
+ * solo envío. Cada acción del jugador tiene un tiempo de espera máximo; si se
+ * agota, {@link #leerLinea()} devuelve null como si la entrada se cerrara.
+ *
+ * También mide la latencia de la mesa: el tiempo desde que llega una línea
+ * del jugador hasta que su respuesta completa sale por la red.
+ */
+public class ConsolaSocket implements Consola {
+
+    private final Socket socket;
+    private final BufferedReader entrada;
+    private final PrintWriter salida;
+
+    private long inicioAccion = -1;
+    private long acciones;
+    private long nanosTotales;
+    private long nanosMaximo;
+    private boolean tiempoAgotado;
+
+    /**
+     * Constructor de la consola.
+     *
+     * @param socket         La conexión con el jugador.
+     * @param tiempoEsperaMs Tiempo máximo de espera por cada línea, en milisegundos.
+     * @throws IOException si no se pueden abrir los flujos de la conexión.
+     */
+    public ConsolaSocket(Socket socket, int tiempoEsperaMs) throws IOException {
+        if (tiempoEsperaMs < 1) {
+            throw new IllegalArgumentException("El tiempo de espera debe ser positivo: " + tiempoEsperaMs);
+        }
+        this.socket = socket;
+        socket.setSoTimeout(tiempoEsperaMs);
+        socket.setTcpNoDelay(true);
+        this.entrada = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        this.salida = new PrintWriter(new BufferedWriter(
+                new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8)), false);
+    }
+
+    @Override
+    public String leerLinea() {
+        enviar();
+        if (tiempoAgotado) {
+            return null;
+        }
+        try {
+            String linea = entrada.readLine();
+            if (linea != null) {
+                inicioAccion = System.nanoTime();
+            }
+            return linea;
+        } catch (SocketTimeoutException e) {
+            // Tras un tiempo agotado la mesa se da por abandonada
+            tiempoAgotado = true;
+            return null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    @Override
+    public void imprimir(String texto) {
+        salida.print(texto);
+    }
+
+    @Override
+    public void imprimirLinea(String texto) {
+        salida.print(texto);
+        salida.print('\n');
+    }
+
+    @Override
+    public void vaciar() {
+        salida.flush();
+    }
+
+    @Override
+    public void cerrar() {
+        enviar();
+        try {
+            socket.close();
+        } catch (IOException e) {
+            // La conexión ya estaba cerrada
+        }
+    }
+
+    /**
+     * Envía la salida acumulada y cierra la medición de la acción en curso.
+     */
+    private void enviar() {
+        salida.flush();
+        if (inicioAccion >= 0) {
+            long nanos = System.nanoTime() - inicioAccion;
+            acciones++;
+            nanosTotales += nanos;
+            nanosMaximo = Math.max(nanosMaximo, nanos);
+            inicioAccion = -1;
+        }
+    }
+
+    /**
+     * Indica si la mesa terminó porque el jugador no respondió a tiempo.
+     *
+     * @return true si se agotó el tiempo de espera.
+     */
+    public boolean isTiempoAgotado() {
+        return tiempoAgotado;
+    }
+
+    public long getAcciones() {
+        return acciones;
+    }
+
+    public long getNanosTotales() {
+        return nanosTotales;
+    }
+
+    public long getNanosMaximo() {
+        return nanosMaximo;
+    }
+
+    /**
+     * Muestra la latencia medida en la mesa.
+     *
+     * @return Una representación en cadena de la latencia.
+     */
+    @Override
+    public String toString() {
+        double media = acciones == 0 ? 0.0 : nanosTotales / 1e3 / acciones;
+        return String.format("%d acciones, latencia media %.1f µs, máxima %.1f µs",
+                acciones, media, nanosMaximo / 1e3);
+    }
+}
@@ -0,0 +1,248 @@
+package servidor;
+
+import juego.Blackjack;
+import modelo.ProductorZapatos;
+import persistencia.AlmacenEstadisticas;
+import salida.SalidaAsincrona;
+import salida.SalidaBuffer;
+import salida.SalidaJuego;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Servidor local de mesas de Blackjack sobre TCP.
+ *
+ * Cada conexión es una mesa independiente: su propio {@link Blackjack} con su
+ * zapato, atendido por un hilo propio con pila reducida para poder sostener
+ * miles de mesas a la vez en una sola JVM. El protocolo es de líneas de texto:
+ *
+ * <pre>
+ *   join &lt;nombre&gt;   sentarse a la mesa (primera línea)
+ *   hit | stand       pedir carta o plantarse (también 1 y 2)
+ *   status            ver el estado de la mesa (también 3)
+ *   deal | quit       jugar otra ronda o salir (también 1 y 2)
+ * </pre>
+ *
+ * Al cerrar cada mesa se informa su latencia, y {@link #toString()} resume la
+ * de todas las mesas atendidas. El registro del servidor se escribe por
+ * defecto desde un hilo propio para que las mesas no esperen a la consola, y
+ * los zapatos llegan ya mezclados de un {@link ProductorZapatos} compartido
+ * para que la carta de corte no produzca picos de latencia.
+ */
+public class ServidorBlackjack {
+
+    public static final int PUERTO_POR_DEFECTO = 7021;
+    public static final int TIEMPO_ESPERA_POR_DEFECTO_MS = 60_000;
+    public static final int MAX_MESAS_POR_DEFECTO = 10_000;
+
+    // Pila de cada hilo de mesa: la partida no hace recursión profunda
+    private static final long TAMAÑO_PILA_HILO = 256 * 1024;
+
+    private final int puerto;
+    private final int tiempoEsperaMs;
+    private final int maxMesas;
+    private final SalidaJuego registro;
+
+    private final AtomicInteger mesasActivas = new AtomicInteger();
+    private final AtomicLong siguienteMesa = new AtomicLong();
+    private final LongAdder mesasAtendidas = new LongAdder();
+    private final LongAdder accionesTotales = new LongAdder();
+    private final LongAdder nanosTotales = new LongAdder();
+    private final AtomicLong nanosMaximo = new AtomicLong();
+
+    private volatile AlmacenEstadisticas estadisticas;
+    private volatile ProductorZapatos productorZapatos;
+    private volatile ServerSocket servidor;
+    private volatile boolean activo;
+
+    /**
+     * Constructor con la configuración por defecto.
+     */
+    public ServidorBlackjack() {
+        this(PUERTO_POR_DEFECTO, TIEMPO_ESPERA_POR_DEFECTO_MS, MAX_MESAS_POR_DEFECTO);
+    }
+
+    /**
+     * Constructor del servidor.
+     *
+     * @param puerto         Puerto TCP local (0 para uno libre cualquiera).
+     * @param tiempoEsperaMs Tiempo máximo de espera por cada acción del jugador.
+     * @param maxMesas       Número máximo de mesas simultáneas.
+     */
+    public ServidorBlackjack(int puerto, int tiempoEsperaMs, int maxMesas) {
+        this(puerto, tiempoEsperaMs, maxMesas, new SalidaAsincrona(new SalidaBuffer(System.out)));
+    }
+
+    /**
+     * Constructor del servidor con un destino propio para su registro.
+     *
+     * @param puerto         Puerto TCP local (0 para uno libre cualquiera).
+     * @param tiempoEsperaMs Tiempo máximo de espera por cada acción del jugador.
+     * @param maxMesas       Número máximo de mesas simultáneas.
+     * @param registro       Donde se escriben los mensajes del servidor; debe
+     *                       admitir escrituras desde varios hilos.
+     */
+    public ServidorBlackjack(int puerto, int tiempoEsperaMs, int maxMesas, SalidaJuego registro) {
+        if (registro == null) {
+            throw new IllegalArgumentException("El registro no puede ser null");
+        }
+        if (puerto < 0 || puerto > 65_535) {
+            throw new IllegalArgumentException("Puerto fuera de rango [0,65535]: " + puerto);
+        }
+        if (tiempoEsperaMs < 1) {
+            throw new IllegalArgumentException("El tiempo de espera debe ser positivo: " + tiempoEsperaMs);
+        }
+        if (maxMesas < 1) {
+            throw new IllegalArgumentException("El número de mesas debe ser positivo: " + maxMesas);
+        }
+        this.puerto = puerto;
+        this.tiempoEsperaMs = tiempoEsperaMs;
+        this.maxMesas = maxMesas;
+        this.registro = registro;
+    }
+
+    /**
+     * Guarda las estadísticas de los jugadores de todas las mesas en un
+     * almacén persistente compartido.
+     *
+     * @param estadisticas El almacén de estadísticas, o null para no guardar.
+     */
+    public void setEstadisticas(AlmacenEstadisticas estadisticas) {
+        this.estadisticas = estadisticas;
+    }
+
+    /**
+     * Abre el puerto y atiende conexiones hasta que se llame a {@link #detener()}.
+     * Bloquea el hilo que lo llama.
+     *
+     * @throws IOException si no se puede abrir el puerto.
+     */
+    public void iniciar() throws IOException {
+        servidor = new ServerSocket(puerto, maxMesas, InetAddress.getLoopbackAddress());
+        productorZapatos = new ProductorZapatos(Blackjack.NUMERO_BARAJAS);
+        productorZapatos.iniciar();
+        activo = true;
+        registro.imprimirLinea("Servidor de Blackjack escuchando en " + servidor.getLocalSocketAddress());
+
+        while (activo) {
+            Socket socket;
+            try {
+                socket = servidor.accept();
+            } catch (IOException e) {
+                if (activo) {
+                    registro.imprimirLinea("Error aceptando conexión: " + e.getMessage());
+                }
+                continue;
+            }
+
+            if (mesasActivas.incrementAndGet() > maxMesas) {
+                mesasActivas.decrementAndGet();
+                rechazar(socket);
+                continue;
+            }
+
+            long id = siguienteMesa.incrementAndGet();
+            Thread hilo = new Thread(null, () -> atenderMesa(socket, id), "mesa-" + id, TAMAÑO_PILA_HILO);
+            hilo.setDaemon(true);
+            hilo.start();
+        }
+    }
+
+    /**
+     * Deja de aceptar conexiones y envía el registro pendiente. Las mesas en
+     * curso terminan por su cuenta.
+     */
+    public void detener() {
+        activo = false;
+        registro.vaciar();
+        ServerSocket actual = servidor;
+        if (actual != null) {
+            try {
+                actual.close();
+            } catch (IOException e) {
+                // Ya estaba cerrado
+            }
+        }
+        // Las mesas en curso siguen con su mezcla perezosa
+        ProductorZapatos productor = productorZapatos;
+        if (productor != null) {
+            productor.cerrar();
+        }
+    }
+
+    /**
+     * Juega una mesa completa sobre una conexión y registra su latencia.
+     */
+    private void atenderMesa(Socket socket, long id) {
+        try {
+            ConsolaSocket consola = new ConsolaSocket(socket, tiempoEsperaMs);
+            try {
+                Blackjack mesa = new Blackjack(consola);
+                mesa.setEstadisticas(estadisticas);
+                mesa.setProductorZapatos(productorZapatos);
+                mesa.iniciar();
+            } finally {
+                consola.cerrar();
+                registrarLatencia(consola);
+                registro.imprimirLinea("Mesa #" + id + " cerrada" + (consola.isTiempoAgotado() ? " por tiempo" : "")
+                        + ": " + consola);
+            }
+        } catch (IOException | RuntimeException e) {
+            registro.imprimirLinea("Mesa #" + id + " terminó con error: " + e.getMessage());
+        } finally {
+            mesasActivas.decrementAndGet();
+        }
+    }
+
+    private void registrarLatencia(ConsolaSocket consola) {
+        mesasAtendidas.increment();
+        accionesTotales.add(consola.getAcciones());
+        nanosTotales.add(consola.getNanosTotales());
+        nanosMaximo.accumulateAndGet(consola.getNanosMaximo(), Math::max);
+    }
+
+    private static void rechazar(Socket socket) {
+        try (Socket cerrar = socket) {
+            cerrar.getOutputStream().write("Mesa llena, intenta más tarde.\n".getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            // El cliente ya se fue
+        }
+    }
+
+    /**
+     * Obtiene el puerto en el que escucha el servidor.
+     *
+     * @return El puerto real, útil si se pidió el puerto 0.
+     */
+    public int getPuerto() {
+        ServerSocket actual = servidor;
+        return actual != null ? actual.getLocalPort() : puerto;
+    }
+
+    public int getMesasActivas() {
+        return mesasActivas.get();
+    }
+
+    /**
+     * Resume la latencia de todas las mesas atendidas.
+     *
+     * @return Una representación en cadena de las estadísticas del servidor.
+     */
+    @Override
+    public String toString() {
+        long acciones = accionesTotales.sum();
+        double media = acciones == 0 ? 0.0 : nanosTotales.sum() / 1e3 / acciones;
+        ProductorZapatos productor = productorZapatos;
+        return String.format("Servidor [%d mesas activas, %d atendidas, %d acciones, "
+                        + "latencia media %.1f µs, máxima %.1f µs, zapatos mezclados %d (fallos %d)]",
+                mesasActivas.get(), mesasAtendidas.sum(), acciones, media, nanosMaximo.get() / 1e3,
+                productor != null ? productor.getEntregados() : 0, productor != null ? productor.getFallos() : 0);
+    }
+}